@@ -0,0 +1,280 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Immutable indexes over the regions of one level: by code, all regions sorted by code, and the
+ * children of each parent region sorted by code.
+ *
+ * <p>An index produced by {@link #patch} is an overlay: it holds only the changed regions and the
+ * rebuilt child lists of their parents, and reads everything else from the fully built index it was
+ * derived from. Its sorted list and map views are built on first use.
+ */
+public final class LevelIndex<T> {
+
+  /** Overlays larger than this fraction of the level are rebuilt into a full index. */
+  private static final int COMPACT_RATIO = 8;
+
+  private final Map<String, T> byCode;
+  private final Map<String, List<T>> byParent;
+  private final Function<T, String> code;
+  private final Function<T, String> parentCode;
+  private final LevelIndex<T> root;
+  private final int size;
+  private volatile List<T> sorted;
+  private volatile Map<String, T> merged;
+  private final Map<Object, Object> derived = new ConcurrentHashMap<>();
+
+  private LevelIndex(
+      Map<String, T> byCode,
+      List<T> sorted,
+      Map<String, List<T>> byParent,
+      Function<T, String> code,
+      Function<T, String> parentCode) {
+    this.byCode = byCode;
+    this.sorted = sorted;
+    this.byParent = byParent;
+    this.code = code;
+    this.parentCode = parentCode;
+    this.root = null;
+    this.size = byCode.size();
+    this.merged = byCode;
+  }
+
+  /**
+   * An overlay over {@code root}.
+   *
+   * @param overrides changed regions by code; a {@code null} value marks a removed region
+   * @param childOverrides the complete child lists of every parent with a changed child
+   */
+  private LevelIndex(
+      LevelIndex<T> root, Map<String, T> overrides, Map<String, List<T>> childOverrides, int size) {
+    this.byCode = overrides;
+    this.byParent = childOverrides;
+    this.code = root.code;
+    this.parentCode = root.parentCode;
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * @param parentCode extracts the parent region code, or {@code null} for the top level
+   */
+  static <T> LevelIndex<T> of(
+      Map<String, T> regions, Function<T, String> code, Function<T, String> parentCode) {
+    return of(regions, code, parentCode, null);
+  }
+
+  /**
+   * Builds the index, sharing structure with {@code base} (typically the same level of an earlier
+   * release): regions equal to a region of {@code base} are replaced by that instance, child lists
+   * made only of shared regions are reused, and {@code base} itself is returned when nothing
+   * changed.
+   */
+  static <T> LevelIndex<T> of(
+      Map<String, T> regions,
+      Function<T, String> code,
+      Function<T, String> parentCode,
+      LevelIndex<T> base) {
+    if (base != null) {
+      int shared = 0;
+      for (Map.Entry<String, T> entry : regions.entrySet()) {
+        T previous = base.get(entry.getKey());
+        if (previous != null && previous.equals(entry.getValue())) {
+          entry.setValue(previous);
+          shared++;
+        }
+      }
+      if (shared == regions.size() && shared == base.size()) {
+        return base;
+      }
+    }
+
+    List<T> sorted = new ArrayList<>(regions.values());
+    sorted.sort(Comparator.comparing(code));
+
+    Map<String, List<T>> byParent = new HashMap<>();
+    if (parentCode != null) {
+      for (T region : sorted) {
+        byParent.computeIfAbsent(parentCode.apply(region), key -> new ArrayList<>()).add(region);
+      }
+      byParent.replaceAll(
+          (key, children) -> {
+            List<T> previous = base == null ? null : base.children(key);
+            return sameElements(previous, children) ? previous : List.copyOf(children);
+          });
+    }
+    return new LevelIndex<>(
+        Collections.unmodifiableMap(regions),
+        Collections.unmodifiableList(sorted),
+        Collections.unmodifiableMap(byParent),
+        code,
+        parentCode);
+  }
+
+  /**
+   * Returns a copy of this index with {@code upserts} added or replaced and {@code removals}
+   * removed. Only the changed regions and the child lists of their old and new parents are rebuilt;
+   * every other entry and child list is shared with this index.
+   */
+  LevelIndex<T> patch(Map<String, T> upserts, Set<String> removals) {
+    if (upserts.isEmpty() && removals.isEmpty()) {
+      return this;
+    }
+    LevelIndex<T> base = root == null ? this : root;
+    Map<String, T> overrides = root == null ? new HashMap<>() : new HashMap<>(byCode);
+    Map<String, List<T>> childOverrides = root == null ? new HashMap<>() : new HashMap<>(byParent);
+    Set<String> affectedParents = new HashSet<>();
+    int newSize = size;
+
+    for (String removed : removals) {
+      T previous = get(removed);
+      if (previous != null) {
+        overrides.put(removed, null);
+        newSize--;
+        addParent(affectedParents, previous);
+      }
+    }
+    Map<String, List<T>> addedByParent = new HashMap<>();
+    for (Map.Entry<String, T> upsert : upserts.entrySet()) {
+      T previous = get(upsert.getKey());
+      if (previous == null) {
+        newSize++;
+      } else {
+        addParent(affectedParents, previous);
+      }
+      overrides.put(upsert.getKey(), upsert.getValue());
+      if (parentCode != null) {
+        String parent = parentCode.apply(upsert.getValue());
+        affectedParents.add(parent);
+        addedByParent.computeIfAbsent(parent, key -> new ArrayList<>()).add(upsert.getValue());
+      }
+    }
+
+    for (String parent : affectedParents) {
+      List<T> children = new ArrayList<>(children(parent));
+      children.removeIf(
+          child -> {
+            String childCode = code.apply(child);
+            return removals.contains(childCode) || upserts.containsKey(childCode);
+          });
+      children.addAll(addedByParent.getOrDefault(parent, List.of()));
+      children.sort(Comparator.comparing(code));
+      childOverrides.put(parent, List.copyOf(children));
+    }
+    overrides.entrySet().removeIf(entry -> entry.getValue() == base.byCode.get(entry.getKey()));
+
+    LevelIndex<T> patched = new LevelIndex<>(base, overrides, childOverrides, newSize);
+    if (overrides.size() > base.size() / COMPACT_RATIO) {
+      return of(new HashMap<>(patched.asMap()), code, parentCode, base);
+    }
+    return patched;
+  }
+
+  private void addParent(Set<String> parents, T region) {
+    if (parentCode != null) {
+      parents.add(parentCode.apply(region));
+    }
+  }
+
+  private static <T> boolean sameElements(List<T> previous, List<T> current) {
+    if (previous == null || previous.size() != current.size()) {
+      return false;
+    }
+    for (int i = 0; i < current.size(); i++) {
+      if (previous.get(i) != current.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public T get(String code) {
+    if (code == null) {
+      return null;
+    }
+    if (root != null && !byCode.containsKey(code)) {
+      return root.get(code);
+    }
+    return byCode.get(code);
+  }
+
+  /** All regions of the level, sorted by code. */
+  public List<T> all() {
+    List<T> all = sorted;
+    if (all == null) {
+      List<T> merging = new ArrayList<>(size);
+      for (T region : root.sorted) {
+        if (!byCode.containsKey(code.apply(region))) {
+          merging.add(region);
+        }
+      }
+      for (T region : byCode.values()) {
+        if (region != null) {
+          merging.add(region);
+        }
+      }
+      merging.sort(Comparator.comparing(code));
+      all = Collections.unmodifiableList(merging);
+      sorted = all;
+    }
+    return all;
+  }
+
+  /** The regions whose parent has the given code, sorted by code; empty if there are none. */
+  public List<T> children(String parentCode) {
+    if (parentCode == null) {
+      return List.of();
+    }
+    List<T> children = byParent.get(parentCode);
+    if (children == null && root != null) {
+      return root.children(parentCode);
+    }
+    return children == null ? List.of() : children;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the secondary index that {@code factory} builds from this level, building it on first
+   * use and keeping it as long as this index, so every caller of one dataset snapshot shares it.
+   * The factory is the cache key, so it should be a constant.
+   */
+  @SuppressWarnings("unchecked")
+  public <V> V derived(Function<? super LevelIndex<T>, V> factory) {
+    Object value = derived.get(factory);
+    if (value == null) {
+      value = factory.apply(this);
+      Object raced = derived.putIfAbsent(factory, value);
+      if (raced != null) {
+        value = raced;
+      }
+    }
+    return (V) value;
+  }
+
+  public Map<String, T> asMap() {
+    Map<String, T> map = merged;
+    if (map == null) {
+      Map<String, T> merging = new LinkedHashMap<>();
+      for (T region : all()) {
+        merging.put(code.apply(region), region);
+      }
+      map = Collections.unmodifiableMap(merging);
+      merged = map;
+    }
+    return map;
+  }
+}
@@ -0,0 +1,52 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** One entry of a {@link RegionDelta}. */
+@Data
+@AllArgsConstructor
+public class RegionChange {
+
+  public enum Type {
+    /** A new region; parent code, name and coordinates are required. */
+    ADD,
+    /** Removes a region together with every region below it. */
+    REMOVE,
+    /** Gives an existing region a new name; everything else is kept. */
+    RENAME
+  }
+
+  private Type type;
+
+  private RegionLevel level;
+
+  private String code;
+
+  private String parentCode;
+
+  private String name;
+
+  private Double latitude;
+
+  private Double longitude;
+
+  public static RegionChange add(
+      RegionLevel level,
+      String code,
+      String parentCode,
+      String name,
+      double latitude,
+      double longitude) {
+    return new RegionChange(Type.ADD, level, code, parentCode, name, latitude, longitude);
+  }
+
+  public static RegionChange remove(RegionLevel level, String code) {
+    return new RegionChange(Type.REMOVE, level, code, null, null, null, null);
+  }
+
+  public static RegionChange rename(RegionLevel level, String code, String name) {
+    return new RegionChange(Type.RENAME, level, code, null, name, null, null);
+  }
+}
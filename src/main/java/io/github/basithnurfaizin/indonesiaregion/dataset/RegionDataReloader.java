@@ -0,0 +1,221 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import io.github.basithnurfaizin.indonesiaregion.loader.ProvinceSlice;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Serves a {@link RegionDataset} loaded from an external directory laid out like {@code
+ * src/main/resources/data}, and replaces it when the files change.
+ *
+ * <p>Each reload builds a complete new dataset, indexes included, on a background thread and then
+ * publishes it with a single volatile write. Readers never block: a query that already holds the
+ * previous snapshot finishes on it, and the next query sees the new one. A reload that fails or
+ * produces an empty level keeps the current snapshot.
+ *
+ * <pre>{@code
+ * RegionDataReloader reloader = new RegionDataReloader(Path.of("/etc/regions")).watch();
+ * IndonesiaService service = new IndonesiaServiceImpl(reloader);
+ * }</pre>
+ */
+public class RegionDataReloader implements Supplier<RegionDataset>, AutoCloseable {
+
+  private static final Duration DEFAULT_QUIET_PERIOD = Duration.ofSeconds(2);
+
+  private static final String VILLAGES = "villages";
+
+  private final Path dataDirectory;
+  private final Duration quietPeriod;
+  private final ProvinceSlice slice;
+  private final ExecutorService reloadExecutor;
+  private volatile RegionDataset current;
+  private WatchService watchService;
+  private WatchKey villagesKey;
+  private Thread watcher;
+
+  /** Loads the directory on the calling thread; fails if it cannot be loaded. */
+  public RegionDataReloader(Path dataDirectory) {
+    this(dataDirectory, DEFAULT_QUIET_PERIOD);
+  }
+
+  /**
+   * @param quietPeriod how long the directory must stay unchanged before a watched change is
+   *     reloaded, so that a release copied file by file is loaded once
+   */
+  public RegionDataReloader(Path dataDirectory, Duration quietPeriod) {
+    this(dataDirectory, quietPeriod, ProvinceSlice.ALL);
+  }
+
+  /** Serves only the regions of the given provinces. */
+  public RegionDataReloader(Path dataDirectory, Duration quietPeriod, ProvinceSlice slice) {
+    this.dataDirectory = dataDirectory;
+    this.quietPeriod = quietPeriod;
+    this.slice = slice;
+    this.current = validate(RegionDataset.load(dataDirectory, slice));
+    this.reloadExecutor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "indonesia-region-reload");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /** Returns the current snapshot. */
+  @Override
+  public RegionDataset get() {
+    return current;
+  }
+
+  /**
+   * Rebuilds the dataset in the background and publishes it. Reloads run one at a time; the
+   * returned future fails, and the current snapshot stays, if the new data cannot be loaded.
+   */
+  public CompletableFuture<RegionDataset> reload() {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          RegionDataset next = validate(RegionDataset.load(dataDirectory, slice));
+          current = next;
+          return next;
+        },
+        reloadExecutor);
+  }
+
+  /**
+   * Applies a delta to the current snapshot in the background and publishes the result, without
+   * reading the directory. Deltas and reloads run one at a time in submission order; a later reload
+   * replaces the patched snapshot with the contents of the directory.
+   */
+  public CompletableFuture<RegionDataset> apply(RegionDelta delta) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          RegionDataset next = current.apply(delta);
+          current = next;
+          return next;
+        },
+        reloadExecutor);
+  }
+
+  /**
+   * Starts watching the directory and reloads after each burst of changes. A {@code villages}
+   * directory created or swapped in later is watched from then on.
+   */
+  public synchronized RegionDataReloader watch() {
+    if (watcher != null) {
+      return this;
+    }
+    try {
+      watchService = dataDirectory.getFileSystem().newWatchService();
+      register(dataDirectory);
+      registerVillages();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to watch " + dataDirectory, e);
+    }
+    watcher = new Thread(this::watchLoop, "indonesia-region-watch");
+    watcher.setDaemon(true);
+    watcher.start();
+    return this;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (watcher != null) {
+      watcher.interrupt();
+      try {
+        watchService.close();
+      } catch (IOException ignored) {
+        // nothing left to release
+      }
+      watcher = null;
+    }
+    reloadExecutor.shutdownNow();
+  }
+
+  private WatchKey register(Path directory) throws IOException {
+    return directory.register(
+        watchService,
+        StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_MODIFY,
+        StandardWatchEventKinds.ENTRY_DELETE);
+  }
+
+  private void watchLoop() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        drain(watchService.take());
+        WatchKey next;
+        while ((next = watchService.poll(quietPeriod.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+          drain(next);
+        }
+        reload()
+            .exceptionally(
+                e -> {
+                  System.err.println("❌ Error reloading region data from " + dataDirectory);
+                  e.printStackTrace();
+                  return null;
+                });
+      }
+    } catch (InterruptedException | ClosedWatchServiceException | RejectedExecutionException e) {
+      // closed, possibly while a burst of changes was being collected
+    }
+  }
+
+  /**
+   * Consumes the events of a key. The {@code villages} directory is registered again when it is
+   * created, deleted or renamed in the data directory, or when its key stops being valid.
+   */
+  private void drain(WatchKey key) {
+    boolean villagesReplaced = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (key != villagesKey && VILLAGES.equals(String.valueOf(event.context()))) {
+        villagesReplaced = true;
+      }
+    }
+    if (!key.reset() && key == villagesKey) {
+      villagesReplaced = true;
+    }
+    if (villagesReplaced) {
+      try {
+        registerVillages();
+      } catch (IOException e) {
+        System.err.println("❌ Error watching " + dataDirectory.resolve(VILLAGES));
+        e.printStackTrace();
+      }
+    }
+  }
+
+  private void registerVillages() throws IOException {
+    if (villagesKey != null) {
+      villagesKey.cancel();
+      villagesKey = null;
+    }
+    Path villages = dataDirectory.resolve(VILLAGES);
+    if (Files.isDirectory(villages)) {
+      villagesKey = register(villages);
+    }
+  }
+
+  private static RegionDataset validate(RegionDataset dataset) {
+    if (dataset.provinces().size() == 0
+        || dataset.cities().size() == 0
+        || dataset.districts().size() == 0
+        || dataset.villages().size() == 0) {
+      throw new IllegalStateException("Region data has an empty level");
+    }
+    return dataset;
+  }
+}
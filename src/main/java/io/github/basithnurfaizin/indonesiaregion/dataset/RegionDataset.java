@@ -0,0 +1,408 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import io.github.basithnurfaizin.indonesiaregion.loader.CityLoader;
+import io.github.basithnurfaizin.indonesiaregion.loader.DistrictLoader;
+import io.github.basithnurfaizin.indonesiaregion.loader.ProvinceLoader;
+import io.github.basithnurfaizin.indonesiaregion.loader.ProvinceSlice;
+import io.github.basithnurfaizin.indonesiaregion.loader.VillageLoader;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, loaded region data: provinces, cities, districts and villages, each with a {@link
+ * LevelIndex} by code and by parent.
+ *
+ * <p>A dataset is safe to share between any number of service instances and threads. {@link
+ * #shared()} returns the process-wide instance, which is loaded at most once per JVM; {@link
+ * #load()} and {@link #loadAsync(Executor)} build private copies, and {@link #load(Path)} reads an
+ * external directory laid out like {@code src/main/resources/data}. The regions it holds are shared
+ * as well and must be treated as read-only.
+ *
+ * <p>A dataset may be restricted to a {@link ProvinceSlice}: only the regions of those provinces
+ * are loaded, and every index and query sees only them. The process-wide instance uses the slice
+ * set by the {@value ProvinceSlice#PROPERTY} system property.
+ *
+ * <p>Levels may be loaded in the background, in hierarchy order. Accessing a level that is still
+ * loading blocks until it is available.
+ */
+public final class RegionDataset {
+
+  private final CompletableFuture<LevelIndex<Province>> provinces;
+  private final CompletableFuture<LevelIndex<City>> cities;
+  private final CompletableFuture<LevelIndex<District>> districts;
+  private final CompletableFuture<LevelIndex<Village>> villages;
+  private final CompletableFuture<Void> statisticsReady;
+  private volatile RegionStatistics statistics;
+
+  /**
+   * @param statisticsExecutor computes the statistics once every level is loaded, or {@code null}
+   *     to compute them on first use
+   */
+  private RegionDataset(
+      CompletableFuture<LevelIndex<Province>> provinces,
+      CompletableFuture<LevelIndex<City>> cities,
+      CompletableFuture<LevelIndex<District>> districts,
+      CompletableFuture<LevelIndex<Village>> villages,
+      Executor statisticsExecutor) {
+    this.provinces = provinces;
+    this.cities = cities;
+    this.districts = districts;
+    this.villages = villages;
+    this.statisticsReady =
+        statisticsExecutor == null
+            ? CompletableFuture.completedFuture(null)
+            : whenReady().thenRunAsync(this::statistics, statisticsExecutor);
+  }
+
+  /** Returns the process-wide dataset, loading it on first use and waiting until it is loaded. */
+  public static RegionDataset shared() {
+    RegionDataset dataset = SharedHolder.INSTANCE;
+    await(dataset.whenReady());
+    return dataset;
+  }
+
+  /**
+   * Returns the process-wide dataset immediately, starting its background load on first use. It is
+   * the same instance {@link #shared()} returns.
+   */
+  public static RegionDataset sharedAsync() {
+    return SharedHolder.INSTANCE;
+  }
+
+  /** Loads a private copy of the bundled dataset on the calling thread. */
+  public static RegionDataset load() {
+    return load(ProvinceSlice.ALL);
+  }
+
+  /** Loads the bundled regions of the given provinces on the calling thread. */
+  public static RegionDataset load(ProvinceSlice slice) {
+    RegionDataset dataset = loadAsync(Runnable::run, slice);
+    await(dataset.whenReady());
+    return dataset;
+  }
+
+  /** Loads a dataset from a directory laid out like {@code src/main/resources/data}. */
+  public static RegionDataset load(Path dataDirectory) {
+    return load(dataDirectory, ProvinceSlice.ALL);
+  }
+
+  /** Loads the regions of the given provinces from a directory. */
+  public static RegionDataset load(Path dataDirectory, ProvinceSlice slice) {
+    RegionDataset dataset =
+        loadAsync(
+            Runnable::run,
+            null,
+            () -> ProvinceLoader.loadProvinces(dataDirectory, slice),
+            () -> CityLoader.loadCities(dataDirectory, slice),
+            () -> DistrictLoader.loadDistricts(dataDirectory, slice),
+            () -> VillageLoader.loadVillages(dataDirectory, slice));
+    await(dataset.whenReady());
+    return dataset;
+  }
+
+  /**
+   * Loads a dataset from a directory, sharing every region, child list and level that is unchanged
+   * from {@code base} (for example the previous data release) instead of holding a second copy.
+   */
+  public static RegionDataset load(Path dataDirectory, RegionDataset base) {
+    RegionDataset dataset =
+        loadAsync(
+            Runnable::run,
+            base,
+            () -> ProvinceLoader.loadProvinces(dataDirectory),
+            () -> CityLoader.loadCities(dataDirectory),
+            () -> DistrictLoader.loadDistricts(dataDirectory),
+            () -> VillageLoader.loadVillages(dataDirectory));
+    await(dataset.whenReady());
+    return dataset;
+  }
+
+  /** Like {@link #load()}, sharing everything that is unchanged from {@code base}. */
+  public static RegionDataset load(RegionDataset base) {
+    RegionDataset dataset =
+        loadAsync(
+            Runnable::run,
+            base,
+            ProvinceLoader::loadProvinces,
+            CityLoader::loadCities,
+            DistrictLoader::loadDistricts,
+            VillageLoader::loadVillages);
+    await(dataset.whenReady());
+    return dataset;
+  }
+
+  /**
+   * Loads a private copy of the bundled dataset on the given executor, one level at a time:
+   * provinces, then cities, districts and villages. Each level waits for the previous one to
+   * finish, not to succeed.
+   */
+  public static RegionDataset loadAsync(Executor executor) {
+    return loadAsync(executor, ProvinceSlice.ALL);
+  }
+
+  /** Like {@link #loadAsync(Executor)}, for the given provinces only. */
+  public static RegionDataset loadAsync(Executor executor, ProvinceSlice slice) {
+    return loadAsync(
+        executor,
+        null,
+        () -> ProvinceLoader.loadProvinces(slice),
+        () -> CityLoader.loadCities(slice),
+        () -> DistrictLoader.loadDistricts(slice),
+        () -> VillageLoader.loadVillages(slice));
+  }
+
+  /** Like {@link #loadAsync(Executor)}, on a daemon thread that exits once loading is done. */
+  public static RegionDataset loadAsync() {
+    return loadInBackground(ProvinceSlice.ALL);
+  }
+
+  private static RegionDataset loadInBackground(ProvinceSlice slice) {
+    ExecutorService executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "indonesia-region-loader");
+              thread.setDaemon(true);
+              return thread;
+            });
+    RegionDataset dataset = loadAsync(executor, slice);
+    dataset.statisticsReady.whenComplete((ignored, error) -> executor.shutdown());
+    return dataset;
+  }
+
+  private static RegionDataset loadAsync(
+      Executor executor,
+      RegionDataset base,
+      Supplier<Map<String, Province>> provinceLoader,
+      Supplier<Map<String, City>> cityLoader,
+      Supplier<Map<String, District>> districtLoader,
+      Supplier<Map<String, Village>> villageLoader) {
+    CompletableFuture<LevelIndex<Province>> provinces =
+        CompletableFuture.supplyAsync(
+            () ->
+                LevelIndex.of(
+                    provinceLoader.get(),
+                    Province::getCode,
+                    null,
+                    level(base, RegionLevel.PROVINCE)),
+            executor);
+    CompletableFuture<LevelIndex<City>> cities =
+        provinces.handleAsync(
+            (ignored, error) ->
+                LevelIndex.of(
+                    cityLoader.get(),
+                    City::getCode,
+                    City::getProvinceCode,
+                    level(base, RegionLevel.CITY)),
+            executor);
+    CompletableFuture<LevelIndex<District>> districts =
+        cities.handleAsync(
+            (ignored, error) ->
+                LevelIndex.of(
+                    districtLoader.get(),
+                    District::getCode,
+                    District::getCityCode,
+                    level(base, RegionLevel.DISTRICT)),
+            executor);
+    CompletableFuture<LevelIndex<Village>> villages =
+        districts.handleAsync(
+            (ignored, error) ->
+                LevelIndex.of(
+                    villageLoader.get(),
+                    Village::getCode,
+                    Village::getDistrictCode,
+                    level(base, RegionLevel.VILLAGE)),
+            executor);
+    return new RegionDataset(provinces, cities, districts, villages, executor);
+  }
+
+  /**
+   * Indexes regions already in memory, such as the lists an {@link
+   * io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService} returns. A later region
+   * replaces an earlier one with the same code.
+   */
+  public static RegionDataset of(
+      List<Province> provinces,
+      List<City> cities,
+      List<District> districts,
+      List<Village> villages) {
+    return of(
+        LevelIndex.of(byCode(provinces, Province::getCode), Province::getCode, null),
+        LevelIndex.of(byCode(cities, City::getCode), City::getCode, City::getProvinceCode),
+        LevelIndex.of(
+            byCode(districts, District::getCode), District::getCode, District::getCityCode),
+        LevelIndex.of(
+            byCode(villages, Village::getCode), Village::getCode, Village::getDistrictCode));
+  }
+
+  private static <T> Map<String, T> byCode(List<T> regions, Function<T, String> code) {
+    Map<String, T> byCode = new HashMap<>(regions.size() * 4 / 3 + 1);
+    for (T region : regions) {
+      byCode.put(code.apply(region), region);
+    }
+    return byCode;
+  }
+
+  static RegionDataset of(
+      LevelIndex<Province> provinces,
+      LevelIndex<City> cities,
+      LevelIndex<District> districts,
+      LevelIndex<Village> villages) {
+    return new RegionDataset(
+        CompletableFuture.completedFuture(provinces),
+        CompletableFuture.completedFuture(cities),
+        CompletableFuture.completedFuture(districts),
+        CompletableFuture.completedFuture(villages),
+        null);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> LevelIndex<T> level(RegionDataset base, RegionLevel level) {
+    return base == null ? null : (LevelIndex<T>) await(base.levelFuture(level));
+  }
+
+  public LevelIndex<Province> provinces() {
+    return await(provinces);
+  }
+
+  public LevelIndex<City> cities() {
+    return await(cities);
+  }
+
+  public LevelIndex<District> districts() {
+    return await(districts);
+  }
+
+  public LevelIndex<Village> villages() {
+    return await(villages);
+  }
+
+  /**
+   * Returns a new dataset with the delta applied, leaving this one unchanged. Only the changed
+   * regions and the child lists of their parents are rebuilt; levels the delta does not touch are
+   * shared as they are. Removing a region removes everything below it.
+   *
+   * @throws IllegalArgumentException if a change refers to a missing region or parent, or adds a
+   *     code that already exists; no change is applied in that case
+   */
+  public RegionDataset apply(RegionDelta delta) {
+    return RegionDeltaApplier.apply(this, delta);
+  }
+
+  /**
+   * Walks the whole hierarchy depth first, in code order. Nothing is copied: the visitor receives
+   * the shared regions, which must not be modified.
+   */
+  public void walk(RegionVisitor visitor) {
+    for (Province province : provinces().all()) {
+      walk(province, visitor);
+    }
+  }
+
+  /** Walks one province and everything below it; does nothing if the code is unknown. */
+  public void walk(String provinceCode, RegionVisitor visitor) {
+    Province province = provinces().get(provinceCode);
+    if (province != null) {
+      walk(province, visitor);
+    }
+  }
+
+  private void walk(Province province, RegionVisitor visitor) {
+    visitor.enterProvince(province);
+    for (City city : cities().children(province.getCode())) {
+      visitor.enterCity(city);
+      for (District district : districts().children(city.getCode())) {
+        visitor.enterDistrict(district);
+        for (Village village : villages().children(district.getCode())) {
+          visitor.visitVillage(village);
+        }
+        visitor.leaveDistrict(district);
+      }
+      visitor.leaveCity(city);
+    }
+    visitor.leaveProvince(province);
+  }
+
+  /**
+   * Returns the counts, postal code counts and bounding boxes of every province, city and district.
+   * They are computed once, right after loading (or on first use for a dataset produced by {@link
+   * #apply(RegionDelta)}), and then served without touching the regions.
+   */
+  public RegionStatistics statistics() {
+    RegionStatistics result = statistics;
+    if (result == null) {
+      synchronized (this) {
+        result = statistics;
+        if (result == null) {
+          result = RegionStatistics.compute(this);
+          statistics = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /** Whether a region of any level has the given code. */
+  public boolean contains(String code) {
+    return provinces().get(code) != null
+        || cities().get(code) != null
+        || districts().get(code) != null
+        || villages().get(code) != null;
+  }
+
+  /** Completes when the given level is loaded, or exceptionally if loading it failed. */
+  public CompletableFuture<Void> whenReady(RegionLevel level) {
+    return levelFuture(level).thenApply(ignored -> null);
+  }
+
+  /** Completes when every level is loaded. */
+  public CompletableFuture<Void> whenReady() {
+    return CompletableFuture.allOf(provinces, cities, districts, villages);
+  }
+
+  public boolean isReady(RegionLevel level) {
+    CompletableFuture<?> future = levelFuture(level);
+    return future.isDone() && !future.isCompletedExceptionally();
+  }
+
+  private CompletableFuture<?> levelFuture(RegionLevel level) {
+    switch (level) {
+      case PROVINCE:
+        return provinces;
+      case CITY:
+        return cities;
+      case DISTRICT:
+        return districts;
+      default:
+        return villages;
+    }
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static final class SharedHolder {
+    static final RegionDataset INSTANCE = loadInBackground(ProvinceSlice.fromSystemProperty());
+  }
+}
@@ -0,0 +1,209 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaServiceImpl;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Several data releases loaded side by side, in release order, with code translation between them.
+ *
+ * <p>Each release is loaded against the previous one (see {@link RegionDataset#load(Path,
+ * RegionDataset)}), so regions, child lists and whole levels that did not change are stored once.
+ *
+ * <p>A release directory may contain a {@code code-changes.csv} file with {@code old_code,new_code}
+ * rows describing codes of the previous release that were replaced: a split lists the old code once
+ * per new code, a merge lists each old code against the same new code. Codes without a row map to
+ * themselves as long as they still exist.
+ *
+ * <pre>{@code
+ * RegionDatasetVersions versions =
+ *     RegionDatasetVersions.builder()
+ *         .add("2022", Path.of("/data/2022"))
+ *         .add("2023", Path.of("/data/2023"))
+ *         .build();
+ * List<String> current = versions.translate("3204010", "2022", "2023");
+ * }</pre>
+ */
+public class RegionDatasetVersions {
+
+  static final String CODE_CHANGES_FILE = "code-changes.csv";
+
+  private final List<String> versions;
+  private final Map<String, RegionDataset> datasets;
+  // forward[i] maps codes of release i to codes of release i + 1, backward[i] the other way
+  private final List<Map<String, List<String>>> forward;
+  private final List<Map<String, List<String>>> backward;
+
+  private RegionDatasetVersions(
+      List<String> versions,
+      Map<String, RegionDataset> datasets,
+      List<Map<String, List<String>>> forward,
+      List<Map<String, List<String>>> backward) {
+    this.versions = versions;
+    this.datasets = datasets;
+    this.forward = forward;
+    this.backward = backward;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Release names, oldest first. */
+  public List<String> getVersions() {
+    return versions;
+  }
+
+  public String getLatestVersion() {
+    return versions.get(versions.size() - 1);
+  }
+
+  public RegionDataset get(String version) {
+    RegionDataset dataset = datasets.get(version);
+    if (dataset == null) {
+      throw new IllegalArgumentException("Unknown version: " + version);
+    }
+    return dataset;
+  }
+
+  /** Returns a service answering queries from the given release. */
+  public IndonesiaService service(String version) {
+    return new IndonesiaServiceImpl(get(version));
+  }
+
+  /**
+   * Translates a region code of release {@code from} into the corresponding codes of release {@code
+   * to}, following every release in between in either direction. The result is empty when the
+   * region no longer exists, and has several codes after a split (or, going back, a merge).
+   */
+  public List<String> translate(String code, String from, String to) {
+    int fromIndex = indexOf(from);
+    int toIndex = indexOf(to);
+    Set<String> codes = new LinkedHashSet<>();
+    if (datasets.get(from).contains(code)) {
+      codes.add(code);
+    }
+    int step = fromIndex <= toIndex ? 1 : -1;
+    for (int i = fromIndex; i != toIndex && !codes.isEmpty(); i += step) {
+      Map<String, List<String>> changes = step > 0 ? forward.get(i) : backward.get(i - 1);
+      RegionDataset target = datasets.get(versions.get(i + step));
+      Set<String> next = new LinkedHashSet<>();
+      for (String current : codes) {
+        List<String> mapped = changes.get(current);
+        if (mapped != null) {
+          next.addAll(mapped);
+        } else if (target.contains(current)) {
+          next.add(current);
+        }
+      }
+      codes = next;
+    }
+    return List.copyOf(codes);
+  }
+
+  private int indexOf(String version) {
+    int index = versions.indexOf(version);
+    if (index < 0) {
+      throw new IllegalArgumentException("Unknown version: " + version);
+    }
+    return index;
+  }
+
+  public static class Builder {
+
+    private final List<String> versions = new ArrayList<>();
+    private final Map<String, RegionDataset> datasets = new LinkedHashMap<>();
+    private final List<Map<String, List<String>>> forward = new ArrayList<>();
+    private final List<Map<String, List<String>>> backward = new ArrayList<>();
+
+    /** Loads the next release from a directory laid out like {@code src/main/resources/data}. */
+    public Builder add(String version, Path dataDirectory) {
+      RegionDataset dataset = RegionDataset.load(dataDirectory, latest());
+      Map<String, List<String>> changes = readCodeChanges(dataDirectory.resolve(CODE_CHANGES_FILE));
+      return add(version, dataset, changes);
+    }
+
+    /** Adds the bundled data as the next release. */
+    public Builder addBundled(String version) {
+      return add(version, RegionDataset.load(latest()), Map.of());
+    }
+
+    /**
+     * Adds an already loaded release.
+     *
+     * @param codeChanges codes of the previous release mapped to their replacements
+     */
+    public Builder add(
+        String version, RegionDataset dataset, Map<String, List<String>> codeChanges) {
+      if (datasets.containsKey(version)) {
+        throw new IllegalArgumentException("Duplicate version: " + version);
+      }
+      if (!versions.isEmpty()) {
+        Map<String, List<String>> copy = new HashMap<>();
+        codeChanges.forEach((oldCode, newCodes) -> copy.put(oldCode, List.copyOf(newCodes)));
+        forward.add(Map.copyOf(copy));
+        backward.add(invert(codeChanges));
+      }
+      versions.add(version);
+      datasets.put(version, dataset);
+      return this;
+    }
+
+    public RegionDatasetVersions build() {
+      if (versions.isEmpty()) {
+        throw new IllegalStateException("No versions added");
+      }
+      return new RegionDatasetVersions(
+          List.copyOf(versions),
+          Collections.unmodifiableMap(new HashMap<>(datasets)),
+          List.copyOf(forward),
+          List.copyOf(backward));
+    }
+
+    private RegionDataset latest() {
+      return versions.isEmpty() ? null : datasets.get(versions.get(versions.size() - 1));
+    }
+
+    private static Map<String, List<String>> readCodeChanges(Path file) {
+      if (!Files.exists(file)) {
+        return Map.of();
+      }
+      Map<String, List<String>> changes = new HashMap<>();
+      try (Reader input = Files.newBufferedReader(file);
+          CSVReader reader = new CSVReader(input)) {
+        String[] line;
+        while ((line = reader.readNext()) != null) {
+          if (line.length < 2 || line[0].equalsIgnoreCase("old_code")) continue;
+          changes.computeIfAbsent(line[0].trim(), key -> new ArrayList<>()).add(line[1].trim());
+        }
+      } catch (IOException | CsvValidationException e) {
+        throw new RuntimeException("Failed to load " + file, e);
+      }
+      return changes;
+    }
+
+    private static Map<String, List<String>> invert(Map<String, List<String>> changes) {
+      Map<String, List<String>> inverted = new HashMap<>();
+      changes.forEach(
+          (oldCode, newCodes) ->
+              newCodes.forEach(
+                  newCode ->
+                      inverted.computeIfAbsent(newCode, key -> new ArrayList<>()).add(oldCode)));
+      inverted.replaceAll((key, codes) -> List.copyOf(codes));
+      return Map.copyOf(inverted);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An ordered list of region changes, applied to a loaded dataset with {@link
+ * RegionDataset#apply(RegionDelta)}.
+ *
+ * <p>The file form is a CSV with the columns {@code op,level,code,parent_code,name,lat,lng}; the
+ * header row is optional and unused columns may be left empty:
+ *
+ * <pre>
+ * op,level,code,parent_code,name,lat,lng
+ * ADD,village,3273011099,327301,SUKAMAJU BARU,-6.8911,107.6081
+ * RENAME,district,327301,,SUKASARI RAYA,,
+ * REMOVE,village,3273011005,,,,
+ * </pre>
+ */
+public class RegionDelta {
+
+  private final List<RegionChange> changes;
+
+  public RegionDelta(List<RegionChange> changes) {
+    this.changes = List.copyOf(changes);
+  }
+
+  public static RegionDelta of(RegionChange... changes) {
+    return new RegionDelta(List.of(changes));
+  }
+
+  public static RegionDelta read(Path file) {
+    try (Reader input = Files.newBufferedReader(file)) {
+      return read(input);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to load " + file, e);
+    }
+  }
+
+  public static RegionDelta read(Reader input) {
+    List<RegionChange> changes = new ArrayList<>();
+    try (CSVReader reader = new CSVReader(input)) {
+      String[] line;
+      while ((line = reader.readNext()) != null) {
+        if (line.length == 0 || line[0].isBlank() || line[0].equalsIgnoreCase("op")) continue;
+        changes.add(parse(line, reader.getLinesRead()));
+      }
+    } catch (IOException | CsvValidationException e) {
+      throw new RuntimeException("Failed to load region delta", e);
+    }
+    return new RegionDelta(changes);
+  }
+
+  private static RegionChange parse(String[] line, long lineNumber) {
+    try {
+      RegionChange.Type type = RegionChange.Type.valueOf(line[0].trim().toUpperCase(Locale.ROOT));
+      RegionLevel level = RegionLevel.valueOf(line[1].trim().toUpperCase(Locale.ROOT));
+      String code = line[2].trim();
+      switch (type) {
+        case ADD:
+          return RegionChange.add(
+              level,
+              code,
+              column(line, 3),
+              line[4].trim(),
+              Double.parseDouble(line[5].trim()),
+              Double.parseDouble(line[6].trim()));
+        case RENAME:
+          return RegionChange.rename(level, code, line[4].trim());
+        default:
+          return RegionChange.remove(level, code);
+      }
+    } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid region delta at line " + lineNumber, e);
+    }
+  }
+
+  private static String column(String[] line, int index) {
+    String value = index < line.length ? line[index].trim() : "";
+    return value.isEmpty() ? null : value;
+  }
+
+  public List<RegionChange> getChanges() {
+    return changes;
+  }
+
+  public boolean isEmpty() {
+    return changes.isEmpty();
+  }
+}
@@ -0,0 +1,250 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/** Applies a {@link RegionDelta} to a dataset, see {@link RegionDataset#apply(RegionDelta)}. */
+final class RegionDeltaApplier {
+
+  /** Code lengths of provinces, cities, districts and villages. */
+  private static final int[] CODE_LENGTHS = {2, 4, 6, 10};
+
+  private RegionDeltaApplier() {}
+
+  static RegionDataset apply(RegionDataset dataset, RegionDelta delta) {
+    if (delta.isEmpty()) {
+      return dataset;
+    }
+    Pending<Province> provinces =
+        new Pending<>(
+            dataset.provinces(),
+            Province::getCode,
+            province -> null,
+            change ->
+                Province.builder()
+                    .code(change.getCode())
+                    .name(change.getName())
+                    .latitude(change.getLatitude())
+                    .longitude(change.getLongitude())
+                    .build(),
+            (province, name) ->
+                Province.builder()
+                    .code(province.getCode())
+                    .name(name)
+                    .latitude(province.getLatitude())
+                    .longitude(province.getLongitude())
+                    .build());
+    Pending<City> cities =
+        new Pending<>(
+            dataset.cities(),
+            City::getCode,
+            City::getProvinceCode,
+            change ->
+                City.builder()
+                    .code(change.getCode())
+                    .provinceCode(change.getParentCode())
+                    .name(change.getName())
+                    .latitude(change.getLatitude())
+                    .longitude(change.getLongitude())
+                    .build(),
+            (city, name) ->
+                City.builder()
+                    .code(city.getCode())
+                    .provinceCode(city.getProvinceCode())
+                    .name(name)
+                    .latitude(city.getLatitude())
+                    .longitude(city.getLongitude())
+                    .build());
+    Pending<District> districts =
+        new Pending<>(
+            dataset.districts(),
+            District::getCode,
+            District::getCityCode,
+            change ->
+                District.builder()
+                    .code(change.getCode())
+                    .cityCode(change.getParentCode())
+                    .name(change.getName())
+                    .latitude(change.getLatitude())
+                    .longitude(change.getLongitude())
+                    .build(),
+            (district, name) ->
+                District.builder()
+                    .code(district.getCode())
+                    .cityCode(district.getCityCode())
+                    .name(name)
+                    .latitude(district.getLatitude())
+                    .longitude(district.getLongitude())
+                    .build());
+    Pending<Village> villages =
+        new Pending<>(
+            dataset.villages(),
+            Village::getCode,
+            Village::getDistrictCode,
+            change ->
+                Village.builder()
+                    .code(change.getCode())
+                    .districtCode(change.getParentCode())
+                    .name(change.getName())
+                    .latitude(change.getLatitude())
+                    .longitude(change.getLongitude())
+                    .build(),
+            (village, name) ->
+                Village.builder()
+                    .code(village.getCode())
+                    .districtCode(village.getDistrictCode())
+                    .name(name)
+                    .latitude(village.getLatitude())
+                    .longitude(village.getLongitude())
+                    .postalCode(village.getPostalCode())
+                    .build());
+
+    List<Pending<?>> levels = List.of(provinces, cities, districts, villages);
+    for (RegionChange change : delta.getChanges()) {
+      int depth = change.getLevel().ordinal();
+      Pending<?> level = levels.get(depth);
+      switch (change.getType()) {
+        case ADD:
+          requireWellFormedCode(change, depth);
+          if (level.get(change.getCode()) != null) {
+            throw new IllegalArgumentException("Region already exists: " + change.getCode());
+          }
+          if (depth > 0 && levels.get(depth - 1).get(change.getParentCode()) == null) {
+            throw new IllegalArgumentException(
+                "Unknown parent region " + change.getParentCode() + " for " + change.getCode());
+          }
+          level.add(change);
+          break;
+        case RENAME:
+          require(level, change);
+          level.rename(change.getCode(), change.getName());
+          break;
+        default:
+          require(level, change);
+          removeWithDescendants(levels, depth, change.getCode());
+      }
+    }
+    return RegionDataset.of(provinces.apply(), cities.apply(), districts.apply(), villages.apply());
+  }
+
+  /**
+   * Rejects a new region whose code is not as long as the codes of its level or does not extend its
+   * parent's code, which the rest of the library relies on to tell levels and ancestors apart.
+   */
+  private static void requireWellFormedCode(RegionChange change, int depth) {
+    String code = change.getCode();
+    if (code == null || code.length() != CODE_LENGTHS[depth]) {
+      throw new IllegalArgumentException(
+          "A "
+              + change.getLevel().name().toLowerCase()
+              + " code must have "
+              + CODE_LENGTHS[depth]
+              + " digits: "
+              + code);
+    }
+    if (depth > 0 && (change.getParentCode() == null || !code.startsWith(change.getParentCode()))) {
+      throw new IllegalArgumentException(
+          "Code " + code + " does not start with its parent code " + change.getParentCode());
+    }
+  }
+
+  private static void require(Pending<?> level, RegionChange change) {
+    if (level.get(change.getCode()) == null) {
+      throw new IllegalArgumentException(
+          "Unknown " + change.getLevel().name().toLowerCase() + ": " + change.getCode());
+    }
+  }
+
+  private static void removeWithDescendants(List<Pending<?>> levels, int depth, String code) {
+    levels.get(depth).remove(code);
+    if (depth + 1 < levels.size()) {
+      for (String child : levels.get(depth + 1).childCodes(code)) {
+        removeWithDescendants(levels, depth + 1, child);
+      }
+    }
+  }
+
+  /** The changes to one level, collected before the level is patched once. */
+  private static final class Pending<T> {
+
+    private final LevelIndex<T> index;
+    private final Function<T, String> code;
+    private final Function<T, String> parentCode;
+    private final Function<RegionChange, T> factory;
+    private final BiFunction<T, String, T> renamer;
+    private final Map<String, T> upserts = new LinkedHashMap<>();
+    private final Set<String> removals = new HashSet<>();
+
+    Pending(
+        LevelIndex<T> index,
+        Function<T, String> code,
+        Function<T, String> parentCode,
+        Function<RegionChange, T> factory,
+        BiFunction<T, String, T> renamer) {
+      this.index = index;
+      this.code = code;
+      this.parentCode = parentCode;
+      this.factory = factory;
+      this.renamer = renamer;
+    }
+
+    T get(String regionCode) {
+      if (regionCode == null || removals.contains(regionCode)) {
+        return null;
+      }
+      T upserted = upserts.get(regionCode);
+      return upserted != null ? upserted : index.get(regionCode);
+    }
+
+    void add(RegionChange change) {
+      put(factory.apply(change));
+    }
+
+    void rename(String regionCode, String name) {
+      put(renamer.apply(get(regionCode), name));
+    }
+
+    private void put(T region) {
+      String regionCode = code.apply(region);
+      removals.remove(regionCode);
+      upserts.put(regionCode, region);
+    }
+
+    void remove(String regionCode) {
+      upserts.remove(regionCode);
+      if (index.get(regionCode) != null) {
+        removals.add(regionCode);
+      }
+    }
+
+    List<String> childCodes(String parent) {
+      List<String> children = new ArrayList<>();
+      for (T child : index.children(parent)) {
+        String childCode = code.apply(child);
+        if (!removals.contains(childCode) && !upserts.containsKey(childCode)) {
+          children.add(childCode);
+        }
+      }
+      for (T upserted : upserts.values()) {
+        if (parent.equals(parentCode.apply(upserted))) {
+          children.add(code.apply(upserted));
+        }
+      }
+      return children;
+    }
+
+    LevelIndex<T> apply() {
+      return index.patch(upserts, removals);
+    }
+  }
+}
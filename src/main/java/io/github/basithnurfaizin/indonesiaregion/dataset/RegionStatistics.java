@@ -0,0 +1,161 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import io.github.basithnurfaizin.indonesiaregion.model.BoundingBox;
+import io.github.basithnurfaizin.indonesiaregion.model.Centroids;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionStats;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link RegionStats} of every province, city and district of a dataset, and of the dataset as a
+ * whole, computed in one walk over the hierarchy. See {@link RegionDataset#statistics()}.
+ */
+public final class RegionStatistics {
+
+  private final Map<String, RegionStats> byCode;
+  private final RegionStats total;
+
+  private RegionStatistics(Map<String, RegionStats> byCode, RegionStats total) {
+    this.byCode = byCode;
+    this.total = total;
+  }
+
+  static RegionStatistics compute(RegionDataset dataset) {
+    Collector collector = new Collector();
+    dataset.walk(collector);
+    return new RegionStatistics(
+        Map.copyOf(collector.byCode), collector.national.toStats(null, null, collector.provinces));
+  }
+
+  /** The aggregates of the province, city or district with the given code, or {@code null}. */
+  public RegionStats get(String code) {
+    return code == null ? null : byCode.get(code);
+  }
+
+  /** The aggregates of the whole dataset. */
+  public RegionStats getTotal() {
+    return total;
+  }
+
+  /** Accumulates one region's subtree while the walk is inside it. */
+  private static final class Subtree {
+
+    int cities;
+    int districts;
+    int villages;
+    final Set<String> postalCodes = new HashSet<>();
+    double minLatitude = Double.POSITIVE_INFINITY;
+    double minLongitude = Double.POSITIVE_INFINITY;
+    double maxLatitude = Double.NEGATIVE_INFINITY;
+    double maxLongitude = Double.NEGATIVE_INFINITY;
+
+    void addCentroid(Double latitude, Double longitude) {
+      if (latitude == null || longitude == null || !Centroids.isKnown(latitude, longitude)) {
+        return;
+      }
+      minLatitude = Math.min(minLatitude, latitude);
+      minLongitude = Math.min(minLongitude, longitude);
+      maxLatitude = Math.max(maxLatitude, latitude);
+      maxLongitude = Math.max(maxLongitude, longitude);
+    }
+
+    void addAll(Subtree child) {
+      cities += child.cities;
+      districts += child.districts;
+      villages += child.villages;
+      postalCodes.addAll(child.postalCodes);
+      if (child.minLatitude <= child.maxLatitude) {
+        minLatitude = Math.min(minLatitude, child.minLatitude);
+        minLongitude = Math.min(minLongitude, child.minLongitude);
+        maxLatitude = Math.max(maxLatitude, child.maxLatitude);
+        maxLongitude = Math.max(maxLongitude, child.maxLongitude);
+      }
+    }
+
+    RegionStats toStats(String code, RegionLevel level) {
+      return toStats(code, level, null);
+    }
+
+    RegionStats toStats(String code, RegionLevel level, Integer provinces) {
+      int depth = level == null ? -1 : level.ordinal();
+      return RegionStats.builder()
+          .code(code)
+          .level(level)
+          .provinces(provinces)
+          .cities(depth < RegionLevel.CITY.ordinal() ? cities : null)
+          .districts(depth < RegionLevel.DISTRICT.ordinal() ? districts : null)
+          .villages(villages)
+          .postalCodes(postalCodes.size())
+          .boundingBox(
+              minLatitude <= maxLatitude
+                  ? new BoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude)
+                  : null)
+          .build();
+    }
+  }
+
+  private static final class Collector implements RegionVisitor {
+
+    final Map<String, RegionStats> byCode = new HashMap<>();
+    final Subtree national = new Subtree();
+    int provinces;
+    Subtree province;
+    Subtree city;
+    Subtree district;
+
+    @Override
+    public void enterProvince(Province value) {
+      province = new Subtree();
+      province.addCentroid(value.getLatitude(), value.getLongitude());
+    }
+
+    @Override
+    public void enterCity(City value) {
+      city = new Subtree();
+      city.addCentroid(value.getLatitude(), value.getLongitude());
+    }
+
+    @Override
+    public void enterDistrict(District value) {
+      district = new Subtree();
+      district.addCentroid(value.getLatitude(), value.getLongitude());
+    }
+
+    @Override
+    public void visitVillage(Village village) {
+      district.villages++;
+      district.addCentroid(village.getLatitude(), village.getLongitude());
+      if (village.getPostalCode() != null) {
+        district.postalCodes.add(village.getPostalCode());
+      }
+    }
+
+    @Override
+    public void leaveDistrict(District value) {
+      byCode.put(value.getCode(), district.toStats(value.getCode(), RegionLevel.DISTRICT));
+      city.districts++;
+      city.addAll(district);
+    }
+
+    @Override
+    public void leaveCity(City value) {
+      byCode.put(value.getCode(), city.toStats(value.getCode(), RegionLevel.CITY));
+      province.cities++;
+      province.addAll(city);
+    }
+
+    @Override
+    public void leaveProvince(Province value) {
+      byCode.put(value.getCode(), province.toStats(value.getCode(), RegionLevel.PROVINCE));
+      provinces++;
+      national.addAll(province);
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+
+/**
+ * Receives the regions of a dataset in hierarchical order from {@link
+ * RegionDataset#walk(RegionVisitor)}: each region is entered, then its children are visited in code
+ * order, then it is left.
+ */
+public interface RegionVisitor {
+
+  default void enterProvince(Province province) {}
+
+  default void leaveProvince(Province province) {}
+
+  default void enterCity(City city) {}
+
+  default void leaveCity(City city) {}
+
+  default void enterDistrict(District district) {}
+
+  default void leaveDistrict(District district) {}
+
+  default void visitVillage(Village village) {}
+}
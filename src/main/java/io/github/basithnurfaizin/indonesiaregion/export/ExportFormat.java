@@ -0,0 +1,21 @@
+package io.github.basithnurfaizin.indonesiaregion.export;
+
+/** Output formats of {@link RegionExporter}. */
+public enum ExportFormat {
+
+  /**
+   * One JSON object per line and per region, parents before children, each with a {@code level}
+   * field and its parent code.
+   */
+  JSON_LINES,
+
+  /**
+   * A single JSON array of provinces with their {@code cities}, {@code districts} and {@code
+   * villages} nested, shaped like {@code getProvince(code, List.of("cities", "districts",
+   * "villages"))}.
+   */
+  JSON,
+
+  /** CSV with the header {@code level,code,parent_code,name,latitude,longitude,postal_code}. */
+  CSV
+}
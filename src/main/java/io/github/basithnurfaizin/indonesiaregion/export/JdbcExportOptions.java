@@ -0,0 +1,32 @@
+package io.github.basithnurfaizin.indonesiaregion.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Settings of a {@link JdbcRegionExporter}; every field has a default. */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JdbcExportOptions {
+
+  /** Rows sent to the database per {@code executeBatch}. */
+  @Builder.Default private int batchSize = 1000;
+
+  /** Rows inserted per transaction; rounded up to a whole number of batches. */
+  @Builder.Default private int commitInterval = 10_000;
+
+  /** Loads the four tables concurrently, each on its own connection. */
+  @Builder.Default private boolean parallel = false;
+
+  /** Creates the tables before loading them; they must not exist yet. */
+  @Builder.Default private boolean createTables = true;
+
+  /** Indexes the parent code column of cities, districts and villages after loading. */
+  @Builder.Default private boolean createIndexes = true;
+
+  /** Prepended to the table and index names, e.g. {@code "region_"}. */
+  @Builder.Default private String tablePrefix = "";
+}
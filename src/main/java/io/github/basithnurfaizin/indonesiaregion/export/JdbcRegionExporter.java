@@ -0,0 +1,288 @@
+package io.github.basithnurfaizin.indonesiaregion.export;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.LevelIndex;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+
+/**
+ * Bulk-loads a dataset into four tables of any JDBC database: {@code provinces}, {@code cities},
+ * {@code districts} and {@code villages}, each with {@code code}, parent code ({@code
+ * province_code}, {@code city_code}, {@code district_code}), {@code name}, {@code latitude} and
+ * {@code longitude} columns; villages also have {@code postal_code}.
+ *
+ * <p>Rows are inserted with batched prepared statements in transactions of {@link
+ * JdbcExportOptions#getCommitInterval()} rows. Parent code indexes are created after the data is
+ * in, which is cheaper than maintaining them row by row. The tables have no foreign keys, so they
+ * can be loaded in any order or concurrently.
+ *
+ * <pre>{@code
+ * new JdbcRegionExporter(dataSource, JdbcExportOptions.builder().parallel(true).build())
+ *     .export(RegionDataset.shared());
+ * }</pre>
+ */
+public class JdbcRegionExporter {
+
+  private static final Map<String, String> COLUMN_TYPES =
+      Map.of(
+          "code", "VARCHAR(16) NOT NULL",
+          "province_code", "VARCHAR(16) NOT NULL",
+          "city_code", "VARCHAR(16) NOT NULL",
+          "district_code", "VARCHAR(16) NOT NULL",
+          "name", "VARCHAR(255) NOT NULL",
+          "latitude", "DOUBLE PRECISION",
+          "longitude", "DOUBLE PRECISION",
+          "postal_code", "VARCHAR(5)");
+
+  private final DataSource dataSource;
+  private final JdbcExportOptions options;
+
+  public JdbcRegionExporter(DataSource dataSource) {
+    this(dataSource, JdbcExportOptions.builder().build());
+  }
+
+  public JdbcRegionExporter(DataSource dataSource, JdbcExportOptions options) {
+    if (options.getBatchSize() < 1 || options.getCommitInterval() < 1) {
+      throw new IllegalArgumentException("Batch size and commit interval must be positive");
+    }
+    this.dataSource = dataSource;
+    this.options = options;
+  }
+
+  /**
+   * Loads every level of the dataset.
+   *
+   * @return the number of rows inserted per level
+   */
+  public Map<RegionLevel, Integer> export(RegionDataset dataset) throws SQLException {
+    List<Table<?>> tables =
+        List.of(
+            new Table<>(
+                RegionLevel.PROVINCE,
+                "provinces",
+                null,
+                dataset.provinces(),
+                (statement, province) -> {
+                  statement.setString(1, province.getCode());
+                  statement.setString(2, province.getName());
+                  statement.setDouble(3, province.getLatitude());
+                  statement.setDouble(4, province.getLongitude());
+                }),
+            new Table<>(
+                RegionLevel.CITY,
+                "cities",
+                "province_code",
+                dataset.cities(),
+                (statement, city) -> {
+                  statement.setString(1, city.getCode());
+                  statement.setString(2, city.getProvinceCode());
+                  statement.setString(3, city.getName());
+                  setDouble(statement, 4, city.getLatitude());
+                  setDouble(statement, 5, city.getLongitude());
+                }),
+            new Table<>(
+                RegionLevel.DISTRICT,
+                "districts",
+                "city_code",
+                dataset.districts(),
+                (statement, district) -> {
+                  statement.setString(1, district.getCode());
+                  statement.setString(2, district.getCityCode());
+                  statement.setString(3, district.getName());
+                  statement.setDouble(4, district.getLatitude());
+                  statement.setDouble(5, district.getLongitude());
+                }),
+            new Table<>(
+                RegionLevel.VILLAGE,
+                "villages",
+                "district_code",
+                dataset.villages(),
+                (statement, village) -> {
+                  statement.setString(1, village.getCode());
+                  statement.setString(2, village.getDistrictCode());
+                  statement.setString(3, village.getName());
+                  statement.setDouble(4, village.getLatitude());
+                  statement.setDouble(5, village.getLongitude());
+                  statement.setString(6, village.getPostalCode());
+                },
+                "postal_code"));
+
+    Map<RegionLevel, Integer> counts = new EnumMap<>(RegionLevel.class);
+    if (!options.isParallel()) {
+      for (Table<?> table : tables) {
+        counts.put(table.level, load(table));
+      }
+      return counts;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(tables.size());
+    try {
+      List<Future<Integer>> loads = new ArrayList<>();
+      for (Table<?> table : tables) {
+        loads.add(executor.submit(() -> load(table)));
+      }
+      for (int i = 0; i < tables.size(); i++) {
+        counts.put(tables.get(i).level, loads.get(i).get());
+      }
+      return counts;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof SQLException) {
+        throw (SQLException) e.getCause();
+      }
+      throw new RuntimeException("Failed to export regions", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while exporting regions", e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private <T> int load(Table<T> table) throws SQLException {
+    String name = options.getTablePrefix() + table.name;
+    try (Connection connection = dataSource.getConnection()) {
+      boolean autoCommit = connection.getAutoCommit();
+      try {
+        if (options.isCreateTables()) {
+          try (Statement statement = connection.createStatement()) {
+            statement.execute(createTable(name, table.columns()));
+          }
+        }
+        connection.setAutoCommit(false);
+        int rows = insert(connection, name, table);
+        if (options.isCreateIndexes() && table.parentColumn != null) {
+          try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                "CREATE INDEX idx_"
+                    + name
+                    + "_"
+                    + table.parentColumn
+                    + " ON "
+                    + name
+                    + " ("
+                    + table.parentColumn
+                    + ")");
+          }
+          connection.commit();
+        }
+        return rows;
+      } catch (SQLException e) {
+        if (!connection.getAutoCommit()) {
+          connection.rollback();
+        }
+        throw e;
+      } finally {
+        connection.setAutoCommit(autoCommit);
+      }
+    }
+  }
+
+  private <T> int insert(Connection connection, String name, Table<T> table) throws SQLException {
+    List<String> columns = table.columns();
+    String sql =
+        "INSERT INTO "
+            + name
+            + " ("
+            + String.join(", ", columns)
+            + ") VALUES ("
+            + String.join(", ", Collections.nCopies(columns.size(), "?"))
+            + ")";
+    int batchSize = options.getBatchSize();
+    int commitInterval = options.getCommitInterval();
+    int rows = 0;
+    int uncommitted = 0;
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      for (T region : table.index.all()) {
+        table.binder.bind(statement, region);
+        statement.addBatch();
+        rows++;
+        uncommitted++;
+        if (rows % batchSize == 0) {
+          statement.executeBatch();
+          if (uncommitted >= commitInterval) {
+            connection.commit();
+            uncommitted = 0;
+          }
+        }
+      }
+      if (rows % batchSize != 0) {
+        statement.executeBatch();
+      }
+      connection.commit();
+    }
+    return rows;
+  }
+
+  private static String createTable(String name, List<String> columns) {
+    StringBuilder sql = new StringBuilder("CREATE TABLE ").append(name).append(" (");
+    for (String column : columns) {
+      sql.append(column).append(' ').append(COLUMN_TYPES.get(column)).append(", ");
+    }
+    return sql.append("PRIMARY KEY (code))").toString();
+  }
+
+  private static void setDouble(PreparedStatement statement, int index, Double value)
+      throws SQLException {
+    if (value == null) {
+      statement.setNull(index, Types.DOUBLE);
+    } else {
+      statement.setDouble(index, value);
+    }
+  }
+
+  @FunctionalInterface
+  private interface RowBinder<T> {
+    void bind(PreparedStatement statement, T region) throws SQLException;
+  }
+
+  private static final class Table<T> {
+
+    final RegionLevel level;
+    final String name;
+    final String parentColumn;
+    final LevelIndex<T> index;
+    final RowBinder<T> binder;
+    final List<String> extraColumns;
+
+    Table(
+        RegionLevel level,
+        String name,
+        String parentColumn,
+        LevelIndex<T> index,
+        RowBinder<T> binder,
+        String... extraColumns) {
+      this.level = level;
+      this.name = name;
+      this.parentColumn = parentColumn;
+      this.index = index;
+      this.binder = binder;
+      this.extraColumns = List.of(extraColumns);
+    }
+
+    /** The columns in binding order. */
+    List<String> columns() {
+      List<String> columns = new ArrayList<>();
+      columns.add("code");
+      if (parentColumn != null) {
+        columns.add(parentColumn);
+      }
+      columns.addAll(List.of("name", "latitude", "longitude"));
+      columns.addAll(extraColumns);
+      return columns;
+    }
+  }
+}
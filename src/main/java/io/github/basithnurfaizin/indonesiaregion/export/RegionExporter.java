@@ -0,0 +1,363 @@
+package io.github.basithnurfaizin.indonesiaregion.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.opencsv.CSVWriter;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionVisitor;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams a whole dataset in hierarchical order: each province, then its cities, each followed by
+ * its districts and their villages.
+ *
+ * <p>Regions are written straight from the dataset indexes as they are walked, so memory use does
+ * not depend on the size of the dataset; no nested object graph is built, not even for {@link
+ * ExportFormat#JSON}. The target is flushed but not closed.
+ *
+ * <pre>{@code
+ * try (OutputStream out = Files.newOutputStream(Path.of("regions.jsonl"))) {
+ *   new RegionExporter(RegionDataset.shared()).export(ExportFormat.JSON_LINES, out);
+ * }
+ * }</pre>
+ */
+public class RegionExporter {
+
+  private static final JsonFactory JSON_FACTORY =
+      JsonFactory.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+
+  private final RegionDataset dataset;
+
+  public RegionExporter(RegionDataset dataset) {
+    this.dataset = dataset;
+  }
+
+  public void export(ExportFormat format, WritableByteChannel channel) throws IOException {
+    export(format, Channels.newOutputStream(channel));
+  }
+
+  public void export(ExportFormat format, OutputStream out) throws IOException {
+    try {
+      switch (format) {
+        case JSON_LINES:
+          try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            dataset.walk(new JsonLinesWriter(generator));
+          }
+          break;
+        case JSON:
+          try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartArray();
+            dataset.walk(new NestedJsonWriter(generator));
+            generator.writeEndArray();
+          }
+          break;
+        default:
+          Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+          CSVWriter csv = new CSVWriter(writer);
+          csv.writeNext(
+              new String[] {
+                "level", "code", "parent_code", "name", "latitude", "longitude", "postal_code"
+              },
+              false);
+          dataset.walk(new CsvWriter(csv));
+          csv.flush();
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static void writeCoordinates(JsonGenerator generator, Double latitude, Double longitude)
+      throws IOException {
+    if (latitude != null) {
+      generator.writeNumberField("latitude", latitude);
+    }
+    if (longitude != null) {
+      generator.writeNumberField("longitude", longitude);
+    }
+  }
+
+  /** Writes each region as one flat object per line. */
+  private static final class JsonLinesWriter implements RegionVisitor {
+
+    private final JsonGenerator generator;
+
+    JsonLinesWriter(JsonGenerator generator) {
+      this.generator = generator;
+    }
+
+    @Override
+    public void enterProvince(Province province) {
+      write(
+          "province",
+          province.getCode(),
+          null,
+          null,
+          province.getName(),
+          province.getLatitude(),
+          province.getLongitude(),
+          null);
+    }
+
+    @Override
+    public void enterCity(City city) {
+      write(
+          "city",
+          city.getCode(),
+          "provinceCode",
+          city.getProvinceCode(),
+          city.getName(),
+          city.getLatitude(),
+          city.getLongitude(),
+          null);
+    }
+
+    @Override
+    public void enterDistrict(District district) {
+      write(
+          "district",
+          district.getCode(),
+          "cityCode",
+          district.getCityCode(),
+          district.getName(),
+          district.getLatitude(),
+          district.getLongitude(),
+          null);
+    }
+
+    @Override
+    public void visitVillage(Village village) {
+      write(
+          "village",
+          village.getCode(),
+          "districtCode",
+          village.getDistrictCode(),
+          village.getName(),
+          village.getLatitude(),
+          village.getLongitude(),
+          village.getPostalCode());
+    }
+
+    private void write(
+        String level,
+        String code,
+        String parentField,
+        String parentCode,
+        String name,
+        Double latitude,
+        Double longitude,
+        String postalCode) {
+      try {
+        generator.writeStartObject();
+        generator.writeStringField("level", level);
+        generator.writeStringField("code", code);
+        if (parentField != null) {
+          generator.writeStringField(parentField, parentCode);
+        }
+        generator.writeStringField("name", name);
+        writeCoordinates(generator, latitude, longitude);
+        if (postalCode != null) {
+          generator.writeStringField("postalCode", postalCode);
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Writes provinces with their regions nested, opening each object and its child array on enter
+   * and closing them on leave.
+   */
+  private static final class NestedJsonWriter implements RegionVisitor {
+
+    private final JsonGenerator generator;
+    private boolean districtHasVillages;
+
+    NestedJsonWriter(JsonGenerator generator) {
+      this.generator = generator;
+    }
+
+    @Override
+    public void enterProvince(Province province) {
+      try {
+        generator.writeStartObject();
+        generator.writeStringField("code", province.getCode());
+        generator.writeStringField("name", province.getName());
+        writeCoordinates(generator, province.getLatitude(), province.getLongitude());
+        generator.writeArrayFieldStart("cities");
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void enterCity(City city) {
+      try {
+        generator.writeStartObject();
+        generator.writeStringField("code", city.getCode());
+        generator.writeStringField("provinceCode", city.getProvinceCode());
+        generator.writeStringField("name", city.getName());
+        writeCoordinates(generator, city.getLatitude(), city.getLongitude());
+        generator.writeArrayFieldStart("districts");
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void enterDistrict(District district) {
+      try {
+        generator.writeStartObject();
+        generator.writeStringField("code", district.getCode());
+        generator.writeStringField("name", district.getName());
+        generator.writeStringField("cityCode", district.getCityCode());
+        writeCoordinates(generator, district.getLatitude(), district.getLongitude());
+        generator.writeArrayFieldStart("villages");
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void visitVillage(Village village) {
+      try {
+        generator.writeStartObject();
+        generator.writeStringField("code", village.getCode());
+        generator.writeStringField("name", village.getName());
+        generator.writeStringField("districtCode", village.getDistrictCode());
+        generator.writeNumberField("longitude", village.getLongitude());
+        generator.writeNumberField("latitude", village.getLatitude());
+        if (village.getPostalCode() != null) {
+          generator.writeStringField("postalCode", village.getPostalCode());
+        }
+        generator.writeEndObject();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void leaveDistrict(District district) {
+      close();
+    }
+
+    @Override
+    public void leaveCity(City city) {
+      close();
+    }
+
+    @Override
+    public void leaveProvince(Province province) {
+      close();
+    }
+
+    /** Ends the child array and the region object. */
+    private void close() {
+      try {
+        generator.writeEndArray();
+        generator.writeEndObject();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /** Writes one CSV row per region. */
+  private static final class CsvWriter implements RegionVisitor {
+
+    private final CSVWriter csv;
+
+    CsvWriter(CSVWriter csv) {
+      this.csv = csv;
+    }
+
+    @Override
+    public void enterProvince(Province province) {
+      write(
+          "province",
+          province.getCode(),
+          "",
+          province.getName(),
+          province.getLatitude(),
+          province.getLongitude(),
+          null);
+    }
+
+    @Override
+    public void enterCity(City city) {
+      write(
+          "city",
+          city.getCode(),
+          city.getProvinceCode(),
+          city.getName(),
+          city.getLatitude(),
+          city.getLongitude(),
+          null);
+    }
+
+    @Override
+    public void enterDistrict(District district) {
+      write(
+          "district",
+          district.getCode(),
+          district.getCityCode(),
+          district.getName(),
+          district.getLatitude(),
+          district.getLongitude(),
+          null);
+    }
+
+    @Override
+    public void visitVillage(Village village) {
+      write(
+          "village",
+          village.getCode(),
+          village.getDistrictCode(),
+          village.getName(),
+          village.getLatitude(),
+          village.getLongitude(),
+          village.getPostalCode());
+    }
+
+    private void write(
+        String level,
+        String code,
+        String parentCode,
+        String name,
+        Double latitude,
+        Double longitude,
+        String postalCode) {
+      csv.writeNext(
+          new String[] {
+            level,
+            code,
+            parentCode,
+            name,
+            latitude == null ? "" : latitude.toString(),
+            longitude == null ? "" : longitude.toString(),
+            postalCode == null ? "" : postalCode
+          },
+          false);
+      if (csv.getException() != null) {
+        throw new UncheckedIOException(csv.getException());
+      }
+    }
+  }
+}
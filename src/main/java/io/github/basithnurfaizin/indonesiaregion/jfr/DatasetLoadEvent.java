@@ -0,0 +1,44 @@
+package io.github.basithnurfaizin.indonesiaregion.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** One loader phase: a whole level, or a single village shard. */
+@Name("io.github.basithnurfaizin.indonesiaregion.DatasetLoad")
+@Label("Region Dataset Load")
+@Category({"Indonesia Region", "Loading"})
+@Description("Parsing of one region CSV file into memory")
+@StackTrace(false)
+public class DatasetLoadEvent extends Event {
+
+  @Label("Level")
+  @Description("provinces, cities, districts or villages")
+  String level;
+
+  @Label("Shard")
+  @Description("Village shard file name, empty for single-file levels")
+  String shard;
+
+  @Label("Rows Parsed")
+  @Description("Rows loaded into memory; rows outside the province slice are not counted")
+  int rowsParsed;
+
+  @Label("Bytes Read")
+  @DataAmount
+  long bytesRead;
+
+  public void end(String level, String shard, int rowsParsed, long bytesRead) {
+    if (shouldCommit()) {
+      this.level = level;
+      this.shard = shard;
+      this.rowsParsed = rowsParsed;
+      this.bytesRead = bytesRead;
+      commit();
+    }
+  }
+}
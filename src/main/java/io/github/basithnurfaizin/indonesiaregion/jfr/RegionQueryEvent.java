@@ -0,0 +1,48 @@
+package io.github.basithnurfaizin.indonesiaregion.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@link io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService} call. Nested list
+ * queries issued while expanding {@code includes} are recorded as their own events.
+ */
+@Name("io.github.basithnurfaizin.indonesiaregion.RegionQuery")
+@Label("Region Query")
+@Category({"Indonesia Region", "Query"})
+@Description("A region lookup or listing served by IndonesiaService")
+@StackTrace(false)
+public class RegionQueryEvent extends Event {
+
+  @Label("Method")
+  String method;
+
+  @Label("Code")
+  @Description("Region code, or parent region code for listings")
+  String code;
+
+  @Label("Keyword Length")
+  int keywordLength;
+
+  @Label("Candidates Scanned")
+  long candidatesScanned;
+
+  @Label("Results Returned")
+  long resultsReturned;
+
+  public void end(
+      String method, String code, String keyword, long candidatesScanned, long resultsReturned) {
+    if (shouldCommit()) {
+      this.method = method;
+      this.code = code;
+      this.keywordLength = keyword == null ? 0 : keyword.length();
+      this.candidatesScanned = candidatesScanned;
+      this.resultsReturned = resultsReturned;
+      commit();
+    }
+  }
+}
@@ -1,8 +1,13 @@
 package io.github.basithnurfaizin.indonesiaregion.loader;
 
 import com.opencsv.CSVReader;
+import io.github.basithnurfaizin.indonesiaregion.jfr.DatasetLoadEvent;
 import io.github.basithnurfaizin.indonesiaregion.model.City;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -10,17 +15,46 @@ import java.util.Objects;
 public class CityLoader {
 
   public static Map<String, City> loadCities() {
+    return loadCities(ProvinceSlice.ALL);
+  }
+
+  /** Loads the bundled cities of the given provinces only. */
+  public static Map<String, City> loadCities(ProvinceSlice slice) {
+    return loadCities(CityLoader.class.getResourceAsStream("/data/cities.csv"), slice);
+  }
+
+  /** Loads {@code cities.csv} from a directory laid out like {@code src/main/resources/data}. */
+  public static Map<String, City> loadCities(Path dataDirectory) {
+    return loadCities(dataDirectory, ProvinceSlice.ALL);
+  }
+
+  /** Like {@link #loadCities(Path)}, keeping only the cities in the slice. */
+  public static Map<String, City> loadCities(Path dataDirectory, ProvinceSlice slice) {
+    InputStream source;
+    try {
+      source = Files.newInputStream(dataDirectory.resolve("cities.csv"));
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to load cities", e);
+    }
+    return loadCities(source, slice);
+  }
+
+  private static Map<String, City> loadCities(InputStream source, ProvinceSlice slice) {
 
     Map<String, City> cities = new HashMap<>();
 
-    try (CSVReader reader =
-        new CSVReader(
-            new InputStreamReader(
-                Objects.requireNonNull(
-                    CityLoader.class.getResourceAsStream("/data/cities.csv"))))) {
+    DatasetLoadEvent event = new DatasetLoadEvent();
+    event.begin();
+    int rows = 0;
+
+    try (CountingInputStream input =
+            new CountingInputStream(Objects.requireNonNull(source, "Missing cities.csv"));
+        CSVReader reader = new CSVReader(new InputStreamReader(input))) {
       String[] line;
       while ((line = reader.readNext()) != null) {
         if (line[0].equalsIgnoreCase("code")) continue;
+        if (!slice.includes(line[0])) continue;
+        rows++;
         cities.put(
             line[0],
             City.builder()
@@ -31,6 +65,7 @@ public class CityLoader {
                 .longitude(Double.parseDouble(line[4]))
                 .build());
       }
+      event.end("cities", "", rows, input.getCount());
     } catch (Exception e) {
       throw new RuntimeException("Failed to load cities", e);
     }
@@ -1,8 +1,13 @@
 package io.github.basithnurfaizin.indonesiaregion.loader;
 
 import com.opencsv.CSVReader;
+import io.github.basithnurfaizin.indonesiaregion.jfr.DatasetLoadEvent;
 import io.github.basithnurfaizin.indonesiaregion.model.District;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -10,17 +15,46 @@ import java.util.Objects;
 public class DistrictLoader {
 
   public static Map<String, District> loadDistricts() {
+    return loadDistricts(ProvinceSlice.ALL);
+  }
+
+  /** Loads the bundled districts of the given provinces only. */
+  public static Map<String, District> loadDistricts(ProvinceSlice slice) {
+    return loadDistricts(DistrictLoader.class.getResourceAsStream("/data/districts.csv"), slice);
+  }
+
+  /** Loads {@code districts.csv} from a directory laid out like {@code src/main/resources/data}. */
+  public static Map<String, District> loadDistricts(Path dataDirectory) {
+    return loadDistricts(dataDirectory, ProvinceSlice.ALL);
+  }
+
+  /** Like {@link #loadDistricts(Path)}, keeping only the districts in the slice. */
+  public static Map<String, District> loadDistricts(Path dataDirectory, ProvinceSlice slice) {
+    InputStream source;
+    try {
+      source = Files.newInputStream(dataDirectory.resolve("districts.csv"));
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to load districts", e);
+    }
+    return loadDistricts(source, slice);
+  }
+
+  private static Map<String, District> loadDistricts(InputStream source, ProvinceSlice slice) {
 
     Map<String, District> district = new HashMap<>();
 
-    try (CSVReader reader =
-        new CSVReader(
-            new InputStreamReader(
-                Objects.requireNonNull(
-                    CityLoader.class.getResourceAsStream("/data/districts.csv"))))) {
+    DatasetLoadEvent event = new DatasetLoadEvent();
+    event.begin();
+    int rows = 0;
+
+    try (CountingInputStream input =
+            new CountingInputStream(Objects.requireNonNull(source, "Missing districts.csv"));
+        CSVReader reader = new CSVReader(new InputStreamReader(input))) {
       String[] line;
       while ((line = reader.readNext()) != null) {
         if (line[0].equalsIgnoreCase("code")) continue;
+        if (!slice.includes(line[0])) continue;
+        rows++;
         district.put(
             line[0],
             District.builder()
@@ -31,8 +65,9 @@ public class DistrictLoader {
                 .longitude(parseDoubleOrDefault(line[4]))
                 .build());
       }
+      event.end("districts", "", rows, input.getCount());
     } catch (Exception e) {
-      throw new RuntimeException("Failed to load cities", e);
+      throw new RuntimeException("Failed to load districts", e);
     }
 
     return district;
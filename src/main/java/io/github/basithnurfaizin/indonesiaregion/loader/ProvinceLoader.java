@@ -1,8 +1,13 @@
 package io.github.basithnurfaizin.indonesiaregion.loader;
 
 import com.opencsv.CSVReader;
+import io.github.basithnurfaizin.indonesiaregion.jfr.DatasetLoadEvent;
 import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -10,17 +15,46 @@ import java.util.Objects;
 public class ProvinceLoader {
 
   public static Map<String, Province> loadProvinces() {
+    return loadProvinces(ProvinceSlice.ALL);
+  }
+
+  /** Loads the bundled provinces of the given provinces only. */
+  public static Map<String, Province> loadProvinces(ProvinceSlice slice) {
+    return loadProvinces(ProvinceLoader.class.getResourceAsStream("/data/provinces.csv"), slice);
+  }
+
+  /** Loads {@code provinces.csv} from a directory laid out like {@code src/main/resources/data}. */
+  public static Map<String, Province> loadProvinces(Path dataDirectory) {
+    return loadProvinces(dataDirectory, ProvinceSlice.ALL);
+  }
+
+  /** Like {@link #loadProvinces(Path)}, keeping only the provinces in the slice. */
+  public static Map<String, Province> loadProvinces(Path dataDirectory, ProvinceSlice slice) {
+    InputStream source;
+    try {
+      source = Files.newInputStream(dataDirectory.resolve("provinces.csv"));
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to load provinces", e);
+    }
+    return loadProvinces(source, slice);
+  }
+
+  private static Map<String, Province> loadProvinces(InputStream source, ProvinceSlice slice) {
 
     Map<String, Province> provinces = new HashMap<>();
 
-    try (CSVReader reader =
-        new CSVReader(
-            new InputStreamReader(
-                Objects.requireNonNull(
-                    ProvinceLoader.class.getResourceAsStream("/data/provinces.csv"))))) {
+    DatasetLoadEvent event = new DatasetLoadEvent();
+    event.begin();
+    int rows = 0;
+
+    try (CountingInputStream input =
+            new CountingInputStream(Objects.requireNonNull(source, "Missing provinces.csv"));
+        CSVReader reader = new CSVReader(new InputStreamReader(input))) {
       String[] line;
       while ((line = reader.readNext()) != null) {
         if (line[0].equalsIgnoreCase("code")) continue;
+        if (!slice.includes(line[0])) continue;
+        rows++;
         provinces.put(
             line[0],
             Province.builder()
@@ -30,6 +64,7 @@ public class ProvinceLoader {
                 .longitude(Double.parseDouble(line[3]))
                 .build());
       }
+      event.end("provinces", "", rows, input.getCount());
     } catch (Exception e) {
       throw new RuntimeException("Failed to load provinces", e);
     }
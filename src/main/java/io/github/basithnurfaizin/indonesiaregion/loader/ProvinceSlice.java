@@ -0,0 +1,79 @@
+package io.github.basithnurfaizin.indonesiaregion.loader;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The provinces a dataset is restricted to. Region codes start with the code of their province, so
+ * a region belongs to the slice when its first two digits are one of the chosen province codes.
+ *
+ * <p>The process-wide dataset honours the {@value #PROPERTY} system property, a comma separated
+ * list of province codes, e.g. {@code -Dindonesia.region.provinces=31,32}.
+ */
+public final class ProvinceSlice {
+
+  public static final String PROPERTY = "indonesia.region.provinces";
+
+  /** Every province. */
+  public static final ProvinceSlice ALL = new ProvinceSlice(null);
+
+  private static final int PROVINCE_CODE_LENGTH = 2;
+
+  private final Set<String> provinceCodes;
+
+  private ProvinceSlice(Set<String> provinceCodes) {
+    this.provinceCodes = provinceCodes;
+  }
+
+  public static ProvinceSlice of(String... provinceCodes) {
+    return of(Arrays.asList(provinceCodes));
+  }
+
+  public static ProvinceSlice of(Collection<String> provinceCodes) {
+    Set<String> codes = new TreeSet<>();
+    for (String code : provinceCodes) {
+      String trimmed = code.trim();
+      if (trimmed.length() != PROVINCE_CODE_LENGTH) {
+        throw new IllegalArgumentException("Invalid province code: " + code);
+      }
+      codes.add(trimmed);
+    }
+    if (codes.isEmpty()) {
+      throw new IllegalArgumentException("A province slice needs at least one province");
+    }
+    return new ProvinceSlice(Set.copyOf(codes));
+  }
+
+  /** The slice configured by the {@value #PROPERTY} system property, or {@link #ALL}. */
+  public static ProvinceSlice fromSystemProperty() {
+    String value = System.getProperty(PROPERTY);
+    if (value == null || value.isBlank()) {
+      return ALL;
+    }
+    return of(Arrays.asList(value.split(",")));
+  }
+
+  /** Whether the region with the given code, of any level, lies in the slice. */
+  public boolean includes(String regionCode) {
+    return provinceCodes == null
+        || (regionCode != null
+            && regionCode.length() >= PROVINCE_CODE_LENGTH
+            && provinceCodes.contains(regionCode.substring(0, PROVINCE_CODE_LENGTH)));
+  }
+
+  public boolean isAll() {
+    return provinceCodes == null;
+  }
+
+  /** The chosen province codes, or an empty set for {@link #ALL}. */
+  public Set<String> getProvinceCodes() {
+    return provinceCodes == null ? Set.of() : provinceCodes;
+  }
+
+  @Override
+  public String toString() {
+    return isAll() ? "ALL" : String.join(",", new TreeSet<>(provinceCodes));
+  }
+}
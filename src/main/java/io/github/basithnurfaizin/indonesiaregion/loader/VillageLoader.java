@@ -1,8 +1,14 @@
 package io.github.basithnurfaizin.indonesiaregion.loader;
 
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import io.github.basithnurfaizin.indonesiaregion.jfr.DatasetLoadEvent;
 import io.github.basithnurfaizin.indonesiaregion.model.Village;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -14,52 +20,107 @@ import java.util.stream.Stream;
 public class VillageLoader {
 
   public static Map<String, Village> loadVillages() {
-    Map<String, Village> villages = new HashMap<>();
+    return loadVillages(ProvinceSlice.ALL);
+  }
 
+  /** Loads the bundled villages of the given provinces, opening only their shards. */
+  public static Map<String, Village> loadVillages(ProvinceSlice slice) {
     try {
       // Load resource folder
       URL resource = VillageLoader.class.getClassLoader().getResource("data/villages");
       if (resource == null) {
         return Collections.emptyMap();
       }
-
-      Path path = Paths.get(resource.toURI());
-      if (!Files.exists(path)) {
-        return Collections.emptyMap();
-      }
-
-      // Walk through CSV files
-      try (Stream<Path> files = Files.walk(path)) {
-        files
-            .filter(Files::isRegularFile)
-            .filter(f -> f.toString().endsWith(".csv"))
-            .forEach(file -> loadVillageFile(file, villages));
-      }
-
+      return loadShards(Paths.get(resource.toURI()), slice, false);
     } catch (Exception e) {
       e.printStackTrace();
       return Collections.emptyMap();
     }
+  }
+
+  /**
+   * Loads every {@code villages/*.csv} shard from a directory laid out like {@code
+   * src/main/resources/data}.
+   */
+  public static Map<String, Village> loadVillages(Path dataDirectory) {
+    return loadVillages(dataDirectory, ProvinceSlice.ALL);
+  }
 
+  /**
+   * Loads the {@code villages/<province code>.csv} shards of the given provinces. Fails if any
+   * shard cannot be read, so that a reload never publishes a dataset missing whole provinces.
+   */
+  public static Map<String, Village> loadVillages(Path dataDirectory, ProvinceSlice slice) {
+    try {
+      return loadShards(dataDirectory.resolve("villages"), slice, true);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to load villages", e);
+    }
+  }
+
+  /**
+   * @param strict whether a shard that cannot be read fails the load instead of being reported and
+   *     skipped
+   */
+  private static Map<String, Village> loadShards(Path path, ProvinceSlice slice, boolean strict)
+      throws IOException {
+    Map<String, Village> villages = new HashMap<>();
+    if (!Files.exists(path)) {
+      return villages;
+    }
+
+    if (!slice.isAll()) {
+      for (String provinceCode : slice.getProvinceCodes()) {
+        Path shard = path.resolve(provinceCode + ".csv");
+        if (Files.isRegularFile(shard)) {
+          loadVillageFile(shard, slice, villages, strict);
+        }
+      }
+      return villages;
+    }
+
+    // Walk through CSV files
+    try (Stream<Path> files = Files.walk(path)) {
+      files
+          .filter(Files::isRegularFile)
+          .filter(f -> f.toString().endsWith(".csv"))
+          .forEach(file -> loadVillageFile(file, slice, villages, strict));
+    }
     return villages;
   }
 
-  private static void loadVillageFile(Path file, Map<String, Village> villages) {
-    try (Stream<String> lines = Files.lines(file)) {
-      lines.forEach(
-          line -> {
-            String[] cols = line.split(",");
-            if (cols.length >= 5) {
-              String code = cols[0].trim();
-              String districtCode = cols[1].trim();
-              String name = cols[2].trim();
-              double lat = parseDoubleOrDefault(cols[3]);
-              double lng = parseDoubleOrDefault(cols[4]);
+  private static void loadVillageFile(
+      Path file, ProvinceSlice slice, Map<String, Village> villages, boolean strict) {
+    DatasetLoadEvent event = new DatasetLoadEvent();
+    event.begin();
+    int rows = 0;
 
-              villages.put(code, new Village(code, name, districtCode, lat, lng));
-            }
-          });
-    } catch (IOException e) {
+    try (CountingInputStream input = new CountingInputStream(Files.newInputStream(file));
+        CSVReader reader = new CSVReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+      String[] cols;
+      while ((cols = reader.readNext()) != null) {
+        if (cols.length >= 5) {
+          String code = cols[0].trim();
+          if (!slice.includes(code)) continue;
+          rows++;
+
+          villages.put(
+              code,
+              Village.builder()
+                  .code(code)
+                  .districtCode(cols[1].trim())
+                  .name(cols[2].trim())
+                  .latitude(parseDoubleOrDefault(cols[3]))
+                  .longitude(parseDoubleOrDefault(cols[4]))
+                  .postalCode(cols.length > 5 && !cols[5].isBlank() ? cols[5].trim() : null)
+                  .build());
+        }
+      }
+      event.end("villages", file.getFileName().toString(), rows, input.getCount());
+    } catch (IOException | CsvValidationException e) {
+      if (strict) {
+        throw new RuntimeException("Failed to load villages from " + file, e);
+      }
       System.err.println("❌ Error reading file: " + file);
       e.printStackTrace();
     }
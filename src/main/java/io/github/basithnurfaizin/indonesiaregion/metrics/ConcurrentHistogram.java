@@ -0,0 +1,102 @@
+package io.github.basithnurfaizin.indonesiaregion.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative long values with HDR-style log-linear buckets.
+ *
+ * <p>Values below 32 are counted exactly; larger values fall into one of 32 linear sub-buckets per
+ * power of two, which bounds the relative error of reported percentiles to about 3%. Recording is a
+ * single atomic increment plus two uncontended adders, so it is safe on hot paths.
+ */
+public final class ConcurrentHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  public void record(long value) {
+    long v = Math.max(0, value);
+    counts.incrementAndGet(indexOf(v));
+    count.increment();
+    sum.add(v);
+    long current;
+    while (v > (current = max.get()) && !max.compareAndSet(current, v)) {
+      // retry until max is at least v
+    }
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public double getMean() {
+    long n = count.sum();
+    return n == 0 ? 0 : (double) sum.sum() / n;
+  }
+
+  /**
+   * Returns the highest value equivalent to the given percentile (0-100), or {@code 0} when nothing
+   * has been recorded.
+   */
+  public long getPercentile(double percentile) {
+    long total = 0;
+    long[] snapshot = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100.0 * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return Math.min(highestEquivalentValue(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts.set(i, 0);
+    }
+    count.reset();
+    sum.reset();
+    max.set(0);
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int msb = 63 - Long.numberOfLeadingZeros(value);
+    int group = msb - SUB_BUCKET_BITS + 1;
+    int sub = (int) (value >>> (msb - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return group * SUB_BUCKET_COUNT + sub;
+  }
+
+  static long highestEquivalentValue(int index) {
+    int group = index / SUB_BUCKET_COUNT;
+    int sub = index % SUB_BUCKET_COUNT;
+    if (group == 0) {
+      return sub;
+    }
+    long lowest = (long) (SUB_BUCKET_COUNT | sub) << (group - 1);
+    return lowest + (1L << (group - 1)) - 1;
+  }
+}
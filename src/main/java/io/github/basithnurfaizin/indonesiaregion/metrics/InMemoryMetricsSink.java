@@ -0,0 +1,30 @@
+package io.github.basithnurfaizin.indonesiaregion.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/** Aggregates measurements in memory, one {@link OperationMetrics} per {@link Operation}. */
+public class InMemoryMetricsSink implements MetricsSink {
+
+  private final Map<Operation, OperationMetrics> metrics = new EnumMap<>(Operation.class);
+
+  public InMemoryMetricsSink() {
+    for (Operation operation : Operation.values()) {
+      metrics.put(operation, new OperationMetrics(operation));
+    }
+  }
+
+  @Override
+  public void record(Operation operation, long latencyNanos, int resultSize, boolean keyword) {
+    metrics.get(operation).record(latencyNanos, resultSize, keyword);
+  }
+
+  public OperationMetrics get(Operation operation) {
+    return metrics.get(operation);
+  }
+
+  public Map<Operation, OperationMetrics> getAll() {
+    return Collections.unmodifiableMap(metrics);
+  }
+}
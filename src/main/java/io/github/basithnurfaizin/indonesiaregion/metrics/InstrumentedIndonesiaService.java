@@ -0,0 +1,122 @@
+package io.github.basithnurfaizin.indonesiaregion.metrics;
+
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionNode;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionStats;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import io.github.basithnurfaizin.indonesiaregion.query.RegionQuery;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService;
+import io.github.basithnurfaizin.indonesiaregion.service.RegionCounts;
+import io.github.basithnurfaizin.indonesiaregion.service.SearchMode;
+import java.util.List;
+
+/**
+ * Decorates an {@link IndonesiaService} and reports the latency and result size of every call to a
+ * {@link MetricsSink}.
+ *
+ * <pre>{@code
+ * JmxMetricsSink sink = new JmxMetricsSink("default");
+ * IndonesiaService service = new InstrumentedIndonesiaService(new IndonesiaServiceImpl(), sink);
+ * }</pre>
+ */
+public class InstrumentedIndonesiaService implements IndonesiaService {
+
+  private final IndonesiaService delegate;
+  private final MetricsSink sink;
+
+  public InstrumentedIndonesiaService(IndonesiaService delegate, MetricsSink sink) {
+    this.delegate = delegate;
+    this.sink = sink;
+  }
+
+  @Override
+  public List<Province> getProvinces(String keyword) {
+    long start = System.nanoTime();
+    List<Province> result = delegate.getProvinces(keyword);
+    sink.record(
+        Operation.GET_PROVINCES, System.nanoTime() - start, result.size(), hasText(keyword));
+    return result;
+  }
+
+  @Override
+  public List<City> getCities(String provinceCode, String keyword) {
+    long start = System.nanoTime();
+    List<City> result = delegate.getCities(provinceCode, keyword);
+    sink.record(Operation.GET_CITIES, System.nanoTime() - start, result.size(), hasText(keyword));
+    return result;
+  }
+
+  @Override
+  public List<District> getDistricts(String cityCode, String keyword) {
+    long start = System.nanoTime();
+    List<District> result = delegate.getDistricts(cityCode, keyword);
+    sink.record(
+        Operation.GET_DISTRICTS, System.nanoTime() - start, result.size(), hasText(keyword));
+    return result;
+  }
+
+  @Override
+  public List<Village> getVillages(String districtCode, String keyword) {
+    long start = System.nanoTime();
+    List<Village> result = delegate.getVillages(districtCode, keyword);
+    sink.record(Operation.GET_VILLAGES, System.nanoTime() - start, result.size(), hasText(keyword));
+    return result;
+  }
+
+  @Override
+  public Province getProvince(String provinceCode, List<String> includes) {
+    long start = System.nanoTime();
+    Province result = delegate.getProvince(provinceCode, includes);
+    sink.record(
+        Operation.GET_PROVINCE, System.nanoTime() - start, RegionCounts.count(result), false);
+    return result;
+  }
+
+  @Override
+  public City getCity(String cityCode, List<String> includes) {
+    long start = System.nanoTime();
+    City result = delegate.getCity(cityCode, includes);
+    sink.record(Operation.GET_CITY, System.nanoTime() - start, RegionCounts.count(result), false);
+    return result;
+  }
+
+  @Override
+  public District getDistrict(String districtCode, List<String> includes) {
+    long start = System.nanoTime();
+    District result = delegate.getDistrict(districtCode, includes);
+    sink.record(
+        Operation.GET_DISTRICT, System.nanoTime() - start, RegionCounts.count(result), false);
+    return result;
+  }
+
+  @Override
+  public RegionStats getStats(String code) {
+    long start = System.nanoTime();
+    RegionStats result = delegate.getStats(code);
+    sink.record(Operation.GET_STATS, System.nanoTime() - start, result == null ? 0 : 1, false);
+    return result;
+  }
+
+  @Override
+  public <T> List<T> query(RegionQuery<T> query) {
+    long start = System.nanoTime();
+    List<T> result = delegate.query(query);
+    sink.record(
+        Operation.QUERY, System.nanoTime() - start, result.size(), hasText(query.getName()));
+    return result;
+  }
+
+  @Override
+  public List<RegionNode> search(String text, SearchMode mode) {
+    long start = System.nanoTime();
+    List<RegionNode> result = delegate.search(text, mode);
+    sink.record(Operation.SEARCH, System.nanoTime() - start, result.size(), hasText(text));
+    return result;
+  }
+
+  private static boolean hasText(String keyword) {
+    return keyword != null && !keyword.isBlank();
+  }
+}
@@ -0,0 +1,57 @@
+package io.github.basithnurfaizin.indonesiaregion.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * {@link InMemoryMetricsSink} that publishes each operation as an {@link OperationMetricsMXBean}
+ * under {@code io.github.basithnurfaizin.indonesiaregion:type=IndonesiaService,name=<name>,
+ * operation=<method>}.
+ */
+public class JmxMetricsSink extends InMemoryMetricsSink implements AutoCloseable {
+
+  public static final String DOMAIN = "io.github.basithnurfaizin.indonesiaregion";
+
+  private final MBeanServer server;
+  private final List<ObjectName> registered = new ArrayList<>();
+
+  public JmxMetricsSink(String name) {
+    this(name, ManagementFactory.getPlatformMBeanServer());
+  }
+
+  public JmxMetricsSink(String name, MBeanServer server) {
+    this.server = server;
+    try {
+      for (OperationMetrics metrics : getAll().values()) {
+        ObjectName objectName =
+            new ObjectName(
+                DOMAIN
+                    + ":type=IndonesiaService,name="
+                    + ObjectName.quote(name)
+                    + ",operation="
+                    + metrics.getOperation().getMethodName());
+        server.registerMBean(metrics, objectName);
+        registered.add(objectName);
+      }
+    } catch (JMException e) {
+      close();
+      throw new IllegalStateException("Failed to register metrics MBeans for " + name, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    for (ObjectName objectName : registered) {
+      try {
+        server.unregisterMBean(objectName);
+      } catch (JMException ignored) {
+        // already unregistered
+      }
+    }
+    registered.clear();
+  }
+}
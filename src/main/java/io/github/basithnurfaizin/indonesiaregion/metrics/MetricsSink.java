@@ -0,0 +1,19 @@
+package io.github.basithnurfaizin.indonesiaregion.metrics;
+
+/**
+ * Receives one measurement per service call. Implementations are invoked on the calling thread and
+ * must be thread-safe and cheap.
+ */
+public interface MetricsSink {
+
+  MetricsSink NOOP = (operation, latencyNanos, resultSize, keyword) -> {};
+
+  /**
+   * @param operation the service method that was called
+   * @param latencyNanos wall-clock duration of the call
+   * @param resultSize number of regions returned, counting every nested region of an expanded
+   *     result; {@code 0} when nothing was found
+   * @param keyword whether the call was a keyword search rather than a plain listing or lookup
+   */
+  void record(Operation operation, long latencyNanos, int resultSize, boolean keyword);
+}
@@ -0,0 +1,25 @@
+package io.github.basithnurfaizin.indonesiaregion.metrics;
+
+/** The {@link io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService} methods. */
+public enum Operation {
+  GET_PROVINCES("getProvinces"),
+  GET_CITIES("getCities"),
+  GET_DISTRICTS("getDistricts"),
+  GET_VILLAGES("getVillages"),
+  GET_PROVINCE("getProvince"),
+  GET_CITY("getCity"),
+  GET_DISTRICT("getDistrict"),
+  GET_STATS("getStats"),
+  QUERY("query"),
+  SEARCH("search");
+
+  private final String methodName;
+
+  Operation(String methodName) {
+    this.methodName = methodName;
+  }
+
+  public String getMethodName() {
+    return methodName;
+  }
+}
@@ -0,0 +1,124 @@
+package io.github.basithnurfaizin.indonesiaregion.metrics;
+
+/**
+ * Call counts, latency and result-size histograms for one {@link Operation}, split between keyword
+ * searches and plain scans or lookups.
+ */
+public class OperationMetrics implements OperationMetricsMXBean {
+
+  private static final double NANOS_PER_MICRO = 1_000.0;
+
+  private final Operation operation;
+  private final ConcurrentHistogram latency = new ConcurrentHistogram();
+  private final ConcurrentHistogram keywordLatency = new ConcurrentHistogram();
+  private final ConcurrentHistogram scanLatency = new ConcurrentHistogram();
+  private final ConcurrentHistogram resultSize = new ConcurrentHistogram();
+
+  public OperationMetrics(Operation operation) {
+    this.operation = operation;
+  }
+
+  void record(long latencyNanos, int size, boolean keyword) {
+    latency.record(latencyNanos);
+    (keyword ? keywordLatency : scanLatency).record(latencyNanos);
+    resultSize.record(size);
+  }
+
+  public Operation getOperation() {
+    return operation;
+  }
+
+  public ConcurrentHistogram getLatencyHistogram() {
+    return latency;
+  }
+
+  public ConcurrentHistogram getKeywordLatencyHistogram() {
+    return keywordLatency;
+  }
+
+  public ConcurrentHistogram getScanLatencyHistogram() {
+    return scanLatency;
+  }
+
+  public ConcurrentHistogram getResultSizeHistogram() {
+    return resultSize;
+  }
+
+  @Override
+  public long getCallCount() {
+    return latency.getCount();
+  }
+
+  @Override
+  public long getKeywordCallCount() {
+    return keywordLatency.getCount();
+  }
+
+  @Override
+  public long getScanCallCount() {
+    return scanLatency.getCount();
+  }
+
+  @Override
+  public double getMeanLatencyMicros() {
+    return latency.getMean() / NANOS_PER_MICRO;
+  }
+
+  @Override
+  public double getP50LatencyMicros() {
+    return latency.getPercentile(50) / NANOS_PER_MICRO;
+  }
+
+  @Override
+  public double getP90LatencyMicros() {
+    return latency.getPercentile(90) / NANOS_PER_MICRO;
+  }
+
+  @Override
+  public double getP99LatencyMicros() {
+    return latency.getPercentile(99) / NANOS_PER_MICRO;
+  }
+
+  @Override
+  public double getP999LatencyMicros() {
+    return latency.getPercentile(99.9) / NANOS_PER_MICRO;
+  }
+
+  @Override
+  public double getMaxLatencyMicros() {
+    return latency.getMax() / NANOS_PER_MICRO;
+  }
+
+  @Override
+  public double getKeywordP99LatencyMicros() {
+    return keywordLatency.getPercentile(99) / NANOS_PER_MICRO;
+  }
+
+  @Override
+  public double getScanP99LatencyMicros() {
+    return scanLatency.getPercentile(99) / NANOS_PER_MICRO;
+  }
+
+  @Override
+  public double getMeanResultSize() {
+    return resultSize.getMean();
+  }
+
+  @Override
+  public long getP99ResultSize() {
+    return resultSize.getPercentile(99);
+  }
+
+  @Override
+  public long getMaxResultSize() {
+    return resultSize.getMax();
+  }
+
+  @Override
+  public void reset() {
+    latency.reset();
+    keywordLatency.reset();
+    scanLatency.reset();
+    resultSize.reset();
+  }
+}
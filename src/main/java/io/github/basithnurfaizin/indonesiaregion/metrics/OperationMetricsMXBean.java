@@ -0,0 +1,35 @@
+package io.github.basithnurfaizin.indonesiaregion.metrics;
+
+/** JMX view of the metrics recorded for one {@link Operation}. Latencies are in microseconds. */
+public interface OperationMetricsMXBean {
+
+  long getCallCount();
+
+  long getKeywordCallCount();
+
+  long getScanCallCount();
+
+  double getMeanLatencyMicros();
+
+  double getP50LatencyMicros();
+
+  double getP90LatencyMicros();
+
+  double getP99LatencyMicros();
+
+  double getP999LatencyMicros();
+
+  double getMaxLatencyMicros();
+
+  double getKeywordP99LatencyMicros();
+
+  double getScanP99LatencyMicros();
+
+  double getMeanResultSize();
+
+  long getP99ResultSize();
+
+  long getMaxResultSize();
+
+  void reset();
+}
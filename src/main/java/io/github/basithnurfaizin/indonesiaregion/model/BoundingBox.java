@@ -0,0 +1,25 @@
+package io.github.basithnurfaizin.indonesiaregion.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/** An immutable latitude/longitude rectangle, edges included. */
+@Value
+@AllArgsConstructor
+public class BoundingBox {
+
+  double minLatitude;
+
+  double minLongitude;
+
+  double maxLatitude;
+
+  double maxLongitude;
+
+  public boolean contains(double latitude, double longitude) {
+    return latitude >= minLatitude
+        && latitude <= maxLatitude
+        && longitude >= minLongitude
+        && longitude <= maxLongitude;
+  }
+}
@@ -0,0 +1,17 @@
+package io.github.basithnurfaizin.indonesiaregion.model;
+
+/** Checks on the centroid coordinates regions are loaded with. */
+public final class Centroids {
+
+  private Centroids() {}
+
+  /**
+   * Whether the coordinates are a real centroid. The loaders read a blank centroid as {@code 0, 0},
+   * a point in the Gulf of Guinea that no Indonesian region can have.
+   */
+  public static boolean isKnown(double latitude, double longitude) {
+    return !Double.isNaN(latitude)
+        && !Double.isNaN(longitude)
+        && !(latitude == 0 && longitude == 0);
+  }
+}
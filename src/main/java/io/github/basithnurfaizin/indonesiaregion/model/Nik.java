@@ -0,0 +1,29 @@
+package io.github.basithnurfaizin.indonesiaregion.model;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A decoded NIK (Nomor Induk Kependudukan): the district it was issued in with its city and
+ * province, and the holder's birth date and sex.
+ */
+@Data
+@AllArgsConstructor
+public class Nik {
+
+  private String number;
+
+  private Province province;
+
+  private City city;
+
+  private District district;
+
+  private LocalDate birthDate;
+
+  private Sex sex;
+
+  /** The registration number among people of the district born on the same day, from 1. */
+  private int serial;
+}
@@ -0,0 +1,9 @@
+package io.github.basithnurfaizin.indonesiaregion.model;
+
+/** The four administrative levels, from the top of the hierarchy down. */
+public enum RegionLevel {
+  PROVINCE,
+  CITY,
+  DISTRICT,
+  VILLAGE
+}
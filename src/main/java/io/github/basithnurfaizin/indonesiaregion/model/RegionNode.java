@@ -0,0 +1,24 @@
+package io.github.basithnurfaizin.indonesiaregion.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One region of a streamed hierarchy: a {@link Province}, {@link City}, {@link District} or {@link
+ * Village}, as told by {@code level}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RegionNode {
+
+  private RegionLevel level;
+
+  private Object region;
+
+  /** The region as the given type; fails if it is of another level. */
+  public <T> T getRegion(Class<T> type) {
+    return type.cast(region);
+  }
+}
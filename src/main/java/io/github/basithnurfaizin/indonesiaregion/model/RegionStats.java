@@ -0,0 +1,36 @@
+package io.github.basithnurfaizin.indonesiaregion.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Aggregates of a region and everything below it, or of the whole dataset when {@code code} is
+ * {@code null}. Counts are only set for the levels below the region: a city has districts and
+ * villages, a district only villages. Immutable, so the cached aggregates can be handed out as is.
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@AllArgsConstructor
+public class RegionStats {
+
+  String code;
+
+  RegionLevel level;
+
+  Integer provinces;
+
+  Integer cities;
+
+  Integer districts;
+
+  Integer villages;
+
+  /** Distinct village postal codes. */
+  int postalCodes;
+
+  /** The box around the centroids of the region and all regions below it. */
+  BoundingBox boundingBox;
+}
@@ -0,0 +1,7 @@
+package io.github.basithnurfaizin.indonesiaregion.model;
+
+/** The sex recorded in a NIK, whose birth day is 40 higher for women. */
+public enum Sex {
+  MALE,
+  FEMALE
+}
@@ -21,4 +21,12 @@ public class Village {
 
   private double longitude;
   private double latitude;
+
+  /** The five-digit postal code; {@code null} when the data has none. */
+  private String postalCode;
+
+  /** A village without a postal code, as constructed before villages carried one. */
+  public Village(String code, String name, String districtCode, double longitude, double latitude) {
+    this(code, name, districtCode, longitude, latitude, null);
+  }
 }
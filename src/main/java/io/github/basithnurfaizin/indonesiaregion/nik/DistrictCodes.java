@@ -0,0 +1,82 @@
+package io.github.basithnurfaizin.indonesiaregion.nik;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.LevelIndex;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The six-digit district codes of a level as sorted ints, with the range of each four-digit city
+ * code, so that a district is found by a short binary search without strings or hashing.
+ */
+final class DistrictCodes {
+
+  private static final int CITY_CODES = 10_000;
+
+  private final int[] cityStart = new int[CITY_CODES + 1];
+  private final int[] codes;
+  private final District[] districts;
+
+  DistrictCodes(LevelIndex<District> index) {
+    List<District> all = index.all();
+    int[] parsed = new int[all.size()];
+    District[] matching = new District[all.size()];
+    int size = 0;
+    for (District district : all) {
+      int code = parse(district.getCode());
+      if (code >= 0) {
+        parsed[size] = code;
+        matching[size] = district;
+        size++;
+      }
+    }
+    this.codes = Arrays.copyOf(parsed, size);
+    this.districts = Arrays.copyOf(matching, size);
+    // The level is sorted by code, so the districts of each city are contiguous
+    for (int code : codes) {
+      cityStart[code / 100 + 1]++;
+    }
+    for (int city = 0; city < CITY_CODES; city++) {
+      cityStart[city + 1] += cityStart[city];
+    }
+  }
+
+  /** The position of the district with this code, or -1 if there is none. */
+  int position(int code) {
+    if (code < 0 || code >= CITY_CODES * 100) {
+      return -1;
+    }
+    int city = code / 100;
+    int from = cityStart[city];
+    int to = cityStart[city + 1];
+    if (from == to) {
+      return -1;
+    }
+    int found = Arrays.binarySearch(codes, from, to, code);
+    return found < 0 ? -1 : found;
+  }
+
+  District district(int position) {
+    return districts[position];
+  }
+
+  int size() {
+    return codes.length;
+  }
+
+  /** The code as an int, or -1 unless it is six digits. */
+  private static int parse(String code) {
+    if (code.length() != 6) {
+      return -1;
+    }
+    int value = 0;
+    for (int i = 0; i < 6; i++) {
+      char c = code.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+}
@@ -0,0 +1,104 @@
+package io.github.basithnurfaizin.indonesiaregion.nik;
+
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Sex;
+
+/**
+ * Reusable output of {@link NikDecoder#decodeAll}: the decoded fields of each NIK of a batch, in
+ * primitive arrays that are overwritten by the next batch. Fields of a NIK whose {@link
+ * #getStatus(int) status} is not {@link NikStatus#VALID} are {@code 0} or {@code null}.
+ */
+public final class NikBatch {
+
+  private final NikStatus[] statuses;
+  private final District[] districts;
+  private final int[] birthDates;
+  private final boolean[] female;
+  private final int[] serials;
+  private int size;
+  private int validCount;
+
+  public NikBatch(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+    }
+    this.statuses = new NikStatus[capacity];
+    this.districts = new District[capacity];
+    this.birthDates = new int[capacity];
+    this.female = new boolean[capacity];
+    this.serials = new int[capacity];
+  }
+
+  public int capacity() {
+    return statuses.length;
+  }
+
+  /** The number of NIKs of the last batch. */
+  public int size() {
+    return size;
+  }
+
+  /** The number of valid NIKs of the last batch. */
+  public int getValidCount() {
+    return validCount;
+  }
+
+  public NikStatus getStatus(int i) {
+    return statuses[checkIndex(i)];
+  }
+
+  public boolean isValid(int i) {
+    return getStatus(i) == NikStatus.VALID;
+  }
+
+  /** The district the NIK was issued in. */
+  public District getDistrict(int i) {
+    return districts[checkIndex(i)];
+  }
+
+  /** The birth date as {@code yyyyMMdd}, e.g. {@code 19900217}. */
+  public int getBirthDate(int i) {
+    return birthDates[checkIndex(i)];
+  }
+
+  public Sex getSex(int i) {
+    return isValid(i) ? (female[i] ? Sex.FEMALE : Sex.MALE) : null;
+  }
+
+  public int getSerial(int i) {
+    return serials[checkIndex(i)];
+  }
+
+  void reset(int size) {
+    if (size > statuses.length) {
+      throw new IllegalArgumentException(
+          "Batch of " + size + " NIKs exceeds capacity " + statuses.length);
+    }
+    this.size = size;
+    this.validCount = 0;
+  }
+
+  void setInvalid(int i, NikStatus status) {
+    statuses[i] = status;
+    districts[i] = null;
+    birthDates[i] = 0;
+    female[i] = false;
+    serials[i] = 0;
+  }
+
+  void setValid(int i, District district, int birthDate, boolean isFemale, int serial) {
+    statuses[i] = NikStatus.VALID;
+    districts[i] = district;
+    birthDates[i] = birthDate;
+    female[i] = isFemale;
+    serials[i] = serial;
+    validCount++;
+  }
+
+  private int checkIndex(int i) {
+    if (i < 0 || i >= size) {
+      throw new IndexOutOfBoundsException("Index " + i + " out of batch of " + size);
+    }
+    return i;
+  }
+}
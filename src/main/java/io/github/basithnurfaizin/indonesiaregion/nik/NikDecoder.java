@@ -0,0 +1,205 @@
+package io.github.basithnurfaizin.indonesiaregion.nik;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.LevelIndex;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Nik;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.Sex;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.function.Function;
+
+/**
+ * Decodes NIKs (Nomor Induk Kependudukan), the 16-digit national ID numbers laid out as {@code
+ * PPKKCC DDMMYY SSSS}: the province, city and district codes, the birth day (plus 40 for women),
+ * month and two-digit year, and a serial number.
+ *
+ * <p>A two-digit year is read as the latest year not after the reference year, the current year by
+ * default. Numbers are parsed with arithmetic on a {@code long} and districts found in a sorted
+ * {@code int} index built once per dataset, so {@link #decodeAll} allocates nothing.
+ *
+ * <pre>{@code
+ * NikDecoder decoder = new NikDecoder(RegionDataset.shared());
+ * Nik nik = decoder.decode("3273015702900001"); // Sukasari, Kota Bandung; 17 Feb 1990; female
+ *
+ * NikBatch batch = new NikBatch(10_000);
+ * decoder.decodeAll(numbers, batch);
+ * }</pre>
+ */
+public final class NikDecoder {
+
+  static final Function<LevelIndex<District>, DistrictCodes> DISTRICT_CODES = DistrictCodes::new;
+
+  private static final long MIN = 1_000_000_000_000_000L;
+  private static final long MAX = 10_000_000_000_000_000L;
+
+  private final RegionDataset dataset;
+  private final DistrictCodes districts;
+  private final int referenceYear;
+
+  public NikDecoder(RegionDataset dataset) {
+    this(dataset, Year.now().getValue());
+  }
+
+  /**
+   * @param referenceYear the latest year a two-digit birth year may stand for
+   */
+  public NikDecoder(RegionDataset dataset, int referenceYear) {
+    this.dataset = dataset;
+    this.districts = dataset.districts().derived(DISTRICT_CODES);
+    this.referenceYear = referenceYear;
+  }
+
+  /**
+   * Decodes a NIK; returns {@code null} if its first six digits are no district of the dataset.
+   *
+   * @throws IllegalArgumentException if it is not 16 digits, or has an impossible birth date or a
+   *     zero serial number
+   */
+  public Nik decode(CharSequence nik) {
+    long number = parse(nik);
+    NikStatus status = status(number);
+    if (status == NikStatus.UNKNOWN_DISTRICT) {
+      return null;
+    }
+    if (status != NikStatus.VALID) {
+      throw new IllegalArgumentException("Invalid NIK " + nik + ": " + status);
+    }
+    District district = districts.district(districts.position(districtCode(number)));
+    City city = dataset.cities().get(district.getCityCode());
+    Province province = dataset.provinces().get(district.getCode().substring(0, 2));
+    int day = day(number);
+    return new Nik(
+        nik.toString(),
+        province,
+        city,
+        district,
+        LocalDate.of(year(number), month(number), day > 40 ? day - 40 : day),
+        day > 40 ? Sex.FEMALE : Sex.MALE,
+        serial(number));
+  }
+
+  public NikStatus validate(CharSequence nik) {
+    return status(parse(nik));
+  }
+
+  public NikStatus validate(long nik) {
+    return status(nik);
+  }
+
+  /**
+   * Decodes every NIK of the array into the batch, replacing its previous contents; returns the
+   * number of valid NIKs.
+   *
+   * @throws IllegalArgumentException if the batch is too small
+   */
+  public int decodeAll(long[] niks, NikBatch batch) {
+    batch.reset(niks.length);
+    for (int i = 0; i < niks.length; i++) {
+      decodeInto(niks[i], batch, i);
+    }
+    return batch.getValidCount();
+  }
+
+  /** Like {@link #decodeAll(long[], NikBatch)}, for NIKs as text. */
+  public int decodeAll(CharSequence[] niks, NikBatch batch) {
+    batch.reset(niks.length);
+    for (int i = 0; i < niks.length; i++) {
+      decodeInto(parse(niks[i]), batch, i);
+    }
+    return batch.getValidCount();
+  }
+
+  public int getReferenceYear() {
+    return referenceYear;
+  }
+
+  private void decodeInto(long number, NikBatch batch, int i) {
+    NikStatus status = status(number);
+    if (status != NikStatus.VALID) {
+      batch.setInvalid(i, status);
+      return;
+    }
+    int day = day(number);
+    boolean female = day > 40;
+    batch.setValid(
+        i,
+        districts.district(districts.position(districtCode(number))),
+        year(number) * 10_000 + month(number) * 100 + (female ? day - 40 : day),
+        female,
+        serial(number));
+  }
+
+  private NikStatus status(long number) {
+    if (number < MIN || number >= MAX) {
+      return NikStatus.MALFORMED;
+    }
+    int day = day(number);
+    if (day > 40) {
+      day -= 40;
+    }
+    int month = month(number);
+    if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year(number), month)) {
+      return NikStatus.INVALID_BIRTH_DATE;
+    }
+    if (serial(number) == 0) {
+      return NikStatus.INVALID_SERIAL;
+    }
+    return districts.position(districtCode(number)) < 0
+        ? NikStatus.UNKNOWN_DISTRICT
+        : NikStatus.VALID;
+  }
+
+  private int year(long number) {
+    int year = referenceYear - Math.floorMod(referenceYear, 100) + (int) (number / 10_000 % 100);
+    return year > referenceYear ? year - 100 : year;
+  }
+
+  /** The digits of a 16-digit NIK as a number, or -1 if it is not 16 digits. */
+  private static long parse(CharSequence nik) {
+    if (nik == null || nik.length() != 16) {
+      return -1;
+    }
+    long number = 0;
+    for (int i = 0; i < 16; i++) {
+      char c = nik.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      number = number * 10 + (c - '0');
+    }
+    return number;
+  }
+
+  private static int districtCode(long number) {
+    return (int) (number / 10_000_000_000L);
+  }
+
+  private static int day(long number) {
+    return (int) (number / 100_000_000 % 100);
+  }
+
+  private static int month(long number) {
+    return (int) (number / 1_000_000 % 100);
+  }
+
+  private static int serial(long number) {
+    return (int) (number % 10_000);
+  }
+
+  private static int daysInMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return Year.isLeap(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package io.github.basithnurfaizin.indonesiaregion.nik;
+
+/** The outcome of decoding one NIK. */
+public enum NikStatus {
+  VALID,
+  /** Not 16 digits. */
+  MALFORMED,
+  /** The first six digits are no district of the dataset. */
+  UNKNOWN_DISTRICT,
+  /** The birth day, month and year digits are no calendar date. */
+  INVALID_BIRTH_DATE,
+  /** The last four digits are {@code 0000}. */
+  INVALID_SERIAL
+}
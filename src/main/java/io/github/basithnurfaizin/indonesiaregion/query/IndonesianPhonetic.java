@@ -0,0 +1,171 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A sound key for Indonesian place names, so that old (Van Ophuijsen) spellings, regional variants
+ * and common misspellings of a name share one key: "Djokjakarta", "Jogjakarta" and "Yogyakarta" are
+ * all {@code jokjakarta}, "Soerabaja" is "Surabaya" and "Tjilatjap" is "Cilacap".
+ *
+ * <p>The key is built in four steps:
+ *
+ * <ol>
+ *   <li>letters are lower-cased and stripped of accents; anything else separates words;
+ *   <li>leading administrative words ("Kabupaten", "Kota", "Provinsi", "DKI", ...) are dropped, as
+ *       long as a word remains;
+ *   <li>old spellings are rewritten: {@code oe} to {@code u}, {@code dj} to {@code j}, {@code tj}
+ *       to {@code c}, {@code ch} to {@code kh} and {@code sch} to {@code s};
+ *   <li>letters that sound alike collapse to one: {@code y} and {@code j}, {@code g}, {@code kh}
+ *       and {@code q} to {@code k}, {@code d} to {@code t}, {@code b}, {@code f} and {@code v} to
+ *       {@code p}, {@code z} to {@code s} and {@code x} to {@code ks}; then the words are joined
+ *       and repeated letters collapsed.
+ * </ol>
+ */
+public final class IndonesianPhonetic {
+
+  private static final Set<String> ADMINISTRATIVE_WORDS =
+      Set.of(
+          "kabupaten",
+          "kab",
+          "kota",
+          "administrasi",
+          "adm",
+          "provinsi",
+          "prov",
+          "daerah",
+          "istimewa",
+          "dki",
+          "kecamatan",
+          "kec",
+          "kelurahan",
+          "kel",
+          "desa");
+
+  private IndonesianPhonetic() {}
+
+  /** Returns the sound key of a name; empty for {@code null} or a name without letters. */
+  public static String key(String name) {
+    if (name == null) {
+      return "";
+    }
+    String[] words = letters(name).trim().split(" +");
+    int first = 0;
+    while (first < words.length - 1 && ADMINISTRATIVE_WORDS.contains(words[first])) {
+      first++;
+    }
+    StringBuilder joined = new StringBuilder(name.length());
+    for (int i = first; i < words.length; i++) {
+      joined.append(words[i]);
+    }
+    return encode(joined);
+  }
+
+  /** Lower-case ASCII letters of the name, with a space in place of everything else. */
+  private static String letters(String name) {
+    String decomposed = Normalizer.normalize(name.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+    StringBuilder letters = new StringBuilder(decomposed.length());
+    for (int i = 0; i < decomposed.length(); i++) {
+      char c = decomposed.charAt(i);
+      if (c >= 'a' && c <= 'z') {
+        letters.append(c);
+      } else if (Character.getType(c) != Character.NON_SPACING_MARK) {
+        letters.append(' ');
+      }
+    }
+    return letters.toString();
+  }
+
+  private static String encode(CharSequence word) {
+    StringBuilder key = new StringBuilder(word.length());
+    int length = word.length();
+    for (int i = 0; i < length; i++) {
+      char c = word.charAt(i);
+      char next = i + 1 < length ? word.charAt(i + 1) : 0;
+      switch (c) {
+        case 'o':
+          if (next == 'e') {
+            append(key, 'u');
+            i++;
+          } else {
+            append(key, 'o');
+          }
+          break;
+        case 'd':
+          if (next == 'j') {
+            append(key, 'j');
+            i++;
+          } else {
+            append(key, 't');
+            if (next == 'h') {
+              i++;
+            }
+          }
+          break;
+        case 't':
+          if (next == 'j') {
+            append(key, 'c');
+            i++;
+          } else {
+            append(key, 't');
+            if (next == 'h') {
+              i++;
+            }
+          }
+          break;
+        case 's':
+          append(key, 's');
+          if (next == 'c' && i + 2 < length && word.charAt(i + 2) == 'h') {
+            i += 2;
+          }
+          break;
+        case 'c':
+        case 'k':
+          if (next == 'h') {
+            append(key, 'k');
+            i++;
+          } else {
+            append(key, c);
+          }
+          break;
+        case 'p':
+          append(key, 'p');
+          if (next == 'h') {
+            i++;
+          }
+          break;
+        case 'y':
+        case 'j':
+          append(key, 'j');
+          break;
+        case 'g':
+        case 'q':
+          append(key, 'k');
+          break;
+        case 'b':
+        case 'f':
+        case 'v':
+          append(key, 'p');
+          break;
+        case 'z':
+          append(key, 's');
+          break;
+        case 'x':
+          append(key, 'k');
+          append(key, 's');
+          break;
+        default:
+          append(key, c);
+      }
+    }
+    return key.toString();
+  }
+
+  /** Appends the letter unless it repeats the last one. */
+  private static void append(StringBuilder key, char c) {
+    if (key.length() == 0 || key.charAt(key.length() - 1) != c) {
+      key.append(c);
+    }
+  }
+}
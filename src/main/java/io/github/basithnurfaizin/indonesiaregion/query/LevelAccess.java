@@ -0,0 +1,132 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.LevelIndex;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/** How to read the regions of one level, and the secondary indexes built for it on demand. */
+final class LevelAccess<T> {
+
+  static final LevelAccess<Province> PROVINCE =
+      new LevelAccess<>(
+          RegionLevel.PROVINCE,
+          RegionDataset::provinces,
+          Province::getCode,
+          province -> null,
+          Province::getName,
+          Province::getLatitude,
+          Province::getLongitude,
+          null);
+
+  static final LevelAccess<City> CITY =
+      new LevelAccess<>(
+          RegionLevel.CITY,
+          RegionDataset::cities,
+          City::getCode,
+          City::getProvinceCode,
+          City::getName,
+          city -> city.getLatitude() == null ? Double.NaN : city.getLatitude(),
+          city -> city.getLongitude() == null ? Double.NaN : city.getLongitude(),
+          null);
+
+  static final LevelAccess<District> DISTRICT =
+      new LevelAccess<>(
+          RegionLevel.DISTRICT,
+          RegionDataset::districts,
+          District::getCode,
+          District::getCityCode,
+          District::getName,
+          District::getLatitude,
+          District::getLongitude,
+          null);
+
+  static final LevelAccess<Village> VILLAGE =
+      new LevelAccess<>(
+          RegionLevel.VILLAGE,
+          RegionDataset::villages,
+          Village::getCode,
+          Village::getDistrictCode,
+          Village::getName,
+          Village::getLatitude,
+          Village::getLongitude,
+          Village::getPostalCode);
+
+  final RegionLevel level;
+  final Function<RegionDataset, LevelIndex<T>> index;
+  final Function<T, String> code;
+  final Function<T, String> parentCode;
+  final Function<T, String> name;
+  final ToDoubleFunction<T> latitude;
+  final ToDoubleFunction<T> longitude;
+  final Function<T, String> postalCode;
+
+  final Function<LevelIndex<T>, NameIndex<T>> nameIndex;
+  final Function<LevelIndex<T>, SpatialIndex<T>> spatialIndex;
+  final Function<LevelIndex<T>, Map<String, List<T>>> postalCodeIndex;
+  final Function<LevelIndex<T>, Map<String, List<T>>> phoneticIndex;
+
+  private LevelAccess(
+      RegionLevel level,
+      Function<RegionDataset, LevelIndex<T>> index,
+      Function<T, String> code,
+      Function<T, String> parentCode,
+      Function<T, String> name,
+      ToDoubleFunction<T> latitude,
+      ToDoubleFunction<T> longitude,
+      Function<T, String> postalCode) {
+    this.level = level;
+    this.index = index;
+    this.code = code;
+    this.parentCode = parentCode;
+    this.name = name;
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.postalCode = postalCode;
+    this.nameIndex = levelIndex -> new NameIndex<>(levelIndex.all(), this::normalizedName);
+    this.spatialIndex = levelIndex -> new SpatialIndex<>(levelIndex.all(), latitude);
+    this.postalCodeIndex =
+        postalCode == null
+            ? null
+            : levelIndex ->
+                levelIndex.all().stream()
+                    .filter(region -> postalCode.apply(region) != null)
+                    .collect(Collectors.groupingBy(postalCode, Collectors.toUnmodifiableList()));
+    this.phoneticIndex =
+        levelIndex ->
+            levelIndex.all().stream()
+                .collect(
+                    Collectors.groupingBy(
+                        this::phoneticKey, HashMap::new, Collectors.toUnmodifiableList()));
+  }
+
+  String normalizedName(T region) {
+    return normalize(name.apply(region));
+  }
+
+  String phoneticKey(T region) {
+    return IndonesianPhonetic.key(name.apply(region));
+  }
+
+  Comparator<T> comparator(RegionSort sort) {
+    Comparator<T> byCode = Comparator.comparing(code);
+    return sort == RegionSort.NAME
+        ? Comparator.comparing(this::normalizedName).thenComparing(byCode)
+        : byCode;
+  }
+
+  static String normalize(String value) {
+    return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+  }
+}
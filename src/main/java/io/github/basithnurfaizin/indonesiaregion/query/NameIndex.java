@@ -0,0 +1,63 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/** The regions of a level sorted by normalized name, then code, for exact and prefix lookups. */
+final class NameIndex<T> {
+
+  private final String[] names;
+  private final List<T> regions;
+
+  /**
+   * @param regions sorted by code, which the stable sort keeps as the order of equal names
+   */
+  NameIndex(List<T> regions, Function<T, String> normalizedName) {
+    List<Entry<T>> entries = new ArrayList<>(regions.size());
+    for (T region : regions) {
+      entries.add(new Entry<>(normalizedName.apply(region), region));
+    }
+    entries.sort(Comparator.comparing(entry -> entry.name));
+    this.names = new String[entries.size()];
+    List<T> sorted = new ArrayList<>(entries.size());
+    for (int i = 0; i < entries.size(); i++) {
+      names[i] = entries.get(i).name;
+      sorted.add(entries.get(i).region);
+    }
+    this.regions = List.copyOf(sorted);
+  }
+
+  /** Regions whose name equals {@code name}, or starts with it when {@code prefix} is set. */
+  List<T> range(String name, boolean prefix) {
+    int from = lowerBound(name);
+    int to = prefix ? lowerBound(name + Character.MAX_VALUE) : lowerBound(name + '\0');
+    return regions.subList(from, Math.max(from, to));
+  }
+
+  /** The first position whose name is not less than {@code key}. */
+  private int lowerBound(String key) {
+    int low = 0;
+    int high = names.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (names[middle].compareTo(key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private static final class Entry<T> {
+    final String name;
+    final T region;
+
+    Entry(String name, T region) {
+      this.name = name;
+      this.region = region;
+    }
+  }
+}
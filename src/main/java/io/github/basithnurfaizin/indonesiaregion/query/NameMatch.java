@@ -0,0 +1,10 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+/** How {@link RegionQuery.Builder#name(String, NameMatch)} compares names; always ignoring case. */
+public enum NameMatch {
+  EXACT,
+  PREFIX,
+  CONTAINS,
+  /** Names that sound alike, by their {@link IndonesianPhonetic#key(String) phonetic key}. */
+  PHONETIC
+}
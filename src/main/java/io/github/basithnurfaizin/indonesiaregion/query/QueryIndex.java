@@ -0,0 +1,19 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+/** The index a {@link QueryPlan} reads its candidates from. */
+public enum QueryIndex {
+  /** The child lists of the requested parent codes. */
+  CHILDREN,
+  /** Villages by postal code. */
+  POSTAL_CODE,
+  /** A range of the level sorted by code. */
+  CODE_PREFIX,
+  /** A range of the level sorted by name, for exact and prefix name matches. */
+  NAME,
+  /** The regions sharing a phonetic key, for phonetic name matches. */
+  PHONETIC,
+  /** A latitude range of the level sorted by latitude. */
+  SPATIAL,
+  /** The whole level. */
+  FULL_SCAN
+}
@@ -0,0 +1,62 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link RegionQuery} bound to a dataset, with the index chosen to read candidates from. Create
+ * with {@link RegionQueryPlanner#plan}; {@link #execute()} filters the candidates by the remaining
+ * conditions, then sorts and limits them.
+ */
+public final class QueryPlan<T> {
+
+  private final RegionQuery<T> query;
+  private final QueryIndex index;
+  private final List<T> candidates;
+  private final boolean sorted;
+
+  /**
+   * @param sorted whether the candidates are already in the order the query asks for
+   */
+  QueryPlan(RegionQuery<T> query, QueryIndex index, List<T> candidates, boolean sorted) {
+    this.query = query;
+    this.index = index;
+    this.candidates = candidates;
+    this.sorted = sorted;
+  }
+
+  public QueryIndex getIndex() {
+    return index;
+  }
+
+  /** The number of candidates the chosen index yields, an upper bound on the results. */
+  public int getCandidateCount() {
+    return candidates.size();
+  }
+
+  public List<T> execute() {
+    int limit = query.getLimit();
+    List<T> result = new ArrayList<>();
+    for (T candidate : candidates) {
+      if (sorted && result.size() == limit) {
+        break;
+      }
+      if (query.matches(candidate)) {
+        result.add(candidate);
+      }
+    }
+    if (!sorted) {
+      result.sort(query.access.comparator(query.getSort()));
+      if (result.size() > limit) {
+        result = result.subList(0, limit);
+      }
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  @Override
+  public String toString() {
+    return index + " (" + candidates.size() + " candidates" + (sorted ? ", presorted)" : ")");
+  }
+}
@@ -0,0 +1,255 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Resolves the names people type for a region to its codes with one hash lookup: "Jabar" to {@code
+ * 32}, "Kab. Bandung" to {@code 3204}, "Kota Jakarta Selatan" to {@code 3174}.
+ *
+ * <p>Every province, city and district is known by its full name, by its name without the
+ * "Kabupaten", "Kota" or "Administrasi" prefix, and by "Provinsi" or "Kecamatan" followed by its
+ * name. Well-known nicknames and abbreviations are bundled in {@code data/aliases.csv}; more can be
+ * added from a file with the same {@code alias,code} layout. Aliases are compared by their {@link
+ * #key(String) key}, which ignores case and punctuation and spells out "Kab.", "Kep.", "Adm.",
+ * "Prov." and "Kec.".
+ *
+ * <pre>{@code
+ * RegionAliases aliases =
+ *     RegionAliases.builder(dataset).load(Path.of("my-aliases.csv")).build();
+ * List<String> codes = aliases.resolve("Jabar"); // [32]
+ * }</pre>
+ */
+public final class RegionAliases {
+
+  private static final Map<String, String> ABBREVIATIONS =
+      Map.of(
+          "kab", "kabupaten",
+          "kep", "kepulauan",
+          "adm", "administrasi",
+          "prov", "provinsi",
+          "kec", "kecamatan");
+
+  private static final List<String> CITY_PREFIXES =
+      List.of("kabupaten administrasi ", "kota administrasi ", "kabupaten ", "kota ");
+
+  private static final List<String> PROVINCE_PREFIXES =
+      List.of("daerah khusus ibukota ", "daerah istimewa ");
+
+  /** Provinces first, then cities, districts and villages, each by code. */
+  private static final Comparator<String> BY_LEVEL =
+      Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder());
+
+  private final RegionDataset dataset;
+  private final Map<String, List<String>> codesByKey;
+
+  private RegionAliases(RegionDataset dataset, Map<String, List<String>> codesByKey) {
+    this.dataset = dataset;
+    this.codesByKey = codesByKey;
+  }
+
+  /** The generated and bundled aliases of the dataset. */
+  public static RegionAliases builtIn(RegionDataset dataset) {
+    return builder(dataset).build();
+  }
+
+  /** Starts from the generated and bundled aliases of the dataset. */
+  public static Builder builder(RegionDataset dataset) {
+    return new Builder(dataset);
+  }
+
+  /**
+   * Returns the codes the text is an alias of, provinces first and then by level and code; empty
+   * when it is no known alias.
+   */
+  public List<String> resolve(String text) {
+    return codesByKey.getOrDefault(key(text), List.of());
+  }
+
+  /** The dataset whose codes the aliases resolve to. */
+  public RegionDataset getDataset() {
+    return dataset;
+  }
+
+  /** The number of distinct alias keys. */
+  public int size() {
+    return codesByKey.size();
+  }
+
+  /**
+   * Returns the form aliases are compared in: lower case, words of letters and digits separated by
+   * single spaces, with "kab", "kep", "adm", "prov" and "kec" spelled out.
+   */
+  public static String key(String alias) {
+    if (alias == null) {
+      return "";
+    }
+    String lower = alias.toLowerCase(Locale.ROOT);
+    StringBuilder key = new StringBuilder(lower.length() + 8);
+    int start = -1;
+    for (int i = 0; i <= lower.length(); i++) {
+      char c = i < lower.length() ? lower.charAt(i) : ' ';
+      boolean wordChar = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        String word = lower.substring(start, i);
+        if (key.length() > 0) {
+          key.append(' ');
+        }
+        key.append(ABBREVIATIONS.getOrDefault(word, word));
+        start = -1;
+      }
+    }
+    return key.toString();
+  }
+
+  /**
+   * Reads the {@code alias,code} rows of a CSV file without checking the codes; a header row and
+   * rows starting with {@code #} are skipped.
+   */
+  public static List<Map.Entry<String, String>> read(Path aliasFile) {
+    InputStream source;
+    try {
+      source = Files.newInputStream(aliasFile);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to load " + aliasFile, e);
+    }
+    return read(source, aliasFile.toString());
+  }
+
+  private static List<Map.Entry<String, String>> read(InputStream source, String name) {
+    List<Map.Entry<String, String>> aliases = new ArrayList<>();
+    try (Reader input =
+            new InputStreamReader(
+                Objects.requireNonNull(source, "Missing " + name), StandardCharsets.UTF_8);
+        CSVReader reader = new CSVReader(input)) {
+      String[] line;
+      while ((line = reader.readNext()) != null) {
+        if (line.length < 2
+            || line[0].isBlank()
+            || line[0].trim().startsWith("#")
+            || line[0].trim().equalsIgnoreCase("alias")) {
+          continue;
+        }
+        aliases.add(Map.entry(line[0], line[1].trim()));
+      }
+    } catch (IOException | CsvValidationException e) {
+      throw new RuntimeException("Failed to load " + name, e);
+    }
+    return aliases;
+  }
+
+  public static final class Builder {
+
+    private final RegionDataset dataset;
+    private final Map<String, Set<String>> codesByKey = new HashMap<>();
+
+    private Builder(RegionDataset dataset) {
+      this.dataset = dataset;
+      for (Province province : dataset.provinces().all()) {
+        String name = key(province.getName());
+        put(name, province.getCode());
+        put("provinsi " + name, province.getCode());
+        put(stripPrefix(name, PROVINCE_PREFIXES), province.getCode());
+      }
+      for (City city : dataset.cities().all()) {
+        String name = key(city.getName());
+        String bare = stripPrefix(name, CITY_PREFIXES);
+        put(name, city.getCode());
+        put(bare, city.getCode());
+        if (name.startsWith("kabupaten")) {
+          put("kabupaten " + bare, city.getCode());
+        } else if (name.startsWith("kota")) {
+          put("kota " + bare, city.getCode());
+        }
+      }
+      for (District district : dataset.districts().all()) {
+        String name = key(district.getName());
+        put(name, district.getCode());
+        put("kecamatan " + name, district.getCode());
+      }
+      // Bundled aliases of provinces left out of a slice are skipped rather than rejected
+      for (Map.Entry<String, String> alias :
+          read(RegionAliases.class.getResourceAsStream("/data/aliases.csv"), "aliases.csv")) {
+        addIfKnown(alias.getKey(), alias.getValue());
+      }
+    }
+
+    /**
+     * Adds an alias of a region of any level, villages included.
+     *
+     * @throws IllegalArgumentException if no region has the code
+     */
+    public Builder add(String alias, String code) {
+      if (!dataset.contains(code)) {
+        throw new IllegalArgumentException("Unknown region code for alias " + alias + ": " + code);
+      }
+      put(key(alias), code);
+      return this;
+    }
+
+    /**
+     * Adds an alias unless no region has the code, for aliases checked against an earlier dataset
+     * whose region may since have been removed.
+     */
+    public Builder addIfKnown(String alias, String code) {
+      if (dataset.contains(code)) {
+        put(key(alias), code);
+      }
+      return this;
+    }
+
+    /**
+     * Adds the aliases of a CSV file of {@code alias,code} rows; a header row and rows starting
+     * with {@code #} are skipped.
+     */
+    public Builder load(Path aliasFile) {
+      for (Map.Entry<String, String> alias : read(aliasFile)) {
+        add(alias.getKey(), alias.getValue());
+      }
+      return this;
+    }
+
+    public RegionAliases build() {
+      Map<String, List<String>> frozen = new HashMap<>(codesByKey.size() * 4 / 3 + 1);
+      codesByKey.forEach((key, codes) -> frozen.put(key, List.copyOf(codes)));
+      return new RegionAliases(dataset, frozen);
+    }
+
+    private void put(String key, String code) {
+      if (!key.isEmpty()) {
+        codesByKey.computeIfAbsent(key, ignored -> new TreeSet<>(BY_LEVEL)).add(code);
+      }
+    }
+
+    private static String stripPrefix(String name, List<String> prefixes) {
+      for (String prefix : prefixes) {
+        if (name.startsWith(prefix) && name.length() > prefix.length()) {
+          return name.substring(prefix.length());
+        }
+      }
+      return name;
+    }
+  }
+}
@@ -0,0 +1,257 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+import io.github.basithnurfaizin.indonesiaregion.model.BoundingBox;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A search over one level of regions. Every condition that is set must hold; an empty query returns
+ * the whole level. Results are sorted by code unless another {@link RegionSort} is chosen.
+ *
+ * <pre>{@code
+ * RegionQuery<Village> query =
+ *     RegionQuery.villages()
+ *         .parentCodes("327301", "327302")
+ *         .name("sari", NameMatch.PREFIX)
+ *         .sortBy(RegionSort.NAME)
+ *         .limit(20)
+ *         .build();
+ * List<Village> villages = service.query(query);
+ * }</pre>
+ *
+ * @param <T> the region type of the level
+ */
+public final class RegionQuery<T> {
+
+  final LevelAccess<T> access;
+  private final Set<String> parentCodes;
+  private final String codePrefix;
+  private final String name;
+  private final NameMatch nameMatch;
+  private final BoundingBox boundingBox;
+  private final String postalCode;
+  private final RegionSort sort;
+  private final int limit;
+  private final String normalizedName;
+  private final String phoneticKey;
+
+  private RegionQuery(Builder<T> builder) {
+    this.access = builder.access;
+    this.parentCodes = Set.copyOf(builder.parentCodes);
+    this.codePrefix = builder.codePrefix;
+    this.name = builder.name;
+    this.nameMatch = builder.nameMatch;
+    this.boundingBox = builder.boundingBox;
+    this.postalCode = builder.postalCode;
+    this.sort = builder.sort;
+    this.limit = builder.limit;
+    this.normalizedName = name == null ? null : LevelAccess.normalize(name);
+    this.phoneticKey =
+        name == null || nameMatch != NameMatch.PHONETIC ? null : IndonesianPhonetic.key(name);
+  }
+
+  public static Builder<Province> provinces() {
+    return new Builder<>(LevelAccess.PROVINCE);
+  }
+
+  public static Builder<City> cities() {
+    return new Builder<>(LevelAccess.CITY);
+  }
+
+  public static Builder<District> districts() {
+    return new Builder<>(LevelAccess.DISTRICT);
+  }
+
+  public static Builder<Village> villages() {
+    return new Builder<>(LevelAccess.VILLAGE);
+  }
+
+  /** Whether the region satisfies every condition of this query. */
+  boolean matches(T region) {
+    if (!parentCodes.isEmpty() && !parentCodes.contains(access.parentCode.apply(region))) {
+      return false;
+    }
+    if (codePrefix != null && !access.code.apply(region).startsWith(codePrefix)) {
+      return false;
+    }
+    if (normalizedName != null) {
+      String regionName = access.normalizedName(region);
+      boolean matched;
+      switch (nameMatch) {
+        case EXACT:
+          matched = regionName.equals(normalizedName);
+          break;
+        case PREFIX:
+          matched = regionName.startsWith(normalizedName);
+          break;
+        case PHONETIC:
+          matched = access.phoneticKey(region).equals(phoneticKey);
+          break;
+        default:
+          matched = regionName.contains(normalizedName);
+      }
+      if (!matched) {
+        return false;
+      }
+    }
+    if (boundingBox != null
+        && !boundingBox.contains(
+            access.latitude.applyAsDouble(region), access.longitude.applyAsDouble(region))) {
+      return false;
+    }
+    return postalCode == null || postalCode.equals(access.postalCode.apply(region));
+  }
+
+  /**
+   * Returns the regions of the list that satisfy this query, sorted and limited as it asks, without
+   * any index. For services that hold their regions in other structures.
+   */
+  public List<T> filter(List<T> regions) {
+    return new QueryPlan<>(this, QueryIndex.FULL_SCAN, regions, false).execute();
+  }
+
+  String getNormalizedName() {
+    return normalizedName;
+  }
+
+  String getPhoneticKey() {
+    return phoneticKey;
+  }
+
+  public RegionLevel getLevel() {
+    return access.level;
+  }
+
+  public Set<String> getParentCodes() {
+    return parentCodes;
+  }
+
+  public String getCodePrefix() {
+    return codePrefix;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public NameMatch getNameMatch() {
+    return nameMatch;
+  }
+
+  public BoundingBox getBoundingBox() {
+    return boundingBox;
+  }
+
+  public String getPostalCode() {
+    return postalCode;
+  }
+
+  public RegionSort getSort() {
+    return sort;
+  }
+
+  /** The maximum number of results, or {@link Integer#MAX_VALUE} for no limit. */
+  public int getLimit() {
+    return limit;
+  }
+
+  public static final class Builder<T> {
+
+    private final LevelAccess<T> access;
+    private final Set<String> parentCodes = new TreeSet<>();
+    private String codePrefix;
+    private String name;
+    private NameMatch nameMatch = NameMatch.CONTAINS;
+    private BoundingBox boundingBox;
+    private String postalCode;
+    private RegionSort sort = RegionSort.CODE;
+    private int limit = Integer.MAX_VALUE;
+
+    private Builder(LevelAccess<T> access) {
+      this.access = access;
+    }
+
+    /** Only children of this parent; may be repeated to allow several parents. */
+    public Builder<T> parentCode(String parentCode) {
+      if (access.level == RegionLevel.PROVINCE) {
+        throw new IllegalArgumentException("Provinces have no parent region");
+      }
+      parentCodes.add(parentCode);
+      return this;
+    }
+
+    public Builder<T> parentCodes(String... parentCodes) {
+      return parentCodes(Arrays.asList(parentCodes));
+    }
+
+    public Builder<T> parentCodes(Collection<String> parentCodes) {
+      parentCodes.forEach(this::parentCode);
+      return this;
+    }
+
+    public Builder<T> codePrefix(String codePrefix) {
+      this.codePrefix = isBlank(codePrefix) ? null : codePrefix.trim();
+      return this;
+    }
+
+    /** Names containing {@code name}, ignoring case. */
+    public Builder<T> name(String name) {
+      return name(name, NameMatch.CONTAINS);
+    }
+
+    public Builder<T> name(String name, NameMatch match) {
+      this.name = isBlank(name) ? null : name;
+      this.nameMatch = match;
+      return this;
+    }
+
+    /** Regions whose coordinates lie in the box. */
+    public Builder<T> within(BoundingBox boundingBox) {
+      this.boundingBox = boundingBox;
+      return this;
+    }
+
+    public Builder<T> within(
+        double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+      return within(new BoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude));
+    }
+
+    /** Villages with this postal code; villages are the only level with postal codes. */
+    public Builder<T> postalCode(String postalCode) {
+      if (access.postalCode == null) {
+        throw new IllegalArgumentException("Only villages have postal codes");
+      }
+      this.postalCode = postalCode;
+      return this;
+    }
+
+    public Builder<T> sortBy(RegionSort sort) {
+      this.sort = sort;
+      return this;
+    }
+
+    public Builder<T> limit(int limit) {
+      if (limit < 0) {
+        throw new IllegalArgumentException("Limit must not be negative: " + limit);
+      }
+      this.limit = limit;
+      return this;
+    }
+
+    public RegionQuery<T> build() {
+      return new RegionQuery<>(this);
+    }
+
+    private static boolean isBlank(String value) {
+      return value == null || value.isBlank();
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.LevelIndex;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.BoundingBox;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chooses the index a {@link RegionQuery} reads its candidates from.
+ *
+ * <p>Every condition with an index is considered: parent codes (child lists), postal code, code
+ * prefix (the level sorted by code), exact or prefix name (the level sorted by name), phonetic name
+ * (the level grouped by phonetic key) and bounding box (the level sorted by latitude). Each yields
+ * its candidates with one or two lookups, so the planner picks the one with the fewest candidates,
+ * falling back to the whole level. The other conditions are checked against those candidates only.
+ * The name, phonetic and spatial indexes are built per level on first use.
+ */
+public final class RegionQueryPlanner {
+
+  private RegionQueryPlanner() {}
+
+  public static <T> QueryPlan<T> plan(RegionDataset dataset, RegionQuery<T> query) {
+    LevelAccess<T> access = query.access;
+    LevelIndex<T> index = access.index.apply(dataset);
+    boolean byCode = query.getSort() == RegionSort.CODE;
+
+    QueryPlan<T> best = new QueryPlan<>(query, QueryIndex.FULL_SCAN, index.all(), byCode);
+
+    if (!query.getParentCodes().isEmpty()) {
+      List<T> children;
+      if (query.getParentCodes().size() == 1) {
+        children = index.children(query.getParentCodes().iterator().next());
+      } else {
+        children = new ArrayList<>();
+        for (String parentCode : query.getParentCodes()) {
+          children.addAll(index.children(parentCode));
+        }
+      }
+      best =
+          cheaper(
+              best,
+              new QueryPlan<>(
+                  query,
+                  QueryIndex.CHILDREN,
+                  children,
+                  byCode && query.getParentCodes().size() == 1));
+    }
+
+    if (query.getPostalCode() != null) {
+      Map<String, List<T>> byPostalCode = index.derived(access.postalCodeIndex);
+      best =
+          cheaper(
+              best,
+              new QueryPlan<>(
+                  query,
+                  QueryIndex.POSTAL_CODE,
+                  byPostalCode.getOrDefault(query.getPostalCode(), List.of()),
+                  byCode));
+    }
+
+    if (query.getCodePrefix() != null) {
+      List<T> all = index.all();
+      String prefix = query.getCodePrefix();
+      int from = lowerBound(all, access, prefix);
+      int to = lowerBound(all, access, prefix + Character.MAX_VALUE);
+      best =
+          cheaper(
+              best,
+              new QueryPlan<>(
+                  query, QueryIndex.CODE_PREFIX, all.subList(from, Math.max(from, to)), byCode));
+    }
+
+    if (query.getNormalizedName() != null
+        && (query.getNameMatch() == NameMatch.EXACT || query.getNameMatch() == NameMatch.PREFIX)) {
+      NameIndex<T> names = index.derived(access.nameIndex);
+      best =
+          cheaper(
+              best,
+              new QueryPlan<>(
+                  query,
+                  QueryIndex.NAME,
+                  names.range(query.getNormalizedName(), query.getNameMatch() == NameMatch.PREFIX),
+                  !byCode));
+    }
+
+    if (query.getPhoneticKey() != null) {
+      Map<String, List<T>> byPhoneticKey = index.derived(access.phoneticIndex);
+      best =
+          cheaper(
+              best,
+              new QueryPlan<>(
+                  query,
+                  QueryIndex.PHONETIC,
+                  byPhoneticKey.getOrDefault(query.getPhoneticKey(), List.of()),
+                  byCode));
+    }
+
+    BoundingBox box = query.getBoundingBox();
+    if (box != null) {
+      SpatialIndex<T> spatial = index.derived(access.spatialIndex);
+      best =
+          cheaper(
+              best,
+              new QueryPlan<>(
+                  query,
+                  QueryIndex.SPATIAL,
+                  spatial.band(box.getMinLatitude(), box.getMaxLatitude()),
+                  false));
+    }
+    return best;
+  }
+
+  private static <T> QueryPlan<T> cheaper(QueryPlan<T> current, QueryPlan<T> candidate) {
+    return candidate.getCandidateCount() < current.getCandidateCount() ? candidate : current;
+  }
+
+  /** The first position of a code-sorted list whose code is not less than {@code key}. */
+  private static <T> int lowerBound(List<T> sorted, LevelAccess<T> access, String key) {
+    int low = 0;
+    int high = sorted.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (access.code.apply(sorted.get(middle)).compareTo(key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+}
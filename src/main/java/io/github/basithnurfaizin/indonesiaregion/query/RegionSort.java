@@ -0,0 +1,8 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+/** Result order of a {@link RegionQuery}. */
+public enum RegionSort {
+  CODE,
+  /** By name ignoring case, then by code. */
+  NAME
+}
@@ -0,0 +1,52 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The regions of a level sorted by latitude. A bounding box query reads the latitude band with two
+ * binary searches and filters longitude on that band only; regions without coordinates sort last
+ * and are never returned.
+ */
+final class SpatialIndex<T> {
+
+  private final double[] latitudes;
+  private final List<T> regions;
+
+  SpatialIndex(List<T> regions, ToDoubleFunction<T> latitude) {
+    List<T> sorted = new ArrayList<>(regions);
+    sorted.sort(Comparator.comparingDouble(latitude));
+    this.latitudes = new double[sorted.size()];
+    for (int i = 0; i < latitudes.length; i++) {
+      latitudes[i] = latitude.applyAsDouble(sorted.get(i));
+    }
+    this.regions = List.copyOf(sorted);
+  }
+
+  /** Regions with {@code minLatitude <= latitude <= maxLatitude}, by latitude. */
+  List<T> band(double minLatitude, double maxLatitude) {
+    int from = firstAbove(minLatitude, false);
+    int to = firstAbove(maxLatitude, true);
+    return regions.subList(from, Math.max(from, to));
+  }
+
+  /** The first position whose latitude is above {@code value}, or at least it if not strict. */
+  private int firstAbove(double value, boolean strict) {
+    int low = 0;
+    int high = latitudes.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      double latitude = latitudes[middle];
+      // NaN compares false both ways and sorts last, so it always counts as above
+      boolean below = strict ? latitude <= value : latitude < value;
+      if (below) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+}
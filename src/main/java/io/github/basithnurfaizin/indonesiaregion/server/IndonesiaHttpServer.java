@@ -0,0 +1,63 @@
+package io.github.basithnurfaizin.indonesiaregion.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaServiceImpl;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Lightweight HTTP/JSON API over an {@link IndonesiaService}, built on the JDK's {@code
+ * com.sun.net.httpserver}.
+ *
+ * <p>Each request runs on its own virtual thread when the JDK supports them, otherwise on a pool of
+ * twice as many platform threads as available cores. See {@link RegionHandler} for the endpoints.
+ */
+public class IndonesiaHttpServer implements AutoCloseable {
+
+  private static final int BACKLOG = 1024;
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  public IndonesiaHttpServer(IndonesiaService service, InetSocketAddress address) {
+    this(service, address, RequestExecutors.perRequest());
+  }
+
+  public IndonesiaHttpServer(
+      IndonesiaService service, InetSocketAddress address, ExecutorService executor) {
+    try {
+      this.server = HttpServer.create(address, BACKLOG);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to bind " + address, e);
+    }
+    this.executor = executor;
+    server.setExecutor(executor);
+    server.createContext("/", new RegionHandler(service, new ObjectMapper()));
+  }
+
+  public IndonesiaHttpServer start() {
+    server.start();
+    return this;
+  }
+
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdown();
+  }
+
+  public static void main(String[] args) {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+    IndonesiaHttpServer server =
+        new IndonesiaHttpServer(new IndonesiaServiceImpl(), new InetSocketAddress(port)).start();
+    System.out.println("Listening on port " + server.getPort());
+  }
+}
@@ -0,0 +1,28 @@
+package io.github.basithnurfaizin.indonesiaregion.server;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@AllArgsConstructor
+@NoArgsConstructor
+public class PageResponse<T> {
+
+  private List<T> data;
+
+  private int page;
+
+  private int size;
+
+  private int total;
+
+  static <T> PageResponse<T> of(List<T> items, int page, int size) {
+    int from = (int) Math.min((long) (page - 1) * size, items.size());
+    int to = Math.min(from + size, items.size());
+    return new PageResponse<>(items.subList(from, to), page, size, items.size());
+  }
+}
@@ -0,0 +1,207 @@
+package io.github.basithnurfaizin.indonesiaregion.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionStats;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService;
+import io.github.basithnurfaizin.indonesiaregion.service.SearchMode;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Routes {@code /provinces}, {@code /cities}, {@code /districts} and {@code /villages} requests to
+ * an {@link IndonesiaService}.
+ *
+ * <p>List endpoints accept {@code keyword}, the parent code ({@code provinceCode}, {@code
+ * cityCode}, {@code districtCode}), {@code page} (1-based) and {@code size}. Single-region
+ * endpoints ({@code /provinces/{code}}, {@code /cities/{code}}, {@code /districts/{code}}) accept a
+ * comma-separated {@code includes} parameter. {@code /stats} and {@code /stats/{code}} return
+ * precomputed aggregates of the whole dataset or of one region. {@code /search} pages through the
+ * regions of every level matching {@code q}, by {@code mode} ({@code keyword}, the default, {@code
+ * phonetic} or {@code alias}).
+ */
+class RegionHandler implements HttpHandler {
+
+  static final int DEFAULT_PAGE_SIZE = 100;
+  static final int MAX_PAGE_SIZE = 1000;
+
+  private static final String JSON = "application/json; charset=utf-8";
+
+  private final IndonesiaService service;
+  private final ObjectMapper mapper;
+
+  RegionHandler(IndonesiaService service, ObjectMapper mapper) {
+    this.service = service;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try {
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.getResponseHeaders().set("Allow", "GET");
+        sendError(exchange, 405, "Method not allowed");
+        return;
+      }
+      Object body;
+      try {
+        body =
+            route(
+                segments(exchange.getRequestURI().getRawPath()),
+                parseQuery(exchange.getRequestURI().getRawQuery()));
+      } catch (IllegalArgumentException e) {
+        sendError(exchange, 400, e.getMessage());
+        return;
+      } catch (RuntimeException e) {
+        sendError(exchange, 500, "Internal server error");
+        return;
+      }
+      if (body == null) {
+        sendError(exchange, 404, "Not found");
+        return;
+      }
+      send(exchange, 200, body);
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private Object route(String[] segments, Map<String, String> params) {
+    if (segments.length > 0 && segments.length <= 2 && segments[0].equals("stats")) {
+      RegionStats stats = service.getStats(segments.length == 2 ? segments[1] : null);
+      return stats == null ? null : Map.of("data", stats);
+    }
+    if (segments.length == 1) {
+      String keyword = params.get("keyword");
+      int page = intParam(params, "page", 1, 1, Integer.MAX_VALUE);
+      int size = intParam(params, "size", DEFAULT_PAGE_SIZE, 1, MAX_PAGE_SIZE);
+      switch (segments[0]) {
+        case "provinces":
+          return PageResponse.of(service.getProvinces(keyword), page, size);
+        case "cities":
+          return PageResponse.of(
+              service.getCities(params.get("provinceCode"), keyword), page, size);
+        case "districts":
+          return PageResponse.of(service.getDistricts(params.get("cityCode"), keyword), page, size);
+        case "villages":
+          return PageResponse.of(
+              service.getVillages(params.get("districtCode"), keyword), page, size);
+        case "search":
+          return PageResponse.of(
+              service.search(requiredParam(params, "q"), searchMode(params.get("mode"))),
+              page,
+              size);
+        default:
+          return null;
+      }
+    }
+    if (segments.length == 2) {
+      String code = segments[1];
+      List<String> includes = includes(params.get("includes"));
+      Object region;
+      switch (segments[0]) {
+        case "provinces":
+          region = service.getProvince(code, includes);
+          break;
+        case "cities":
+          region = service.getCity(code, includes);
+          break;
+        case "districts":
+          region = service.getDistrict(code, includes);
+          break;
+        default:
+          region = null;
+      }
+      return region == null ? null : Map.of("data", region);
+    }
+    return null;
+  }
+
+  private void send(HttpExchange exchange, int status, Object body) throws IOException {
+    byte[] bytes = mapper.writeValueAsBytes(body);
+    exchange.getResponseHeaders().set("Content-Type", JSON);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+    send(exchange, status, Map.of("error", message));
+  }
+
+  private static String[] segments(String path) {
+    return Arrays.stream(path.split("/"))
+        .filter(segment -> !segment.isEmpty())
+        .map(segment -> URLDecoder.decode(segment, StandardCharsets.UTF_8))
+        .toArray(String[]::new);
+  }
+
+  static Map<String, String> parseQuery(String rawQuery) {
+    Map<String, String> params = new HashMap<>();
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return params;
+    }
+    for (String pair : rawQuery.split("&")) {
+      int eq = pair.indexOf('=');
+      String key = eq < 0 ? pair : pair.substring(0, eq);
+      String value = eq < 0 ? "" : pair.substring(eq + 1);
+      params.putIfAbsent(
+          URLDecoder.decode(key, StandardCharsets.UTF_8),
+          URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+    return params;
+  }
+
+  private static List<String> includes(String value) {
+    if (value == null || value.isBlank()) {
+      return List.of();
+    }
+    return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+  }
+
+  private static String requiredParam(Map<String, String> params, String name) {
+    String value = params.get(name);
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException("Missing " + name);
+    }
+    return value;
+  }
+
+  private static SearchMode searchMode(String value) {
+    if (value == null || value.isBlank()) {
+      return SearchMode.KEYWORD;
+    }
+    try {
+      return SearchMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid mode: " + value);
+    }
+  }
+
+  private static int intParam(
+      Map<String, String> params, String name, int defaultValue, int min, int max) {
+    String value = params.get(name);
+    if (value == null || value.isBlank()) {
+      return defaultValue;
+    }
+    int parsed;
+    try {
+      parsed = Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid " + name + ": " + value);
+    }
+    if (parsed < min || parsed > max) {
+      throw new IllegalArgumentException(name + " must be between " + min + " and " + max);
+    }
+    return parsed;
+  }
+}
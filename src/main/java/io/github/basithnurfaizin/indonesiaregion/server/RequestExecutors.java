@@ -0,0 +1,38 @@
+package io.github.basithnurfaizin.indonesiaregion.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Executors used by {@link IndonesiaHttpServer} to run request handlers. */
+final class RequestExecutors {
+
+  private RequestExecutors() {}
+
+  /**
+   * Returns a virtual-thread-per-request executor when the running JDK supports it (21+), or a pool
+   * of twice as many platform threads as available cores otherwise, since handlers may block while
+   * a level is still loading.
+   */
+  static ExecutorService perRequest() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return platformPool(Runtime.getRuntime().availableProcessors() * 2);
+    }
+  }
+
+  static ExecutorService platformPool(int threads) {
+    AtomicInteger counter = new AtomicInteger();
+    ThreadFactory factory =
+        runnable -> {
+          Thread thread = new Thread(runnable, "indonesia-http-" + counter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        };
+    return Executors.newFixedThreadPool(threads, factory);
+  }
+}
@@ -0,0 +1,112 @@
+package io.github.basithnurfaizin.indonesiaregion.service;
+
+import io.github.basithnurfaizin.indonesiaregion.metrics.ConcurrentHistogram;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Counters for one {@link ExpansionStrategy}: how expansions were split, how long forked work
+ * waited in the queue and how many threads took part in each parallel expansion.
+ */
+public final class ExpansionMetrics {
+
+  private final LongAdder inlineExpansions = new LongAdder();
+  private final LongAdder parallelExpansions = new LongAdder();
+  private final LongAdder forkedTasks = new LongAdder();
+  private final LongAdder reclaimedTasks = new LongAdder();
+  private final LongAdder rejectedTasks = new LongAdder();
+  private final AtomicInteger activeWorkers = new AtomicInteger();
+  private final ConcurrentHistogram queueWait = new ConcurrentHistogram();
+  private final ConcurrentHistogram parallelism = new ConcurrentHistogram();
+  private final IntSupplier queuedTasks;
+
+  ExpansionMetrics(IntSupplier queuedTasks) {
+    this.queuedTasks = queuedTasks;
+  }
+
+  void recordInline() {
+    inlineExpansions.increment();
+  }
+
+  void recordParallel(int threads) {
+    parallelExpansions.increment();
+    parallelism.record(threads);
+  }
+
+  void recordForked() {
+    forkedTasks.increment();
+  }
+
+  void recordReclaimed() {
+    reclaimedTasks.increment();
+  }
+
+  void recordRejected() {
+    rejectedTasks.increment();
+  }
+
+  void workerStarted(long queueWaitNanos) {
+    activeWorkers.incrementAndGet();
+    queueWait.record(queueWaitNanos);
+  }
+
+  void workerFinished() {
+    activeWorkers.decrementAndGet();
+  }
+
+  /** Expansions run entirely on the calling thread because they were small or nested. */
+  public long getInlineExpansions() {
+    return inlineExpansions.sum();
+  }
+
+  /** Expansions split into chunks and offered to the executor. */
+  public long getParallelExpansions() {
+    return parallelExpansions.sum();
+  }
+
+  /** Chunks submitted to the executor. */
+  public long getForkedTasks() {
+    return forkedTasks.sum();
+  }
+
+  /** Forked chunks the calling thread ran itself because no worker had picked them up yet. */
+  public long getReclaimedTasks() {
+    return reclaimedTasks.sum();
+  }
+
+  /** Chunks the executor refused because its queue was full; the calling thread ran them. */
+  public long getRejectedTasks() {
+    return rejectedTasks.sum();
+  }
+
+  /** Workers currently running a chunk. */
+  public int getActiveWorkers() {
+    return activeWorkers.get();
+  }
+
+  /** Chunks waiting in the executor queue, or {@code 0} when the executor has no visible queue. */
+  public int getQueuedTasks() {
+    return queuedTasks.getAsInt();
+  }
+
+  /** Nanoseconds between submitting a chunk and a worker starting it. */
+  public ConcurrentHistogram getQueueWaitHistogram() {
+    return queueWait;
+  }
+
+  /** Threads, including the caller, that ran chunks of each parallel expansion. */
+  public ConcurrentHistogram getParallelismHistogram() {
+    return parallelism;
+  }
+
+  public void reset() {
+    inlineExpansions.reset();
+    parallelExpansions.reset();
+    forkedTasks.reset();
+    reclaimedTasks.reset();
+    rejectedTasks.reset();
+    queueWait.reset();
+    parallelism.reset();
+  }
+}
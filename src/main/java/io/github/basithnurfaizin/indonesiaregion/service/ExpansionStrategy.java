@@ -0,0 +1,292 @@
+package io.github.basithnurfaizin.indonesiaregion.service;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Decides where the copying work of an {@code includes} expansion runs.
+ *
+ * <p>An expansion that copies fewer regions than the inline threshold runs on the calling thread.
+ * Shared child lists are attached as they are and cost nothing. A larger one is split into
+ * contiguous chunks that copy a similar number of regions, at most one per unit of parallelism; the
+ * caller runs the first chunk and offers the rest to the executor. Once done, the caller runs any
+ * chunk no worker has started yet, so a busy or saturated executor delays an expansion by at most
+ * one chunk instead of leaving it waiting in the queue. Expansions nested inside a chunk always run
+ * inline, which keeps a bounded pool free of tasks waiting on tasks.
+ */
+public final class ExpansionStrategy implements AutoCloseable {
+
+  /** Copied regions below which the default strategies expand on the calling thread. */
+  public static final int DEFAULT_INLINE_THRESHOLD = 1024;
+
+  private static final ThreadLocal<Boolean> EXPANDING = new ThreadLocal<>();
+
+  private final Executor executor;
+  private final int parallelism;
+  private final int inlineThreshold;
+  private final boolean owned;
+  private final ExpansionMetrics metrics;
+
+  private ExpansionStrategy(
+      Executor executor, int parallelism, int inlineThreshold, boolean owned) {
+    this.executor = executor;
+    this.parallelism = parallelism;
+    this.inlineThreshold = inlineThreshold;
+    this.owned = owned;
+    this.metrics =
+        new ExpansionMetrics(
+            executor instanceof ThreadPoolExecutor pool ? () -> pool.getQueue().size() : () -> 0);
+  }
+
+  /**
+   * The process-wide default: a bounded pool with one daemon thread per core, created on first use.
+   */
+  public static ExpansionStrategy shared() {
+    return SharedHolder.INSTANCE;
+  }
+
+  /** Runs every expansion on the calling thread. */
+  public static ExpansionStrategy callerRuns() {
+    return new ExpansionStrategy(null, 1, Integer.MAX_VALUE, false);
+  }
+
+  /**
+   * A dedicated pool of {@code parallelism} daemon threads whose queue holds at most {@code
+   * queueCapacity} chunks; chunks beyond that are run by the calling thread. Close the strategy to
+   * stop the pool.
+   */
+  public static ExpansionStrategy bounded(int parallelism, int queueCapacity, int inlineThreshold) {
+    if (parallelism < 1 || queueCapacity < 1 || inlineThreshold < 1) {
+      throw new IllegalArgumentException(
+          "parallelism, queueCapacity and inlineThreshold must be positive");
+    }
+    return new ExpansionStrategy(
+        boundedPool(parallelism, queueCapacity), parallelism, inlineThreshold, true);
+  }
+
+  /**
+   * Runs each chunk on its own virtual thread when the running JDK supports them (21+), or falls
+   * back to a {@link #bounded} pool sized to the available cores otherwise. Virtual threads are not
+   * pooled, so {@code parallelism} caps how many chunks a single expansion is split into.
+   */
+  public static ExpansionStrategy virtualThreads(int parallelism, int inlineThreshold) {
+    if (parallelism < 1 || inlineThreshold < 1) {
+      throw new IllegalArgumentException("parallelism and inlineThreshold must be positive");
+    }
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return new ExpansionStrategy(
+          (ExecutorService) factory.invoke(null), parallelism, inlineThreshold, true);
+    } catch (ReflectiveOperationException e) {
+      int cores = Runtime.getRuntime().availableProcessors();
+      return bounded(cores, cores * 16, inlineThreshold);
+    }
+  }
+
+  public ExpansionMetrics getMetrics() {
+    return metrics;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public int getInlineThreshold() {
+    return inlineThreshold;
+  }
+
+  /**
+   * Maps every item, keeping their order. {@code copies} estimates how many region objects mapping
+   * an item copies.
+   */
+  <T, R> List<R> map(
+      List<T> items, ToIntFunction<? super T> copies, Function<? super T, ? extends R> mapper) {
+    if (executor == null || items.size() < 2 || EXPANDING.get() != null) {
+      metrics.recordInline();
+      return mapInline(items, mapper);
+    }
+    int[] sizes = new int[items.size()];
+    long total = 0;
+    for (int i = 0; i < sizes.length; i++) {
+      sizes[i] = Math.max(1, copies.applyAsInt(items.get(i)));
+      total += sizes[i];
+    }
+    int chunkCount = (int) Math.min(Math.min(parallelism, items.size()), total / inlineThreshold);
+    if (chunkCount < 2) {
+      metrics.recordInline();
+      return mapInline(items, mapper);
+    }
+
+    Object[] results = new Object[items.size()];
+    List<Chunk> chunks = split(sizes, total, chunkCount);
+    for (Chunk chunk : chunks.subList(1, chunks.size())) {
+      long submitted = System.nanoTime();
+      try {
+        executor.execute(
+            () -> {
+              if (chunk.claim()) {
+                metrics.workerStarted(System.nanoTime() - submitted);
+                try {
+                  chunk.run(items, mapper, results);
+                } finally {
+                  metrics.workerFinished();
+                }
+              }
+            });
+        chunk.submitted = true;
+        metrics.recordForked();
+      } catch (RejectedExecutionException e) {
+        metrics.recordRejected();
+      }
+    }
+
+    int workers = chunks.size();
+    for (Chunk chunk : chunks) {
+      if (chunk.claim()) {
+        if (chunk.submitted) {
+          metrics.recordReclaimed();
+        }
+        workers--;
+        chunk.run(items, mapper, results);
+      }
+    }
+    for (Chunk chunk : chunks) {
+      chunk.await();
+    }
+    metrics.recordParallel(workers + 1);
+
+    @SuppressWarnings("unchecked")
+    List<R> list = (List<R>) Arrays.asList(results);
+    return Collections.unmodifiableList(list);
+  }
+
+  private static <T, R> List<R> mapInline(List<T> items, Function<? super T, ? extends R> mapper) {
+    List<R> results = new ArrayList<>(items.size());
+    for (T item : items) {
+      results.add(mapper.apply(item));
+    }
+    return Collections.unmodifiableList(results);
+  }
+
+  /** Splits the items into contiguous ranges of roughly {@code total / chunkCount} regions. */
+  private static List<Chunk> split(int[] sizes, long total, int chunkCount) {
+    List<Chunk> chunks = new ArrayList<>(chunkCount);
+    long target = (total + chunkCount - 1) / chunkCount;
+    int from = 0;
+    long accumulated = 0;
+    for (int i = 0; i < sizes.length; i++) {
+      accumulated += sizes[i];
+      if (accumulated >= target && chunks.size() < chunkCount - 1 && i + 1 < sizes.length) {
+        chunks.add(new Chunk(from, i + 1));
+        from = i + 1;
+        accumulated = 0;
+      }
+    }
+    chunks.add(new Chunk(from, sizes.length));
+    return chunks;
+  }
+
+  @Override
+  public void close() {
+    if (owned && executor instanceof ExecutorService service) {
+      service.shutdown();
+    }
+  }
+
+  private static ThreadPoolExecutor boundedPool(int parallelism, int queueCapacity) {
+    AtomicInteger counter = new AtomicInteger();
+    ThreadFactory factory =
+        runnable -> {
+          Thread thread = new Thread(runnable, "indonesia-expansion-" + counter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        };
+    ThreadPoolExecutor pool =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            30,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            factory);
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+
+  /** A range of items run by whichever thread claims it first. */
+  private static final class Chunk {
+
+    private final int from;
+    private final int to;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile Throwable failure;
+    // Only read and written by the thread that split the expansion
+    private boolean submitted;
+
+    Chunk(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    boolean claim() {
+      return claimed.compareAndSet(false, true);
+    }
+
+    <T, R> void run(List<T> items, Function<? super T, ? extends R> mapper, Object[] results) {
+      Boolean previous = EXPANDING.get();
+      EXPANDING.set(Boolean.TRUE);
+      try {
+        for (int i = from; i < to; i++) {
+          results[i] = mapper.apply(items.get(i));
+        }
+      } catch (Throwable t) {
+        failure = t;
+      } finally {
+        EXPANDING.set(previous);
+        done.countDown();
+      }
+    }
+
+    void await() {
+      try {
+        done.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while expanding regions", e);
+      }
+      if (failure instanceof RuntimeException e) {
+        throw e;
+      }
+      if (failure instanceof Error e) {
+        throw e;
+      }
+    }
+  }
+
+  private static final class SharedHolder {
+    private static final ExpansionStrategy INSTANCE = createShared();
+
+    private static ExpansionStrategy createShared() {
+      int cores = Runtime.getRuntime().availableProcessors();
+      return new ExpansionStrategy(
+          boundedPool(cores, cores * 16), cores, DEFAULT_INLINE_THRESHOLD, false);
+    }
+  }
+}
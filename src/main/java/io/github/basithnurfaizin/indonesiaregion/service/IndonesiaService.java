@@ -1,9 +1,18 @@
 package io.github.basithnurfaizin.indonesiaregion.service;
 
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionStatistics;
 import io.github.basithnurfaizin.indonesiaregion.model.City;
 import io.github.basithnurfaizin.indonesiaregion.model.District;
 import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionNode;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionStats;
 import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import io.github.basithnurfaizin.indonesiaregion.query.NameMatch;
+import io.github.basithnurfaizin.indonesiaregion.query.RegionAliases;
+import io.github.basithnurfaizin.indonesiaregion.query.RegionQuery;
+import java.util.ArrayList;
 import java.util.List;
 
 public interface IndonesiaService {
@@ -20,4 +29,82 @@ public interface IndonesiaService {
   City getCity(String cityCode, List<String> includes);
 
   District getDistrict(String districtCode, List<String> includes);
+
+  /**
+   * Returns the precomputed aggregates of a province, city or district, or of the whole dataset
+   * when the code is {@code null} or blank; {@code null} for an unknown code. The default reads
+   * every level through the list methods and aggregates them on each call.
+   */
+  default RegionStats getStats(String code) {
+    RegionStatistics statistics = listedRegions().statistics();
+    return code == null || code.isBlank() ? statistics.getTotal() : statistics.get(code);
+  }
+
+  /**
+   * Runs a query combining any of the conditions {@link RegionQuery} supports. The default reads
+   * the whole level through the list methods and {@link RegionQuery#filter filters} it.
+   */
+  @SuppressWarnings("unchecked")
+  default <T> List<T> query(RegionQuery<T> query) {
+    List<?> regions;
+    switch (query.getLevel()) {
+      case PROVINCE:
+        regions = getProvinces(null);
+        break;
+      case CITY:
+        regions = getCities(null, null);
+        break;
+      case DISTRICT:
+        regions = getDistricts(null, null);
+        break;
+      default:
+        regions = getVillages(null, null);
+    }
+    return query.filter((List<T>) regions);
+  }
+
+  /**
+   * Searches every level at once: matching provinces first, then cities, districts and villages,
+   * each in code order. Returns an empty list for blank text.
+   *
+   * <p>The default runs {@link SearchMode#KEYWORD} through the list methods and {@link
+   * SearchMode#PHONETIC} through {@link #query}. {@link SearchMode#ALIAS} reads every level through
+   * the list methods and builds the {@link RegionAliases#builtIn built-in aliases} on each call.
+   */
+  default List<RegionNode> search(String text, SearchMode mode) {
+    List<RegionNode> result = new ArrayList<>();
+    if (text == null || text.isBlank()) {
+      return result;
+    }
+    if (mode == SearchMode.ALIAS) {
+      RegionDataset regions = listedRegions();
+      for (String code : RegionAliases.builtIn(regions).resolve(text)) {
+        result.add(IndonesiaServiceImpl.node(regions, code));
+      }
+    } else if (mode == SearchMode.PHONETIC) {
+      query(RegionQuery.provinces().name(text, NameMatch.PHONETIC).build())
+          .forEach(p -> result.add(new RegionNode(RegionLevel.PROVINCE, p)));
+      query(RegionQuery.cities().name(text, NameMatch.PHONETIC).build())
+          .forEach(c -> result.add(new RegionNode(RegionLevel.CITY, c)));
+      query(RegionQuery.districts().name(text, NameMatch.PHONETIC).build())
+          .forEach(d -> result.add(new RegionNode(RegionLevel.DISTRICT, d)));
+      query(RegionQuery.villages().name(text, NameMatch.PHONETIC).build())
+          .forEach(v -> result.add(new RegionNode(RegionLevel.VILLAGE, v)));
+    } else {
+      getProvinces(text).forEach(p -> result.add(new RegionNode(RegionLevel.PROVINCE, p)));
+      getCities(null, text).forEach(c -> result.add(new RegionNode(RegionLevel.CITY, c)));
+      getDistricts(null, text).forEach(d -> result.add(new RegionNode(RegionLevel.DISTRICT, d)));
+      getVillages(null, text).forEach(v -> result.add(new RegionNode(RegionLevel.VILLAGE, v)));
+    }
+    return result;
+  }
+
+  /** The regions of the list methods as a dataset, for the defaults that need its indexes. */
+  private RegionDataset listedRegions() {
+    return RegionDataset.of(
+        getProvinces(null),
+        getCities(null, null),
+        getDistricts(null, null),
+        getVillages(null, null));
+  }
 }
@@ -1,73 +1,211 @@
 package io.github.basithnurfaizin.indonesiaregion.service;
 
-import io.github.basithnurfaizin.indonesiaregion.loader.CityLoader;
-import io.github.basithnurfaizin.indonesiaregion.loader.DistrictLoader;
-import io.github.basithnurfaizin.indonesiaregion.loader.ProvinceLoader;
-import io.github.basithnurfaizin.indonesiaregion.loader.VillageLoader;
+import io.github.basithnurfaizin.indonesiaregion.dataset.LevelIndex;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionStatistics;
+import io.github.basithnurfaizin.indonesiaregion.jfr.RegionQueryEvent;
 import io.github.basithnurfaizin.indonesiaregion.model.City;
 import io.github.basithnurfaizin.indonesiaregion.model.District;
 import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionNode;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionStats;
 import io.github.basithnurfaizin.indonesiaregion.model.Village;
-import java.util.Comparator;
+import io.github.basithnurfaizin.indonesiaregion.query.NameMatch;
+import io.github.basithnurfaizin.indonesiaregion.query.QueryPlan;
+import io.github.basithnurfaizin.indonesiaregion.query.RegionAliases;
+import io.github.basithnurfaizin.indonesiaregion.query.RegionQuery;
+import io.github.basithnurfaizin.indonesiaregion.query.RegionQueryPlanner;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public class IndonesiaServiceImpl implements IndonesiaService {
 
-  private final Map<String, Province> provinces;
-  private final Map<String, City> cities;
-  private final Map<String, District> districts;
-  private final Map<String, Village> villages;
+  private final Supplier<RegionDataset> snapshots;
+  private final ExpansionStrategy expansion;
+  private final Function<RegionDataset, RegionAliases> aliasFactory;
+  private final AtomicReference<RegionAliases> aliases = new AtomicReference<>();
 
+  /** Creates a service over the process-wide {@link RegionDataset#shared() shared dataset}. */
   public IndonesiaServiceImpl() {
-    this.provinces = ProvinceLoader.loadProvinces();
-    this.cities = CityLoader.loadCities();
-    this.districts = DistrictLoader.loadDistricts();
-    this.villages = VillageLoader.loadVillages();
+    this(RegionDataset.shared());
+  }
+
+  public IndonesiaServiceImpl(RegionDataset dataset) {
+    this(() -> dataset);
+  }
+
+  /**
+   * Creates a service that reads whichever dataset the supplier currently returns, such as a {@link
+   * io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataReloader}. Each call reads the
+   * supplier once and answers entirely from that snapshot.
+   */
+  public IndonesiaServiceImpl(Supplier<RegionDataset> snapshots) {
+    this(snapshots, ExpansionStrategy.shared());
+  }
+
+  /**
+   * Like {@link #IndonesiaServiceImpl(Supplier)}, copying the regions of large {@code includes}
+   * expansions with the given strategy instead of the {@link ExpansionStrategy#shared() shared}
+   * one.
+   */
+  public IndonesiaServiceImpl(Supplier<RegionDataset> snapshots, ExpansionStrategy expansion) {
+    this(snapshots, expansion, RegionAliases::builtIn);
+  }
+
+  private IndonesiaServiceImpl(
+      Supplier<RegionDataset> snapshots,
+      ExpansionStrategy expansion,
+      Function<RegionDataset, RegionAliases> aliasFactory) {
+    this.snapshots = snapshots;
+    this.expansion = expansion;
+    this.aliasFactory = aliasFactory;
+  }
+
+  /**
+   * Returns a service immediately over the {@link RegionDataset#sharedAsync() shared dataset},
+   * which loads on a background thread one level at a time: provinces, then cities, districts and
+   * villages.
+   *
+   * <p>Queries are served as soon as the levels they read are loaded; a query that needs a level
+   * still loading blocks until it is available. Use {@link #whenReady(RegionLevel)} or {@link
+   * #isReady(RegionLevel)} to gate traffic or health checks per level.
+   */
+  public static IndonesiaServiceImpl loadAsync() {
+    return new IndonesiaServiceImpl(RegionDataset.sharedAsync());
+  }
+
+  /**
+   * Like {@link #loadAsync()}, over a private dataset whose levels are loaded in order on the given
+   * executor.
+   */
+  public static IndonesiaServiceImpl loadAsync(Executor executor) {
+    return new IndonesiaServiceImpl(RegionDataset.loadAsync(executor));
+  }
+
+  /**
+   * Returns a service over the same datasets whose {@link SearchMode#ALIAS alias} searches also
+   * know the aliases of the given {@code alias,code} file.
+   *
+   * <p>The file is read once and checked against the current dataset. When a later dataset no
+   * longer has a region the file names, that alias is skipped rather than failing the search.
+   *
+   * @throws IllegalArgumentException if the current dataset has no region of a code in the file
+   */
+  public IndonesiaServiceImpl withAliases(Path aliasFile) {
+    List<Map.Entry<String, String>> fileAliases = RegionAliases.read(aliasFile);
+    RegionDataset data = snapshots.get();
+    RegionAliases.Builder checked = RegionAliases.builder(data);
+    fileAliases.forEach(alias -> checked.add(alias.getKey(), alias.getValue()));
+    IndonesiaServiceImpl service =
+        new IndonesiaServiceImpl(
+            snapshots,
+            expansion,
+            snapshot -> {
+              RegionAliases.Builder builder = RegionAliases.builder(snapshot);
+              fileAliases.forEach(alias -> builder.addIfKnown(alias.getKey(), alias.getValue()));
+              return builder.build();
+            });
+    service.aliases.set(checked.build());
+    return service;
+  }
+
+  /**
+   * Returns the aliases of the dataset this service currently reads, built on first use and again
+   * whenever the dataset is replaced.
+   */
+  public RegionAliases getAliases() {
+    return aliases(snapshots.get());
+  }
+
+  /** Returns the strategy running {@code includes} expansions, with its metrics. */
+  public ExpansionStrategy getExpansionStrategy() {
+    return expansion;
+  }
+
+  /** Returns the dataset this service currently reads. */
+  public RegionDataset getDataset() {
+    return snapshots.get();
+  }
+
+  /** Completes when the given level is loaded, or exceptionally if loading failed. */
+  public CompletableFuture<Void> whenReady(RegionLevel level) {
+    return snapshots.get().whenReady(level);
+  }
+
+  /** Completes when every level is loaded. */
+  public CompletableFuture<Void> whenReady() {
+    return snapshots.get().whenReady();
+  }
+
+  public boolean isReady(RegionLevel level) {
+    return snapshots.get().isReady(level);
   }
 
   @Override
   public List<Province> getProvinces(String keyword) {
-    return filterAndSort(
-        provinces.values().stream(),
-        keyword,
-        Province::getCode,
-        Province::getName,
-        Province::getCode);
+    RegionQueryEvent event = new RegionQueryEvent();
+    event.begin();
+    List<Province> candidates = snapshots.get().provinces().all();
+    List<Province> result =
+        filterByKeyword(candidates, keyword, Province::getCode, Province::getName);
+    event.end("getProvinces", null, keyword, candidates.size(), result.size());
+    return result;
   }
 
   @Override
   public List<City> getCities(String provinceCode, String keyword) {
-    Stream<City> stream = cities.values().stream();
-    if (isNotBlank(provinceCode)) {
-      stream = stream.filter(city -> city.getProvinceCode().equalsIgnoreCase(provinceCode));
-    }
-    return filterAndSort(stream, keyword, City::getCode, City::getName, City::getCode);
+    RegionQueryEvent event = new RegionQueryEvent();
+    event.begin();
+    List<City> candidates = candidates(snapshots.get().cities(), provinceCode);
+    List<City> result = filterByKeyword(candidates, keyword, City::getCode, City::getName);
+    event.end("getCities", provinceCode, keyword, candidates.size(), result.size());
+    return result;
   }
 
   @Override
   public List<District> getDistricts(String cityCode, String keyword) {
-    Stream<District> stream = districts.values().stream();
-    if (isNotBlank(cityCode)) {
-      stream = stream.filter(d -> d.getCityCode().equalsIgnoreCase(cityCode));
-    }
-    return filterAndSort(stream, keyword, District::getCode, District::getName, District::getCode);
+    RegionQueryEvent event = new RegionQueryEvent();
+    event.begin();
+    List<District> candidates = candidates(snapshots.get().districts(), cityCode);
+    List<District> result =
+        filterByKeyword(candidates, keyword, District::getCode, District::getName);
+    event.end("getDistricts", cityCode, keyword, candidates.size(), result.size());
+    return result;
   }
 
   @Override
   public List<Village> getVillages(String districtCode, String keyword) {
-    Stream<Village> stream = villages.values().stream();
-    if (isNotBlank(districtCode)) {
-      stream = stream.filter(v -> v.getDistrictCode().equalsIgnoreCase(districtCode));
-    }
-    return filterAndSort(stream, keyword, Village::getCode, Village::getName, Village::getCode);
+    RegionQueryEvent event = new RegionQueryEvent();
+    event.begin();
+    List<Village> candidates = candidates(snapshots.get().villages(), districtCode);
+    List<Village> result = filterByKeyword(candidates, keyword, Village::getCode, Village::getName);
+    event.end("getVillages", districtCode, keyword, candidates.size(), result.size());
+    return result;
   }
 
   @Override
   public Province getProvince(String provinceCode, List<String> includes) {
-    Province province = provinces.get(provinceCode);
+    RegionQueryEvent event = new RegionQueryEvent();
+    event.begin();
+    Province result = expandProvince(snapshots.get(), provinceCode, includes);
+    if (event.shouldCommit()) {
+      event.end("getProvince", provinceCode, null, 1, RegionCounts.count(result));
+    }
+    return result;
+  }
+
+  private Province expandProvince(RegionDataset data, String provinceCode, List<String> includes) {
+    Province province = data.provinces().get(provinceCode);
     if (province == null) {
       return null;
     }
@@ -75,9 +213,8 @@ public class IndonesiaServiceImpl implements IndonesiaService {
     Province result = copyProvinceProperties(province);
 
     if (shouldInclude(includes, "cities")) {
-      List<City> cities = getCities(province.getCode(), null);
-      loadNestedData(cities, includes);
-      result.setCities(cities);
+      List<City> cities = data.cities().children(province.getCode());
+      result.setCities(loadNestedData(data, cities, includes));
     }
 
     return result;
@@ -85,7 +222,17 @@ public class IndonesiaServiceImpl implements IndonesiaService {
 
   @Override
   public City getCity(String cityCode, List<String> includes) {
-    City city = cities.get(cityCode);
+    RegionQueryEvent event = new RegionQueryEvent();
+    event.begin();
+    City result = expandCity(snapshots.get(), cityCode, includes);
+    if (event.shouldCommit()) {
+      event.end("getCity", cityCode, null, 1, RegionCounts.count(result));
+    }
+    return result;
+  }
+
+  private City expandCity(RegionDataset data, String cityCode, List<String> includes) {
+    City city = data.cities().get(cityCode);
     if (city == null) {
       return null;
     }
@@ -93,9 +240,8 @@ public class IndonesiaServiceImpl implements IndonesiaService {
     City result = copyCityProperties(city);
 
     if (shouldInclude(includes, "districts")) {
-      List<District> districts = getDistricts(city.getCode(), null);
-      loadVillagesForDistricts(districts, includes);
-      result.setDistricts(districts);
+      List<District> districts = data.districts().children(city.getCode());
+      result.setDistricts(loadVillagesForDistricts(data, districts, includes));
     }
 
     return result;
@@ -103,7 +249,17 @@ public class IndonesiaServiceImpl implements IndonesiaService {
 
   @Override
   public District getDistrict(String districtCode, List<String> includes) {
-    District district = districts.get(districtCode);
+    RegionQueryEvent event = new RegionQueryEvent();
+    event.begin();
+    District result = expandDistrict(snapshots.get(), districtCode, includes);
+    if (event.shouldCommit()) {
+      event.end("getDistrict", districtCode, null, 1, RegionCounts.count(result));
+    }
+    return result;
+  }
+
+  private District expandDistrict(RegionDataset data, String districtCode, List<String> includes) {
+    District district = data.districts().get(districtCode);
     if (district == null) {
       return null;
     }
@@ -111,13 +267,133 @@ public class IndonesiaServiceImpl implements IndonesiaService {
     District result = copyDistrictProperties(district);
 
     if (shouldInclude(includes, "villages")) {
-      List<Village> villages = getVillages(district.getCode(), null);
-      result.setVillages(villages);
+      result.setVillages(data.villages().children(district.getCode()));
     }
 
     return result;
   }
 
+  @Override
+  public RegionStats getStats(String code) {
+    RegionStatistics statistics = snapshots.get().statistics();
+    return isNotBlank(code) ? statistics.get(code) : statistics.getTotal();
+  }
+
+  @Override
+  public <T> List<T> query(RegionQuery<T> query) {
+    RegionQueryEvent event = new RegionQueryEvent();
+    event.begin();
+    QueryPlan<T> plan = RegionQueryPlanner.plan(snapshots.get(), query);
+    List<T> result = plan.execute();
+    event.end("query", null, query.getName(), plan.getCandidateCount(), result.size());
+    return result;
+  }
+
+  @Override
+  public List<RegionNode> search(String text, SearchMode mode) {
+    RegionQueryEvent event = new RegionQueryEvent();
+    event.begin();
+    List<RegionNode> result = new ArrayList<>();
+    int candidates = 0;
+    if (isNotBlank(text)) {
+      RegionDataset data = snapshots.get();
+      if (mode == SearchMode.ALIAS) {
+        List<String> codes = aliases(data).resolve(text);
+        for (String code : codes) {
+          result.add(node(data, code));
+        }
+        candidates = codes.size();
+      } else if (mode == SearchMode.PHONETIC) {
+        candidates += searchPhonetic(data, RegionQuery.provinces(), text, result);
+        candidates += searchPhonetic(data, RegionQuery.cities(), text, result);
+        candidates += searchPhonetic(data, RegionQuery.districts(), text, result);
+        candidates += searchPhonetic(data, RegionQuery.villages(), text, result);
+      } else {
+        candidates +=
+            searchKeyword(
+                data.provinces(),
+                text,
+                Province::getCode,
+                Province::getName,
+                RegionLevel.PROVINCE,
+                result);
+        candidates +=
+            searchKeyword(
+                data.cities(), text, City::getCode, City::getName, RegionLevel.CITY, result);
+        candidates +=
+            searchKeyword(
+                data.districts(),
+                text,
+                District::getCode,
+                District::getName,
+                RegionLevel.DISTRICT,
+                result);
+        candidates +=
+            searchKeyword(
+                data.villages(),
+                text,
+                Village::getCode,
+                Village::getName,
+                RegionLevel.VILLAGE,
+                result);
+      }
+    }
+    event.end("search", null, text, candidates, result.size());
+    return Collections.unmodifiableList(result);
+  }
+
+  private RegionAliases aliases(RegionDataset data) {
+    RegionAliases current = aliases.get();
+    if (current == null || current.getDataset() != data) {
+      current = aliasFactory.apply(data);
+      aliases.set(current);
+    }
+    return current;
+  }
+
+  /** The region of an alias code, whose level is told by its length. */
+  static RegionNode node(RegionDataset data, String code) {
+    switch (code.length()) {
+      case 2:
+        return new RegionNode(RegionLevel.PROVINCE, data.provinces().get(code));
+      case 4:
+        return new RegionNode(RegionLevel.CITY, data.cities().get(code));
+      case 6:
+        return new RegionNode(RegionLevel.DISTRICT, data.districts().get(code));
+      default:
+        return new RegionNode(RegionLevel.VILLAGE, data.villages().get(code));
+    }
+  }
+
+  /** Adds the regions of one level whose name sounds like the text; returns the candidates read. */
+  private static <T> int searchPhonetic(
+      RegionDataset data, RegionQuery.Builder<T> level, String text, List<RegionNode> result) {
+    RegionQuery<T> query = level.name(text, NameMatch.PHONETIC).build();
+    QueryPlan<T> plan = RegionQueryPlanner.plan(data, query);
+    for (T region : plan.execute()) {
+      result.add(new RegionNode(query.getLevel(), region));
+    }
+    return plan.getCandidateCount();
+  }
+
+  private static <T> int searchKeyword(
+      LevelIndex<T> index,
+      String text,
+      Function<T, String> codeExtractor,
+      Function<T, String> nameExtractor,
+      RegionLevel level,
+      List<RegionNode> result) {
+    for (T region : filterByKeyword(index.all(), text, codeExtractor, nameExtractor)) {
+      result.add(new RegionNode(level, region));
+    }
+    return index.all().size();
+  }
+
+  /** Returns how {@link #query} would run the query against the current dataset. */
+  public <T> QueryPlan<T> explain(RegionQuery<T> query) {
+    return RegionQueryPlanner.plan(snapshots.get(), query);
+  }
+
   // Helper methods
   private boolean shouldInclude(List<String> includes, String item) {
     return includes != null && includes.contains(item);
@@ -135,6 +411,7 @@ public class IndonesiaServiceImpl implements IndonesiaService {
   private City copyCityProperties(City source) {
     City result = new City();
     result.setCode(source.getCode());
+    result.setProvinceCode(source.getProvinceCode());
     result.setName(source.getName());
     result.setLatitude(source.getLatitude());
     result.setLongitude(source.getLongitude());
@@ -144,54 +421,76 @@ public class IndonesiaServiceImpl implements IndonesiaService {
   private District copyDistrictProperties(District source) {
     District result = new District();
     result.setCode(source.getCode());
+    result.setCityCode(source.getCityCode());
     result.setName(source.getName());
     result.setLatitude(source.getLatitude());
     result.setLongitude(source.getLongitude());
     return result;
   }
 
-  private void loadNestedData(List<City> cities, List<String> includes) {
-    if (shouldInclude(includes, "districts")) {
-      cities.parallelStream()
-          .forEach(
-              city -> {
-                List<District> districts = getDistricts(city.getCode(), null);
-                loadVillagesForDistricts(districts, includes);
-                city.setDistricts(districts);
-              });
+  // Cached regions are shared, so nested data is attached to copies.
+  private List<City> loadNestedData(RegionDataset data, List<City> cities, List<String> includes) {
+    if (!shouldInclude(includes, "districts")) {
+      return cities;
     }
+    boolean villages = shouldInclude(includes, "villages");
+    return expansion.map(
+        cities,
+        city -> villages ? 1 + data.districts().children(city.getCode()).size() : 1,
+        city -> {
+          City copy = copyCityProperties(city);
+          List<District> districts = data.districts().children(city.getCode());
+          copy.setDistricts(loadVillagesForDistricts(data, districts, includes));
+          return copy;
+        });
   }
 
-  private void loadVillagesForDistricts(List<District> districts, List<String> includes) {
-    if (shouldInclude(includes, "villages")) {
-      districts.parallelStream()
-          .forEach(
-              district -> {
-                List<Village> villages = getVillages(district.getCode(), null);
-                district.setVillages(villages);
-              });
+  private List<District> loadVillagesForDistricts(
+      RegionDataset data, List<District> districts, List<String> includes) {
+    if (!shouldInclude(includes, "villages")) {
+      return districts;
     }
+    return expansion.map(
+        districts,
+        district -> 1,
+        district -> {
+          District copy = copyDistrictProperties(district);
+          copy.setVillages(data.villages().children(district.getCode()));
+          return copy;
+        });
   }
 
   private static boolean isNotBlank(String str) {
     return str != null && !str.isBlank();
   }
 
-  private static <T> List<T> filterAndSort(
-      Stream<T> stream,
+  /** The children of the given parent, or the whole level when no parent is given. */
+  private static <T> List<T> candidates(LevelIndex<T> level, String parentCode) {
+    return isNotBlank(parentCode) ? level.children(parentCode) : level.all();
+  }
+
+  /** Filters regions already sorted by code, keeping their order. */
+  private static <T> List<T> filterByKeyword(
+      List<T> items,
       String keyword,
       Function<T, String> codeExtractor,
-      Function<T, String> nameExtractor,
-      Function<T, String> sortKey) {
-    if (isNotBlank(keyword)) {
-      String lower = keyword.toLowerCase();
-      stream =
-          stream.filter(
-              item ->
-                  codeExtractor.apply(item).equalsIgnoreCase(keyword)
-                      || codeExtractor.apply(item).toLowerCase().contains(lower)
-                      || nameExtractor.apply(item).toLowerCase().contains(lower));
-    }
-    return stream.sorted(Comparator.comparing(sortKey)).toList();
+      Function<T, String> nameExtractor) {
+    if (!isNotBlank(keyword)) {
+      return items;
+    }
+    return items.stream().filter(keywordFilter(keyword, codeExtractor, nameExtractor)).toList();
+  }
+
+  /** Matches regions whose code or name contains the keyword, ignoring case. */
+  static <T> Predicate<T> keywordFilter(
+      String keyword, Function<T, String> codeExtractor, Function<T, String> nameExtractor) {
+    if (!isNotBlank(keyword)) {
+      return item -> true;
+    }
+    String lower = keyword.toLowerCase();
+    return item ->
+        codeExtractor.apply(item).equalsIgnoreCase(keyword)
+            || codeExtractor.apply(item).toLowerCase().contains(lower)
+            || nameExtractor.apply(item).toLowerCase().contains(lower);
   }
 }
@@ -0,0 +1,121 @@
+package io.github.basithnurfaizin.indonesiaregion.service;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A cold publisher that emits the elements of a fresh iterator to each subscriber, only as fast as
+ * the subscriber requests them. The iterator is only obtained once the subscriber first requests
+ * elements.
+ *
+ * <p>Signals for one subscription are delivered on the executor, one drain at a time: a {@code
+ * request} made from inside {@code onNext} adds to the demand of the running drain instead of
+ * recursing. With a same-thread executor the elements are emitted on the thread that requests them.
+ */
+final class IteratorPublisher<T> implements Flow.Publisher<T> {
+
+  private final Supplier<? extends Iterator<? extends T>> source;
+  private final Executor executor;
+
+  IteratorPublisher(Supplier<? extends Iterator<? extends T>> source, Executor executor) {
+    this.source = source;
+    this.executor = executor;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    IteratorSubscription<T> subscription = new IteratorSubscription<>(subscriber, source, executor);
+    subscriber.onSubscribe(subscription);
+    subscription.drain();
+  }
+
+  private static final class IteratorSubscription<T> implements Flow.Subscription, Runnable {
+
+    private final Flow.Subscriber<? super T> subscriber;
+    private final Supplier<? extends Iterator<? extends T>> source;
+    private final Executor executor;
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+    private volatile boolean cancelled;
+    private volatile IllegalArgumentException invalidRequest;
+    private Iterator<? extends T> iterator;
+
+    IteratorSubscription(
+        Flow.Subscriber<? super T> subscriber,
+        Supplier<? extends Iterator<? extends T>> source,
+        Executor executor) {
+      this.subscriber = subscriber;
+      this.source = source;
+      this.executor = executor;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        invalidRequest = new IllegalArgumentException("Requested " + n + " elements, must be > 0");
+      } else {
+        requested.getAndAccumulate(
+            n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    void drain() {
+      if (pendingDrains.getAndIncrement() == 0) {
+        executor.execute(this);
+      }
+    }
+
+    @Override
+    public void run() {
+      int missed = 1;
+      do {
+        if (cancelled) {
+          return;
+        }
+        if (invalidRequest != null) {
+          cancelled = true;
+          subscriber.onError(invalidRequest);
+          return;
+        }
+        try {
+          long demand = requested.get();
+          if (iterator == null && demand != 0) {
+            iterator = source.get();
+          }
+          long emitted = 0;
+          while (iterator != null && emitted != demand && !cancelled && iterator.hasNext()) {
+            subscriber.onNext(iterator.next());
+            emitted++;
+          }
+          if (iterator != null && !cancelled && !iterator.hasNext()) {
+            cancelled = true;
+            subscriber.onComplete();
+            return;
+          }
+          if (emitted != 0 && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+          }
+        } catch (RuntimeException e) {
+          if (!cancelled) {
+            cancelled = true;
+            subscriber.onError(e);
+          }
+          return;
+        }
+        missed = pendingDrains.addAndGet(-missed);
+      } while (missed != 0);
+    }
+  }
+}
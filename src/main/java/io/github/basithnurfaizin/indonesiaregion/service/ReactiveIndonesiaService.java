@@ -0,0 +1,250 @@
+package io.github.basithnurfaizin.indonesiaregion.service;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.LevelIndex;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionNode;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * {@link Flow.Publisher} variants of the {@link IndonesiaService} list and expansion operations.
+ *
+ * <p>Every publisher is cold: each subscriber reads the dataset snapshot current at its first
+ * request and is fed straight from the dataset indexes, one element per unit of demand, without
+ * building the result list or nested tree first. Keyword filters have the same semantics as the
+ * list operations.
+ *
+ * <p>Tree publishers emit a depth-first sequence of {@link RegionNode}s, each region followed by
+ * its children, honouring the same {@code includes} as {@link IndonesiaService#getProvince}. The
+ * regions are the shared dataset models, so their nested lists are left unset.
+ */
+public class ReactiveIndonesiaService {
+
+  private static final Executor SAME_THREAD = Runnable::run;
+
+  private final Supplier<RegionDataset> snapshots;
+  private final Executor executor;
+
+  /** Creates a service over the {@link RegionDataset#shared() shared dataset}. */
+  public ReactiveIndonesiaService() {
+    this(RegionDataset.shared());
+  }
+
+  public ReactiveIndonesiaService(RegionDataset dataset) {
+    this(() -> dataset);
+  }
+
+  /** Creates a service that emits on the thread requesting elements. */
+  public ReactiveIndonesiaService(Supplier<RegionDataset> snapshots) {
+    this(snapshots, SAME_THREAD);
+  }
+
+  /** Creates a service that delivers every subscriber signal on the given executor. */
+  public ReactiveIndonesiaService(Supplier<RegionDataset> snapshots, Executor executor) {
+    this.snapshots = snapshots;
+    this.executor = executor;
+  }
+
+  public Flow.Publisher<Province> streamProvinces(String keyword) {
+    return filtered(
+        data -> data.provinces().all(),
+        IndonesiaServiceImpl.keywordFilter(keyword, Province::getCode, Province::getName));
+  }
+
+  public Flow.Publisher<City> streamCities(String provinceCode, String keyword) {
+    return filtered(
+        data -> candidates(data.cities(), provinceCode),
+        IndonesiaServiceImpl.keywordFilter(keyword, City::getCode, City::getName));
+  }
+
+  public Flow.Publisher<District> streamDistricts(String cityCode, String keyword) {
+    return filtered(
+        data -> candidates(data.districts(), cityCode),
+        IndonesiaServiceImpl.keywordFilter(keyword, District::getCode, District::getName));
+  }
+
+  public Flow.Publisher<Village> streamVillages(String districtCode, String keyword) {
+    return filtered(
+        data -> candidates(data.villages(), districtCode),
+        IndonesiaServiceImpl.keywordFilter(keyword, Village::getCode, Village::getName));
+  }
+
+  /**
+   * Streams a province followed by its {@code cities}, {@code districts} and {@code villages} as
+   * far as {@code includes} asks; empty for an unknown code.
+   */
+  public Flow.Publisher<RegionNode> streamProvinceTree(String provinceCode, List<String> includes) {
+    return new IteratorPublisher<>(
+        () -> {
+          RegionDataset data = snapshots.get();
+          Province province = data.provinces().get(provinceCode);
+          return province == null
+              ? Collections.emptyIterator()
+              : new TreeIterator(data, includes, RegionLevel.PROVINCE, province);
+        },
+        executor);
+  }
+
+  /** Streams a city followed by its {@code districts} and {@code villages}. */
+  public Flow.Publisher<RegionNode> streamCityTree(String cityCode, List<String> includes) {
+    return new IteratorPublisher<>(
+        () -> {
+          RegionDataset data = snapshots.get();
+          City city = data.cities().get(cityCode);
+          return city == null
+              ? Collections.emptyIterator()
+              : new TreeIterator(data, includes, RegionLevel.CITY, city);
+        },
+        executor);
+  }
+
+  /** Streams a district followed by its {@code villages}. */
+  public Flow.Publisher<RegionNode> streamDistrictTree(String districtCode, List<String> includes) {
+    return new IteratorPublisher<>(
+        () -> {
+          RegionDataset data = snapshots.get();
+          District district = data.districts().get(districtCode);
+          return district == null
+              ? Collections.emptyIterator()
+              : new TreeIterator(data, includes, RegionLevel.DISTRICT, district);
+        },
+        executor);
+  }
+
+  private <T> Flow.Publisher<T> filtered(
+      Function<RegionDataset, List<T>> candidates, Predicate<T> filter) {
+    return new IteratorPublisher<>(
+        () -> new FilteringIterator<>(candidates.apply(snapshots.get()).iterator(), filter),
+        executor);
+  }
+
+  private static <T> List<T> candidates(LevelIndex<T> level, String parentCode) {
+    return parentCode != null && !parentCode.isBlank() ? level.children(parentCode) : level.all();
+  }
+
+  /** Looks one element ahead so the publisher can complete as soon as the last match is sent. */
+  private static final class FilteringIterator<T> implements Iterator<T> {
+
+    private final Iterator<T> source;
+    private final Predicate<T> filter;
+    private T next;
+
+    FilteringIterator(Iterator<T> source, Predicate<T> filter) {
+      this.source = source;
+      this.filter = filter;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == null && source.hasNext()) {
+        T candidate = source.next();
+        if (filter.test(candidate)) {
+          next = candidate;
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T result = next;
+      next = null;
+      return result;
+    }
+  }
+
+  /** Walks the hierarchy depth-first, keeping one child iterator per open level. */
+  private static final class TreeIterator implements Iterator<RegionNode> {
+
+    private final RegionDataset data;
+    private final List<String> includes;
+    private final Deque<Iterator<RegionNode>> stack = new ArrayDeque<>();
+
+    TreeIterator(RegionDataset data, List<String> includes, RegionLevel level, Object root) {
+      this.data = data;
+      this.includes = includes;
+      stack.push(List.of(new RegionNode(level, root)).iterator());
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!stack.isEmpty() && !stack.peek().hasNext()) {
+        stack.pop();
+      }
+      return !stack.isEmpty();
+    }
+
+    @Override
+    public RegionNode next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      RegionNode node = stack.peek().next();
+      Iterator<RegionNode> children = children(node);
+      if (children != null) {
+        stack.push(children);
+      }
+      return node;
+    }
+
+    private Iterator<RegionNode> children(RegionNode node) {
+      return switch (node.getLevel()) {
+        case PROVINCE -> shouldInclude("cities")
+            ? nodes(RegionLevel.CITY, data.cities().children(code(node)))
+            : null;
+        case CITY -> shouldInclude("districts")
+            ? nodes(RegionLevel.DISTRICT, data.districts().children(code(node)))
+            : null;
+        case DISTRICT -> shouldInclude("villages")
+            ? nodes(RegionLevel.VILLAGE, data.villages().children(code(node)))
+            : null;
+        case VILLAGE -> null;
+      };
+    }
+
+    private boolean shouldInclude(String item) {
+      return includes != null && includes.contains(item);
+    }
+
+    private static String code(RegionNode node) {
+      return switch (node.getLevel()) {
+        case PROVINCE -> node.getRegion(Province.class).getCode();
+        case CITY -> node.getRegion(City.class).getCode();
+        case DISTRICT -> node.getRegion(District.class).getCode();
+        case VILLAGE -> node.getRegion(Village.class).getCode();
+      };
+    }
+
+    private static Iterator<RegionNode> nodes(RegionLevel level, List<?> regions) {
+      Iterator<?> source = regions.iterator();
+      return new Iterator<>() {
+        @Override
+        public boolean hasNext() {
+          return source.hasNext();
+        }
+
+        @Override
+        public RegionNode next() {
+          return new RegionNode(level, source.next());
+        }
+      };
+    }
+  }
+}
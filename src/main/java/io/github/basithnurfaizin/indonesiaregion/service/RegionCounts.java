@@ -0,0 +1,44 @@
+package io.github.basithnurfaizin.indonesiaregion.service;
+
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+
+/** Counts the regions in an expanded result, including the root; {@code 0} for {@code null}. */
+public final class RegionCounts {
+
+  private RegionCounts() {}
+
+  public static int count(Province province) {
+    if (province == null) {
+      return 0;
+    }
+    int count = 1;
+    if (province.getCities() != null) {
+      for (City city : province.getCities()) {
+        count += count(city);
+      }
+    }
+    return count;
+  }
+
+  public static int count(City city) {
+    if (city == null) {
+      return 0;
+    }
+    int count = 1;
+    if (city.getDistricts() != null) {
+      for (District district : city.getDistricts()) {
+        count += count(district);
+      }
+    }
+    return count;
+  }
+
+  public static int count(District district) {
+    if (district == null) {
+      return 0;
+    }
+    return district.getVillages() == null ? 1 : 1 + district.getVillages().size();
+  }
+}
@@ -0,0 +1,17 @@
+package io.github.basithnurfaizin.indonesiaregion.service;
+
+/** How {@link IndonesiaService#search(String, SearchMode)} matches its text against regions. */
+public enum SearchMode {
+  /** Codes or names containing the text, ignoring case, as the list methods filter. */
+  KEYWORD,
+  /**
+   * Names that sound like the text, tolerating old spellings and variants; see {@link
+   * io.github.basithnurfaizin.indonesiaregion.query.IndonesianPhonetic}.
+   */
+  PHONETIC,
+  /**
+   * Regions the text is a name, abbreviation or nickname of, such as "Jabar" or "Kab. Bandung"; see
+   * {@link io.github.basithnurfaizin.indonesiaregion.query.RegionAliases}.
+   */
+  ALIAS
+}
@@ -0,0 +1,156 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+/**
+ * A uniform latitude/longitude grid over the centroids of one level, with about two regions per
+ * cell, for exact k-nearest searches that only look at nearby cells.
+ *
+ * <p>A search visits the query's cell, then the rings of cells around it. Any region outside ring
+ * {@code r} differs from the query by more than {@code r} cell sizes in latitude or longitude, so
+ * once the k-th best distance is below that bound no further ring can improve the result.
+ */
+final class CentroidGrid {
+
+  private static final double KM_PER_DEGREE = DistanceKernels.EARTH_RADIUS_KM * Math.PI / 180;
+
+  // great-circle distance over a longitude difference is slightly below the parallel arc length
+  private static final double SAFETY = 0.95;
+
+  private final RegionCoordinates<?> coordinates;
+  private final double minLatitude;
+  private final double minLongitude;
+  private final double maxAbsLatitude;
+  private final double cellSize;
+  private final int rows;
+  private final int columns;
+  private final int[] cellStart;
+  private final int[] cellItems;
+
+  CentroidGrid(RegionCoordinates<?> coordinates) {
+    this.coordinates = coordinates;
+    double minLat = Double.POSITIVE_INFINITY;
+    double maxLat = Double.NEGATIVE_INFINITY;
+    double minLng = Double.POSITIVE_INFINITY;
+    double maxLng = Double.NEGATIVE_INFINITY;
+    int located = 0;
+    for (int i = 0; i < coordinates.size(); i++) {
+      double latitude = coordinates.latitude(i);
+      double longitude = coordinates.longitude(i);
+      if (!Double.isNaN(latitude) && !Double.isNaN(longitude)) {
+        minLat = Math.min(minLat, latitude);
+        maxLat = Math.max(maxLat, latitude);
+        minLng = Math.min(minLng, longitude);
+        maxLng = Math.max(maxLng, longitude);
+        located++;
+      }
+    }
+    if (located == 0) {
+      minLat = maxLat = minLng = maxLng = 0;
+    }
+    this.minLatitude = minLat;
+    this.minLongitude = minLng;
+    this.maxAbsLatitude = Math.max(Math.abs(minLat), Math.abs(maxLat));
+    double area = Math.max(1e-6, (maxLat - minLat) * (maxLng - minLng));
+    this.cellSize = Math.max(1e-4, Math.sqrt(area / Math.max(1, located / 2.0)));
+    this.rows = (int) ((maxLat - minLat) / cellSize) + 1;
+    this.columns = (int) ((maxLng - minLng) / cellSize) + 1;
+
+    int[] cellOf = new int[coordinates.size()];
+    this.cellStart = new int[rows * columns + 1];
+    for (int i = 0; i < coordinates.size(); i++) {
+      double latitude = coordinates.latitude(i);
+      double longitude = coordinates.longitude(i);
+      if (Double.isNaN(latitude) || Double.isNaN(longitude)) {
+        cellOf[i] = -1;
+      } else {
+        cellOf[i] = row(latitude) * columns + column(longitude);
+        cellStart[cellOf[i] + 1]++;
+      }
+    }
+    for (int c = 0; c < rows * columns; c++) {
+      cellStart[c + 1] += cellStart[c];
+    }
+    this.cellItems = new int[located];
+    int[] fill = cellStart.clone();
+    for (int i = 0; i < coordinates.size(); i++) {
+      if (cellOf[i] >= 0) {
+        cellItems[fill[cellOf[i]]++] = i;
+      }
+    }
+  }
+
+  /** The k nearest other regions of every region; empty rows for regions without coordinates. */
+  int[][] nearest(int k) {
+    int[][] result = new int[coordinates.size()][];
+    for (int i = 0; i < result.length; i++) {
+      double latitude = coordinates.latitude(i);
+      double longitude = coordinates.longitude(i);
+      if (Double.isNaN(latitude) || Double.isNaN(longitude)) {
+        result[i] = new int[0];
+        continue;
+      }
+      int self = i;
+      result[i] =
+          search(
+              latitude,
+              longitude,
+              k,
+              position -> position == self ? Double.NaN : coordinates.squaredChord(self, position));
+    }
+    return result;
+  }
+
+  /** The k regions nearest to a point, nearest first. */
+  int[] nearest(double latitude, double longitude, int k) {
+    double qx = DistanceKernels.x(latitude, longitude);
+    double qy = DistanceKernels.y(latitude, longitude);
+    double qz = DistanceKernels.z(latitude);
+    return search(
+        latitude, longitude, k, position -> coordinates.squaredChord(position, qx, qy, qz));
+  }
+
+  private int[] search(double latitude, double longitude, int k, Distance distance) {
+    NearestHeap heap = new NearestHeap(Math.min(k, cellItems.length));
+    int row = Math.min(rows - 1, Math.max(0, row(latitude)));
+    int column = Math.min(columns - 1, Math.max(0, column(longitude)));
+    double kmPerCell =
+        cellSize
+            * KM_PER_DEGREE
+            * Math.cos(Math.toRadians(Math.max(maxAbsLatitude, Math.abs(latitude))))
+            * SAFETY;
+    int maxRing = Math.max(Math.max(row, rows - 1 - row), Math.max(column, columns - 1 - column));
+    for (int ring = 0; ring <= maxRing; ring++) {
+      for (int r = row - ring; r <= row + ring; r++) {
+        if (r < 0 || r >= rows) {
+          continue;
+        }
+        boolean edgeRow = r == row - ring || r == row + ring;
+        int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+        for (int c = column - ring; c <= column + ring; c += step) {
+          if (c >= 0 && c < columns) {
+            int cell = r * columns + c;
+            for (int item = cellStart[cell]; item < cellStart[cell + 1]; item++) {
+              heap.offer(cellItems[item], distance.squaredChord(cellItems[item]));
+            }
+          }
+        }
+      }
+      if (heap.isFull() && DistanceKernels.chordToKm(heap.worstKey()) <= ring * kmPerCell) {
+        break;
+      }
+    }
+    return heap.drainAscending();
+  }
+
+  private int row(double latitude) {
+    return (int) Math.floor((latitude - minLatitude) / cellSize);
+  }
+
+  private int column(double longitude) {
+    return (int) Math.floor((longitude - minLongitude) / cellSize);
+  }
+
+  @FunctionalInterface
+  private interface Distance {
+    double squaredChord(int position);
+  }
+}
@@ -0,0 +1,75 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+/**
+ * Distance arithmetic on unit vectors. Points are stored as (x, y, z) on the unit sphere, where the
+ * squared chord between two points orders them exactly like their great-circle distance but needs
+ * no trigonometry, so a scan over the coordinate arrays is a plain multiply-add loop that the JIT
+ * can vectorize.
+ */
+final class DistanceKernels {
+
+  static final double EARTH_RADIUS_KM = 6371.0088;
+
+  /** Points per block: the squared chords of one block fit comfortably in L1. */
+  static final int BLOCK = 1024;
+
+  private DistanceKernels() {}
+
+  static double x(double latitude, double longitude) {
+    return Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(longitude));
+  }
+
+  static double y(double latitude, double longitude) {
+    return Math.cos(Math.toRadians(latitude)) * Math.sin(Math.toRadians(longitude));
+  }
+
+  static double z(double latitude) {
+    return Math.sin(Math.toRadians(latitude));
+  }
+
+  /**
+   * Writes the squared chords from (qx, qy, qz) to points {@code from} until {@code to} into {@code
+   * out[0..to-from)}. Points with NaN coordinates yield NaN, which compares false against any
+   * bound.
+   */
+  static void squaredChords(
+      double[] xs,
+      double[] ys,
+      double[] zs,
+      double qx,
+      double qy,
+      double qz,
+      int from,
+      int to,
+      double[] out) {
+    for (int i = from; i < to; i++) {
+      double dx = xs[i] - qx;
+      double dy = ys[i] - qy;
+      double dz = zs[i] - qz;
+      out[i - from] = dx * dx + dy * dy + dz * dz;
+    }
+  }
+
+  static double chordToKm(double squaredChord) {
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(squaredChord) / 2));
+  }
+
+  static double kmToSquaredChord(double km) {
+    double angle = Math.min(Math.PI, km / EARTH_RADIUS_KM);
+    double chord = 2 * Math.sin(angle / 2);
+    return chord * chord;
+  }
+
+  /** Great-circle distance by the haversine formula, for single pairs of coordinates. */
+  static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLng = Math.toRadians(lng2 - lng1);
+    double a =
+        Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1))
+                * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2)
+                * Math.sin(dLng / 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
@@ -0,0 +1,173 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import io.github.basithnurfaizin.indonesiaregion.model.BoundingBox;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Standard base-32 geohashes, and their 60-bit numeric form.
+ *
+ * <p>A cell id holds the interleaved bits of a 12-character geohash, longitude first, in the low 60
+ * bits of a long, so every shorter geohash covers one contiguous range of cell ids.
+ */
+public final class Geohash {
+
+  /** Characters in a full-precision cell id. */
+  public static final int MAX_PRECISION = 12;
+
+  static final int CELL_BITS = MAX_PRECISION * 5;
+
+  private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+  private Geohash() {}
+
+  /** The geohash of the point with {@code precision} characters (1 to 12). */
+  public static String encode(double latitude, double longitude, int precision) {
+    checkPrecision(precision);
+    return toString(cellId(latitude, longitude) >>> (CELL_BITS - 5 * precision), precision);
+  }
+
+  /** The full-precision cell id of the point. */
+  public static long cellId(double latitude, double longitude) {
+    if (!(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180)) {
+      throw new IllegalArgumentException("Invalid coordinates: " + latitude + ", " + longitude);
+    }
+    double minLatitude = -90;
+    double maxLatitude = 90;
+    double minLongitude = -180;
+    double maxLongitude = 180;
+    long bits = 0;
+    for (int i = 0; i < CELL_BITS; i++) {
+      bits <<= 1;
+      if (i % 2 == 0) {
+        double middle = (minLongitude + maxLongitude) / 2;
+        if (longitude >= middle) {
+          bits |= 1;
+          minLongitude = middle;
+        } else {
+          maxLongitude = middle;
+        }
+      } else {
+        double middle = (minLatitude + maxLatitude) / 2;
+        if (latitude >= middle) {
+          bits |= 1;
+          minLatitude = middle;
+        } else {
+          maxLatitude = middle;
+        }
+      }
+    }
+    return bits;
+  }
+
+  /** The first cell id inside the geohash. */
+  static long firstCellId(String geohash) {
+    return toBits(geohash) << (CELL_BITS - 5 * geohash.length());
+  }
+
+  /** One past the last cell id inside the geohash. */
+  static long endCellId(String geohash) {
+    return (toBits(geohash) + 1) << (CELL_BITS - 5 * geohash.length());
+  }
+
+  /** The rectangle covered by the geohash. */
+  public static BoundingBox decode(String geohash) {
+    long bits = toBits(geohash);
+    int total = 5 * geohash.length();
+    double minLatitude = -90;
+    double maxLatitude = 90;
+    double minLongitude = -180;
+    double maxLongitude = 180;
+    for (int i = 0; i < total; i++) {
+      boolean set = (bits >>> (total - 1 - i) & 1) == 1;
+      if (i % 2 == 0) {
+        double middle = (minLongitude + maxLongitude) / 2;
+        if (set) {
+          minLongitude = middle;
+        } else {
+          maxLongitude = middle;
+        }
+      } else {
+        double middle = (minLatitude + maxLatitude) / 2;
+        if (set) {
+          minLatitude = middle;
+        } else {
+          maxLatitude = middle;
+        }
+      }
+    }
+    return new BoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude);
+  }
+
+  /**
+   * The cells of the same precision around the geohash, clockwise from north: north, north-east,
+   * east, south-east, south, south-west, west and north-west. Longitude wraps around the
+   * antimeridian; cells beyond a pole are left out.
+   */
+  public static List<String> neighbors(String geohash) {
+    long bits = toBits(geohash);
+    int total = 5 * geohash.length();
+    int longitudeBits = (total + 1) / 2;
+    int latitudeBits = total / 2;
+    long longitude = 0;
+    long latitude = 0;
+    for (int i = 0; i < total; i++) {
+      long bit = bits >>> (total - 1 - i) & 1;
+      if (i % 2 == 0) {
+        longitude = longitude << 1 | bit;
+      } else {
+        latitude = latitude << 1 | bit;
+      }
+    }
+
+    int[][] steps = {{1, 0}, {1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {-1, -1}, {0, -1}, {1, -1}};
+    List<String> neighbors = new ArrayList<>(steps.length);
+    for (int[] step : steps) {
+      long lat = latitude + step[0];
+      if (lat < 0 || lat >= 1L << latitudeBits) {
+        continue;
+      }
+      long lng = (longitude + step[1]) & ((1L << longitudeBits) - 1);
+      long interleaved = 0;
+      for (int i = 0; i < total; i++) {
+        interleaved <<= 1;
+        interleaved |=
+            i % 2 == 0
+                ? lng >>> (longitudeBits - 1 - i / 2) & 1
+                : lat >>> (latitudeBits - 1 - i / 2) & 1;
+      }
+      neighbors.add(toString(interleaved, geohash.length()));
+    }
+    return neighbors;
+  }
+
+  static long toBits(String geohash) {
+    if (geohash == null || geohash.isEmpty() || geohash.length() > MAX_PRECISION) {
+      throw new IllegalArgumentException("Invalid geohash: " + geohash);
+    }
+    long bits = 0;
+    for (int i = 0; i < geohash.length(); i++) {
+      int value = BASE32.indexOf(Character.toLowerCase(geohash.charAt(i)));
+      if (value < 0) {
+        throw new IllegalArgumentException("Invalid geohash: " + geohash);
+      }
+      bits = bits << 5 | value;
+    }
+    return bits;
+  }
+
+  private static String toString(long bits, int precision) {
+    char[] chars = new char[precision];
+    for (int i = precision - 1; i >= 0; i--) {
+      chars[i] = BASE32.charAt((int) (bits & 31));
+      bits >>>= 5;
+    }
+    return new String(chars);
+  }
+
+  private static void checkPrecision(int precision) {
+    if (precision < 1 || precision > MAX_PRECISION) {
+      throw new IllegalArgumentException("precision must be between 1 and " + MAX_PRECISION);
+    }
+  }
+}
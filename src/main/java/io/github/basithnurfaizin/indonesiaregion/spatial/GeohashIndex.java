@@ -0,0 +1,142 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.LevelIndex;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The regions of one level sorted by the {@link Geohash} cell id of their centroid.
+ *
+ * <p>Every geohash prefix covers one contiguous range of the sorted ids, so a prefix lookup is two
+ * binary searches and a copy of the matching positions, without computing a single distance.
+ * Results are returned in code order. Regions without coordinates are not indexed.
+ */
+public final class GeohashIndex<T> {
+
+  private static final Function<LevelIndex<Province>, GeohashIndex<Province>> PROVINCES =
+      index -> new GeohashIndex<>(index.derived(RegionCoordinates.PROVINCES));
+
+  private static final Function<LevelIndex<City>, GeohashIndex<City>> CITIES =
+      index -> new GeohashIndex<>(index.derived(RegionCoordinates.CITIES));
+
+  private static final Function<LevelIndex<District>, GeohashIndex<District>> DISTRICTS =
+      index -> new GeohashIndex<>(index.derived(RegionCoordinates.DISTRICTS));
+
+  private static final Function<LevelIndex<Village>, GeohashIndex<Village>> VILLAGES =
+      index -> new GeohashIndex<>(index.derived(RegionCoordinates.VILLAGES));
+
+  private final RegionCoordinates<T> coordinates;
+  private final long[] cellIds;
+  private final int[] positions;
+
+  GeohashIndex(RegionCoordinates<T> coordinates) {
+    this.coordinates = coordinates;
+    long[] cellIdByPosition = new long[coordinates.size()];
+    List<Integer> indexed = new ArrayList<>(coordinates.size());
+    for (int i = 0; i < cellIdByPosition.length; i++) {
+      double latitude = coordinates.latitude(i);
+      double longitude = coordinates.longitude(i);
+      if (!Double.isNaN(latitude) && !Double.isNaN(longitude)) {
+        cellIdByPosition[i] = Geohash.cellId(latitude, longitude);
+        indexed.add(i);
+      }
+    }
+    // sorting is stable, so regions sharing a cell stay in code order
+    indexed.sort(Comparator.comparingLong(position -> cellIdByPosition[position]));
+    this.cellIds = new long[indexed.size()];
+    this.positions = new int[indexed.size()];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = indexed.get(i);
+      cellIds[i] = cellIdByPosition[positions[i]];
+    }
+  }
+
+  public static GeohashIndex<Province> provinces(RegionDataset dataset) {
+    return dataset.provinces().derived(PROVINCES);
+  }
+
+  public static GeohashIndex<City> cities(RegionDataset dataset) {
+    return dataset.cities().derived(CITIES);
+  }
+
+  public static GeohashIndex<District> districts(RegionDataset dataset) {
+    return dataset.districts().derived(DISTRICTS);
+  }
+
+  public static GeohashIndex<Village> villages(RegionDataset dataset) {
+    return dataset.villages().derived(VILLAGES);
+  }
+
+  /** Regions indexed, that is those with coordinates. */
+  public int size() {
+    return cellIds.length;
+  }
+
+  /** Regions whose centroid geohash starts with {@code prefix}, such as every village in "qqgu". */
+  public List<T> prefix(String prefix) {
+    return toRegions(collect(prefix, new int[0]));
+  }
+
+  /** Regions in any of the cells, each once. */
+  public List<T> cells(Collection<String> geohashes) {
+    int[] found = new int[0];
+    for (String geohash : geohashes) {
+      found = collect(geohash, found);
+    }
+    return toRegions(Arrays.stream(found).distinct().toArray());
+  }
+
+  /** Regions in the cell and the eight cells around it, for lookups near a cell edge. */
+  public List<T> withNeighbors(String geohash) {
+    List<String> cells = new ArrayList<>(Geohash.neighbors(geohash));
+    cells.add(geohash);
+    return cells(cells);
+  }
+
+  /** Number of regions whose centroid geohash starts with {@code prefix}. */
+  public int count(String prefix) {
+    return upperBound(Geohash.endCellId(prefix) - 1) - upperBound(Geohash.firstCellId(prefix) - 1);
+  }
+
+  /** Appends the positions in the geohash's range to {@code found}. */
+  private int[] collect(String geohash, int[] found) {
+    int from = upperBound(Geohash.firstCellId(geohash) - 1);
+    int to = upperBound(Geohash.endCellId(geohash) - 1);
+    int[] result = Arrays.copyOf(found, found.length + (to - from));
+    System.arraycopy(positions, from, result, found.length, to - from);
+    return result;
+  }
+
+  /** The first index whose cell id is greater than {@code value}. */
+  private int upperBound(long value) {
+    int low = 0;
+    int high = cellIds.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (cellIds[middle] <= value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private List<T> toRegions(int[] found) {
+    Arrays.sort(found);
+    List<T> regions = new ArrayList<>(found.length);
+    for (int position : found) {
+      regions.add(coordinates.region(position));
+    }
+    return regions;
+  }
+}
@@ -0,0 +1,101 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+/**
+ * Keeps the {@code capacity} smallest (key, position) pairs offered, as a max-heap whose root is
+ * the worst pair kept. Equal keys are ordered by position, so results are deterministic.
+ */
+final class NearestHeap {
+
+  private final int[] positions;
+  private final double[] keys;
+  private int size;
+
+  NearestHeap(int capacity) {
+    this.positions = new int[capacity];
+    this.keys = new double[capacity];
+  }
+
+  boolean isFull() {
+    return size == positions.length;
+  }
+
+  /** The largest key kept, or infinity while the heap is not full. */
+  double worstKey() {
+    return isFull() && size > 0 ? keys[0] : Double.POSITIVE_INFINITY;
+  }
+
+  void offer(int position, double key) {
+    if (positions.length == 0 || Double.isNaN(key)) {
+      return;
+    }
+    if (size < positions.length) {
+      positions[size] = position;
+      keys[size] = key;
+      siftUp(size++);
+    } else if (compare(key, position, keys[0], positions[0]) < 0) {
+      positions[0] = position;
+      keys[0] = key;
+      siftDown(size);
+    }
+  }
+
+  /** Empties the heap, returning the positions kept from nearest to farthest. */
+  int[] drainAscending() {
+    int[] sorted = new int[size];
+    for (int n = size; n > 0; n--) {
+      sorted[n - 1] = positions[0];
+      positions[0] = positions[n - 1];
+      keys[0] = keys[n - 1];
+      siftDown(n - 1);
+    }
+    size = 0;
+    return sorted;
+  }
+
+  private static int compare(double key, int position, double otherKey, int otherPosition) {
+    int byKey = Double.compare(key, otherKey);
+    return byKey != 0 ? byKey : Integer.compare(position, otherPosition);
+  }
+
+  private void siftUp(int index) {
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (compare(keys[index], positions[index], keys[parent], positions[parent]) <= 0) {
+        return;
+      }
+      swap(index, parent);
+      index = parent;
+    }
+  }
+
+  private void siftDown(int size) {
+    int index = 0;
+    while (true) {
+      int largest = index;
+      int left = 2 * index + 1;
+      int right = left + 1;
+      if (left < size
+          && compare(keys[left], positions[left], keys[largest], positions[largest]) > 0) {
+        largest = left;
+      }
+      if (right < size
+          && compare(keys[right], positions[right], keys[largest], positions[largest]) > 0) {
+        largest = right;
+      }
+      if (largest == index) {
+        return;
+      }
+      swap(index, largest);
+      index = largest;
+    }
+  }
+
+  private void swap(int a, int b) {
+    int position = positions[a];
+    positions[a] = positions[b];
+    positions[b] = position;
+    double key = keys[a];
+    keys[a] = keys[b];
+    keys[b] = key;
+  }
+}
@@ -0,0 +1,14 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** A region found near a point, with its great-circle distance from that point. */
+@Data
+@AllArgsConstructor
+public class Neighbor<T> {
+
+  private T region;
+
+  private double distanceKm;
+}
@@ -0,0 +1,259 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.LevelIndex;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * An approximate adjacency graph between the regions of one level: each region is linked to its
+ * {@code k} nearest regions by centroid, and every link goes both ways.
+ *
+ * <p>The graph is stored in compressed sparse row form: the neighbours of the region at position
+ * {@code i} are {@code targets[offsets[i]..offsets[i + 1])}, nearest first, with their distances
+ * alongside. The k nearest regions are found on a uniform grid over the centroids, searching
+ * outwards ring by ring until no unseen cell can hold a closer region. Regions without coordinates
+ * have no neighbours.
+ */
+public final class NeighborGraph<T> {
+
+  /** Nearest regions linked from each region by the default graphs. */
+  public static final int DEFAULT_K = 6;
+
+  private static final Function<LevelIndex<Province>, NeighborGraph<Province>> PROVINCES =
+      index ->
+          new NeighborGraph<>(
+              index.derived(RegionCoordinates.PROVINCES), Province::getCode, DEFAULT_K);
+
+  private static final Function<LevelIndex<City>, NeighborGraph<City>> CITIES =
+      index ->
+          new NeighborGraph<>(index.derived(RegionCoordinates.CITIES), City::getCode, DEFAULT_K);
+
+  private static final Function<LevelIndex<District>, NeighborGraph<District>> DISTRICTS =
+      index ->
+          new NeighborGraph<>(
+              index.derived(RegionCoordinates.DISTRICTS), District::getCode, DEFAULT_K);
+
+  private static final Function<LevelIndex<Village>, NeighborGraph<Village>> VILLAGES =
+      index ->
+          new NeighborGraph<>(
+              index.derived(RegionCoordinates.VILLAGES), Village::getCode, DEFAULT_K);
+
+  private final RegionCoordinates<T> coordinates;
+  private final CentroidGrid grid;
+  private final Map<String, Integer> positions;
+  private final int k;
+  private final int[] offsets;
+  private final int[] targets;
+  private final float[] distances;
+
+  public NeighborGraph(RegionCoordinates<T> coordinates, Function<T, String> code, int k) {
+    if (k < 1) {
+      throw new IllegalArgumentException("k must be positive");
+    }
+    this.coordinates = coordinates;
+    this.k = k;
+    int size = coordinates.size();
+    this.positions = new HashMap<>(size * 4 / 3 + 1);
+    for (int i = 0; i < size; i++) {
+      positions.put(code.apply(coordinates.region(i)), i);
+    }
+
+    this.grid = new CentroidGrid(coordinates);
+    int[][] nearest = grid.nearest(k);
+
+    // symmetrize: count each region's links in both directions, without duplicates
+    int[] degree = new int[size];
+    for (int i = 0; i < size; i++) {
+      for (int j : nearest[i]) {
+        degree[i]++;
+        if (!contains(nearest[j], i)) {
+          degree[j]++;
+        }
+      }
+    }
+    this.offsets = new int[size + 1];
+    for (int i = 0; i < size; i++) {
+      offsets[i + 1] = offsets[i] + degree[i];
+    }
+    this.targets = new int[offsets[size]];
+    int[] fill = Arrays.copyOf(offsets, size);
+    for (int i = 0; i < size; i++) {
+      for (int j : nearest[i]) {
+        targets[fill[i]++] = j;
+        if (!contains(nearest[j], i)) {
+          targets[fill[j]++] = i;
+        }
+      }
+    }
+    this.distances = new float[targets.length];
+    for (int i = 0; i < size; i++) {
+      sortByDistance(i);
+    }
+  }
+
+  public static NeighborGraph<Province> provinces(RegionDataset dataset) {
+    return dataset.provinces().derived(PROVINCES);
+  }
+
+  public static NeighborGraph<City> cities(RegionDataset dataset) {
+    return dataset.cities().derived(CITIES);
+  }
+
+  public static NeighborGraph<District> districts(RegionDataset dataset) {
+    return dataset.districts().derived(DISTRICTS);
+  }
+
+  public static NeighborGraph<Village> villages(RegionDataset dataset) {
+    return dataset.villages().derived(VILLAGES);
+  }
+
+  /** Links in the graph, counting each direction. */
+  public int edgeCount() {
+    return targets.length;
+  }
+
+  /** The regions adjacent to the region, nearest first; empty for an unknown code. */
+  public List<T> neighbors(String code) {
+    Integer position = positions.get(code);
+    if (position == null) {
+      return List.of();
+    }
+    List<T> result = new ArrayList<>(offsets[position + 1] - offsets[position]);
+    for (int e = offsets[position]; e < offsets[position + 1]; e++) {
+      result.add(coordinates.region(targets[e]));
+    }
+    return result;
+  }
+
+  /** Like {@link #neighbors(String)}, with the distance to each neighbour. */
+  public List<Neighbor<T>> neighborsWithDistance(String code) {
+    Integer position = positions.get(code);
+    if (position == null) {
+      return List.of();
+    }
+    List<Neighbor<T>> result = new ArrayList<>(offsets[position + 1] - offsets[position]);
+    for (int e = offsets[position]; e < offsets[position + 1]; e++) {
+      result.add(new Neighbor<>(coordinates.region(targets[e]), distances[e]));
+    }
+    return result;
+  }
+
+  /**
+   * The regions reachable from the region in at most {@code hops} links, excluding the region
+   * itself, in breadth-first order: all regions one hop away, nearest first, then two hops away.
+   */
+  public List<T> withinHops(String code, int hops) {
+    if (hops < 0) {
+      throw new IllegalArgumentException("hops must be >= 0");
+    }
+    Integer start = positions.get(code);
+    if (start == null) {
+      return List.of();
+    }
+    BitSet visited = new BitSet(coordinates.size());
+    visited.set(start);
+    int[] frontier = {start};
+    List<T> result = new ArrayList<>();
+    for (int hop = 0; hop < hops && frontier.length > 0; hop++) {
+      int[] next = new int[0];
+      int count = 0;
+      for (int position : frontier) {
+        for (int e = offsets[position]; e < offsets[position + 1]; e++) {
+          int target = targets[e];
+          if (!visited.get(target)) {
+            visited.set(target);
+            if (count == next.length) {
+              next = Arrays.copyOf(next, Math.max(16, count * 2));
+            }
+            next[count++] = target;
+            result.add(coordinates.region(target));
+          }
+        }
+      }
+      frontier = Arrays.copyOf(next, count);
+    }
+    return result;
+  }
+
+  /** The position of the region with the code, or {@code -1}. */
+  int positionOf(String code) {
+    Integer position = positions.get(code);
+    return position == null ? -1 : position;
+  }
+
+  /**
+   * Distance to the k-th nearest region, or to the farthest neighbour when the region has fewer.
+   * Every region closer than this is a neighbour.
+   */
+  float nearestRadiusKm(int position) {
+    int count = Math.min(k, offsets[position + 1] - offsets[position]);
+    return count == 0 ? 0 : distances[offsets[position] + count - 1];
+  }
+
+  int firstEdge(int position) {
+    return offsets[position];
+  }
+
+  int endEdge(int position) {
+    return offsets[position + 1];
+  }
+
+  int target(int edge) {
+    return targets[edge];
+  }
+
+  float distanceKm(int edge) {
+    return distances[edge];
+  }
+
+  RegionCoordinates<T> coordinates() {
+    return coordinates;
+  }
+
+  /** The grid the graph was built on, for exact nearest searches from any point. */
+  CentroidGrid grid() {
+    return grid;
+  }
+
+  private void sortByDistance(int position) {
+    int from = offsets[position];
+    int to = offsets[position + 1];
+    for (int e = from; e < to; e++) {
+      distances[e] =
+          (float) DistanceKernels.chordToKm(coordinates.squaredChord(position, targets[e]));
+    }
+    // insertion sort: rows hold about k to 2k entries
+    for (int e = from + 1; e < to; e++) {
+      int target = targets[e];
+      float distance = distances[e];
+      int f = e - 1;
+      while (f >= from
+          && (distances[f] > distance || distances[f] == distance && targets[f] > target)) {
+        targets[f + 1] = targets[f];
+        distances[f + 1] = distances[f];
+        f--;
+      }
+      targets[f + 1] = target;
+      distances[f + 1] = distance;
+    }
+  }
+
+  private static boolean contains(int[] values, int value) {
+    for (int candidate : values) {
+      if (candidate == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
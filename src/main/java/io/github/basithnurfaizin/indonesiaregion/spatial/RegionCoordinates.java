@@ -0,0 +1,229 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.LevelIndex;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.Centroids;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * The centroids of one level in dense arrays, indexed like {@link LevelIndex#all()}, with exact
+ * brute-force nearest-neighbour and radius scans.
+ *
+ * <p>Besides the latitudes and longitudes, each centroid is kept as a unit vector in three more
+ * arrays, so a scan touches only contiguous doubles instead of dereferencing one model object per
+ * region; the 83k villages scan in well under a millisecond. Regions without coordinates (NaN, or
+ * the {@code 0,0} the loaders use for a missing village centroid) are never returned.
+ */
+public final class RegionCoordinates<T> {
+
+  static final Function<LevelIndex<Province>, RegionCoordinates<Province>> PROVINCES =
+      index -> new RegionCoordinates<>(index.all(), Province::getLatitude, Province::getLongitude);
+
+  static final Function<LevelIndex<City>, RegionCoordinates<City>> CITIES =
+      index ->
+          new RegionCoordinates<>(
+              index.all(),
+              city -> city.getLatitude() == null ? Double.NaN : city.getLatitude(),
+              city -> city.getLongitude() == null ? Double.NaN : city.getLongitude());
+
+  static final Function<LevelIndex<District>, RegionCoordinates<District>> DISTRICTS =
+      index -> new RegionCoordinates<>(index.all(), District::getLatitude, District::getLongitude);
+
+  static final Function<LevelIndex<Village>, RegionCoordinates<Village>> VILLAGES =
+      index -> new RegionCoordinates<>(index.all(), Village::getLatitude, Village::getLongitude);
+
+  private final List<T> regions;
+  private final double[] latitudes;
+  private final double[] longitudes;
+  private final double[] xs;
+  private final double[] ys;
+  private final double[] zs;
+
+  RegionCoordinates(List<T> regions, ToDoubleFunction<T> latitude, ToDoubleFunction<T> longitude) {
+    int size = regions.size();
+    this.regions = List.copyOf(regions);
+    this.latitudes = new double[size];
+    this.longitudes = new double[size];
+    this.xs = new double[size];
+    this.ys = new double[size];
+    this.zs = new double[size];
+    for (int i = 0; i < size; i++) {
+      double lat = latitude.applyAsDouble(this.regions.get(i));
+      double lng = longitude.applyAsDouble(this.regions.get(i));
+      if (!Centroids.isKnown(lat, lng)) {
+        lat = Double.NaN;
+        lng = Double.NaN;
+      }
+      latitudes[i] = lat;
+      longitudes[i] = lng;
+      xs[i] = DistanceKernels.x(lat, lng);
+      ys[i] = DistanceKernels.y(lat, lng);
+      zs[i] = DistanceKernels.z(lat);
+    }
+  }
+
+  public static RegionCoordinates<Province> provinces(RegionDataset dataset) {
+    return dataset.provinces().derived(PROVINCES);
+  }
+
+  public static RegionCoordinates<City> cities(RegionDataset dataset) {
+    return dataset.cities().derived(CITIES);
+  }
+
+  public static RegionCoordinates<District> districts(RegionDataset dataset) {
+    return dataset.districts().derived(DISTRICTS);
+  }
+
+  public static RegionCoordinates<Village> villages(RegionDataset dataset) {
+    return dataset.villages().derived(VILLAGES);
+  }
+
+  public int size() {
+    return regions.size();
+  }
+
+  public T region(int index) {
+    return regions.get(index);
+  }
+
+  /** The latitude of the region at {@code index}, or NaN when it has no centroid. */
+  public double latitude(int index) {
+    return latitudes[index];
+  }
+
+  /** The longitude of the region at {@code index}, or NaN when it has no centroid. */
+  public double longitude(int index) {
+    return longitudes[index];
+  }
+
+  /** Copies of the latitude and longitude columns, for callers running their own scans. */
+  public double[] latitudes() {
+    return latitudes.clone();
+  }
+
+  public double[] longitudes() {
+    return longitudes.clone();
+  }
+
+  /** The squared chord between two regions on the unit sphere; NaN if either has no centroid. */
+  double squaredChord(int a, int b) {
+    double dx = xs[a] - xs[b];
+    double dy = ys[a] - ys[b];
+    double dz = zs[a] - zs[b];
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  /** The squared chord from a region to the unit vector (qx, qy, qz). */
+  double squaredChord(int index, double qx, double qy, double qz) {
+    double dx = xs[index] - qx;
+    double dy = ys[index] - qy;
+    double dz = zs[index] - qz;
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  /** Great-circle distance in kilometres from the region at {@code index} to a point. */
+  public double distanceKm(int index, double latitude, double longitude) {
+    return DistanceKernels.haversineKm(latitudes[index], longitudes[index], latitude, longitude);
+  }
+
+  /** The {@code k} regions closest to the point, nearest first. */
+  public List<Neighbor<T>> nearest(double latitude, double longitude, int k) {
+    return neighbors(
+        nearestIndexes(latitude, longitude, k, new double[DistanceKernels.BLOCK]),
+        latitude,
+        longitude);
+  }
+
+  /** Every region within {@code radiusKm} of the point, nearest first. */
+  public List<Neighbor<T>> within(double latitude, double longitude, double radiusKm) {
+    if (radiusKm < 0) {
+      throw new IllegalArgumentException("radiusKm must be >= 0");
+    }
+    double qx = DistanceKernels.x(latitude, longitude);
+    double qy = DistanceKernels.y(latitude, longitude);
+    double qz = DistanceKernels.z(latitude);
+    double bound = DistanceKernels.kmToSquaredChord(radiusKm);
+    double[] block = new double[DistanceKernels.BLOCK];
+    int[] found = new int[16];
+    double[] chords = new double[16];
+    int count = 0;
+    for (int from = 0; from < xs.length; from += block.length) {
+      int to = Math.min(xs.length, from + block.length);
+      DistanceKernels.squaredChords(xs, ys, zs, qx, qy, qz, from, to, block);
+      for (int i = 0; i < to - from; i++) {
+        if (block[i] <= bound) {
+          if (count == found.length) {
+            found = Arrays.copyOf(found, count * 2);
+            chords = Arrays.copyOf(chords, count * 2);
+          }
+          found[count] = from + i;
+          chords[count++] = block[i];
+        }
+      }
+    }
+    double[] keys = chords;
+    int[] positions = found;
+    int[] sorted =
+        IntStream.range(0, count)
+            .boxed()
+            .sorted(
+                Comparator.comparingDouble((Integer i) -> keys[i])
+                    .thenComparingInt(i -> positions[i]))
+            .mapToInt(i -> positions[i])
+            .toArray();
+    return neighbors(sorted, latitude, longitude);
+  }
+
+  /**
+   * The indexes of the {@code k} regions nearest to each query point, nearest first; a batch shares
+   * one scratch buffer across all its scans. {@code result[q]} is shorter than {@code k} only when
+   * the level has fewer regions with coordinates.
+   */
+  public int[][] nearestIndexes(double[] latitudes, double[] longitudes, int k) {
+    if (latitudes.length != longitudes.length) {
+      throw new IllegalArgumentException("latitudes and longitudes must have the same length");
+    }
+    double[] block = new double[DistanceKernels.BLOCK];
+    int[][] result = new int[latitudes.length][];
+    for (int q = 0; q < latitudes.length; q++) {
+      result[q] = nearestIndexes(latitudes[q], longitudes[q], k, block);
+    }
+    return result;
+  }
+
+  private int[] nearestIndexes(double latitude, double longitude, int k, double[] block) {
+    if (k < 0) {
+      throw new IllegalArgumentException("k must be >= 0");
+    }
+    double qx = DistanceKernels.x(latitude, longitude);
+    double qy = DistanceKernels.y(latitude, longitude);
+    double qz = DistanceKernels.z(latitude);
+    NearestHeap heap = new NearestHeap(Math.min(k, xs.length));
+    for (int from = 0; from < xs.length && k > 0; from += block.length) {
+      int to = Math.min(xs.length, from + block.length);
+      DistanceKernels.squaredChords(xs, ys, zs, qx, qy, qz, from, to, block);
+      for (int i = 0; i < to - from; i++) {
+        heap.offer(from + i, block[i]);
+      }
+    }
+    return heap.drainAscending();
+  }
+
+  private List<Neighbor<T>> neighbors(int[] indexes, double latitude, double longitude) {
+    List<Neighbor<T>> result = new ArrayList<>(indexes.length);
+    for (int index : indexes) {
+      result.add(new Neighbor<>(regions.get(index), distanceKm(index, latitude, longitude)));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,26 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A trace entering a region, such as "entered district 327301". {@code fromCode} is the region of
+ * the same level the trace left, or {@code null} for the first matched point.
+ */
+@Data
+@AllArgsConstructor
+public class RegionTransition {
+
+  private RegionLevel level;
+
+  private String fromCode;
+
+  private String toCode;
+
+  private long timestamp;
+
+  private double latitude;
+
+  private double longitude;
+}
@@ -0,0 +1,27 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One non-empty slippy-map tile of a {@link TilePyramid}: how many regions fall in it, the mean of
+ * their centroids and the region closest to that mean, to label a cluster marker.
+ */
+@Data
+@AllArgsConstructor
+public class Tile<T> {
+
+  private int zoom;
+
+  private int x;
+
+  private int y;
+
+  private int count;
+
+  private double latitude;
+
+  private double longitude;
+
+  private T representative;
+}
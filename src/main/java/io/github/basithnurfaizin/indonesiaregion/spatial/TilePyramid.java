@@ -0,0 +1,330 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.LevelIndex;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.BoundingBox;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Region counts per Web Mercator (slippy-map) tile, for every zoom level from 0 to {@link
+ * #getMaxZoom()}, precomputed for one level's centroids.
+ *
+ * <p>Tiles are keyed by {@link #tileKey(int, int, int)} in one open-addressing table, so reading a
+ * tile is a hash probe regardless of zoom; only non-empty tiles are stored. Regions without
+ * coordinates are not counted.
+ */
+public final class TilePyramid<T> {
+
+  /** Deepest zoom built by default: tiles of about 2.4 km across at the equator. */
+  public static final int DEFAULT_MAX_ZOOM = 14;
+
+  /** Deepest zoom a pyramid can hold. */
+  public static final int MAX_ZOOM = 24;
+
+  private static final double MAX_LATITUDE = 85.05112878;
+  private static final long EMPTY = -1;
+
+  private static final Function<LevelIndex<Province>, TilePyramid<Province>> PROVINCES =
+      index -> new TilePyramid<>(index.derived(RegionCoordinates.PROVINCES), DEFAULT_MAX_ZOOM);
+
+  private static final Function<LevelIndex<City>, TilePyramid<City>> CITIES =
+      index -> new TilePyramid<>(index.derived(RegionCoordinates.CITIES), DEFAULT_MAX_ZOOM);
+
+  private static final Function<LevelIndex<District>, TilePyramid<District>> DISTRICTS =
+      index -> new TilePyramid<>(index.derived(RegionCoordinates.DISTRICTS), DEFAULT_MAX_ZOOM);
+
+  private static final Function<LevelIndex<Village>, TilePyramid<Village>> VILLAGES =
+      index -> new TilePyramid<>(index.derived(RegionCoordinates.VILLAGES), DEFAULT_MAX_ZOOM);
+
+  private final RegionCoordinates<T> coordinates;
+  private final int maxZoom;
+
+  // open-addressing table from tile key to tile slot
+  private long[] keys;
+  private int[] slots;
+  private int mask;
+
+  // tile slots, grouped by zoom: tiles of zoom z are slots [zoomStart[z], zoomStart[z + 1])
+  private long[] tileKeys;
+  private int[] counts;
+  private double[] latitudes;
+  private double[] longitudes;
+  private int[] representatives;
+  private final int[] zoomStart;
+  private int tileCount;
+
+  /** Builds a pyramid from zoom 0 down to {@code maxZoom} (0 to {@value #MAX_ZOOM}). */
+  public TilePyramid(RegionCoordinates<T> coordinates, int maxZoom) {
+    if (maxZoom < 0 || maxZoom > MAX_ZOOM) {
+      throw new IllegalArgumentException("maxZoom must be between 0 and " + MAX_ZOOM);
+    }
+    this.coordinates = coordinates;
+    this.maxZoom = maxZoom;
+    this.zoomStart = new int[maxZoom + 2];
+
+    int size = coordinates.size();
+    int[] members = new int[size];
+    int[] tileXs = new int[size];
+    int[] tileYs = new int[size];
+    int memberCount = 0;
+    for (int i = 0; i < size; i++) {
+      double latitude = coordinates.latitude(i);
+      double longitude = coordinates.longitude(i);
+      if (!Double.isNaN(latitude) && !Double.isNaN(longitude)) {
+        members[memberCount] = i;
+        tileXs[memberCount] = tileX(longitude, maxZoom);
+        tileYs[memberCount++] = tileY(latitude, maxZoom);
+      }
+    }
+
+    int capacity = Integer.highestOneBit(Math.max(16, memberCount * 4 - 1)) << 1;
+    this.keys = new long[capacity];
+    this.slots = new int[capacity];
+    this.mask = capacity - 1;
+    Arrays.fill(keys, EMPTY);
+    this.tileKeys = new long[Math.max(16, memberCount)];
+    this.counts = new int[tileKeys.length];
+    this.latitudes = new double[tileKeys.length];
+    this.longitudes = new double[tileKeys.length];
+    this.representatives = new int[tileKeys.length];
+
+    int[] tileOf = new int[memberCount];
+    for (int zoom = 0; zoom <= maxZoom; zoom++) {
+      zoomStart[zoom] = tileCount;
+      int shift = maxZoom - zoom;
+      // first pass: counts and centroid sums
+      for (int m = 0; m < memberCount; m++) {
+        long key = tileKey(zoom, tileXs[m] >>> shift, tileYs[m] >>> shift);
+        int slot = slotOf(key);
+        tileOf[m] = slot;
+        counts[slot]++;
+        latitudes[slot] += coordinates.latitude(members[m]);
+        longitudes[slot] += coordinates.longitude(members[m]);
+      }
+      for (int slot = zoomStart[zoom]; slot < tileCount; slot++) {
+        latitudes[slot] /= counts[slot];
+        longitudes[slot] /= counts[slot];
+        representatives[slot] = -1;
+      }
+      // second pass: the member closest to its tile's mean, first in code order on ties
+      double[] best = new double[tileCount - zoomStart[zoom]];
+      for (int m = 0; m < memberCount; m++) {
+        int slot = tileOf[m];
+        double dLat = coordinates.latitude(members[m]) - latitudes[slot];
+        double dLng = coordinates.longitude(members[m]) - longitudes[slot];
+        double distance = dLat * dLat + dLng * dLng;
+        int offset = slot - zoomStart[zoom];
+        if (representatives[slot] < 0 || distance < best[offset]) {
+          representatives[slot] = members[m];
+          best[offset] = distance;
+        }
+      }
+    }
+    zoomStart[maxZoom + 1] = tileCount;
+  }
+
+  public static TilePyramid<Province> provinces(RegionDataset dataset) {
+    return dataset.provinces().derived(PROVINCES);
+  }
+
+  public static TilePyramid<City> cities(RegionDataset dataset) {
+    return dataset.cities().derived(CITIES);
+  }
+
+  public static TilePyramid<District> districts(RegionDataset dataset) {
+    return dataset.districts().derived(DISTRICTS);
+  }
+
+  public static TilePyramid<Village> villages(RegionDataset dataset) {
+    return dataset.villages().derived(VILLAGES);
+  }
+
+  public int getMaxZoom() {
+    return maxZoom;
+  }
+
+  /** Non-empty tiles at the zoom level. */
+  public int tileCount(int zoom) {
+    checkZoom(zoom);
+    return zoomStart[zoom + 1] - zoomStart[zoom];
+  }
+
+  /** Regions in the tile, or {@code 0} for an empty or out-of-range tile. */
+  public int count(int zoom, int x, int y) {
+    int slot = find(zoom, x, y);
+    return slot < 0 ? 0 : counts[slot];
+  }
+
+  /** The tile, or {@code null} when no region falls in it. */
+  public Tile<T> tile(int zoom, int x, int y) {
+    int slot = find(zoom, x, y);
+    return slot < 0 ? null : toTile(slot);
+  }
+
+  /** The non-empty tiles at the zoom level that intersect the viewport, by key. */
+  public List<Tile<T>> tiles(int zoom, BoundingBox viewport) {
+    checkZoom(zoom);
+    int minX = tileX(viewport.getMinLongitude(), zoom);
+    int maxX = tileX(viewport.getMaxLongitude(), zoom);
+    int minY = tileY(viewport.getMaxLatitude(), zoom);
+    int maxY = tileY(viewport.getMinLatitude(), zoom);
+    List<Tile<T>> result = new ArrayList<>();
+    long area = (long) (maxX - minX + 1) * (maxY - minY + 1);
+    if (area <= tileCount(zoom)) {
+      for (int x = minX; x <= maxX; x++) {
+        for (int y = minY; y <= maxY; y++) {
+          int slot = find(zoom, x, y);
+          if (slot >= 0) {
+            result.add(toTile(slot));
+          }
+        }
+      }
+    } else {
+      // a wide viewport: reading the stored tiles of the zoom is cheaper than probing every one
+      for (int slot = zoomStart[zoom]; slot < zoomStart[zoom + 1]; slot++) {
+        int x = tileXOf(tileKeys[slot]);
+        int y = tileYOf(tileKeys[slot]);
+        if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+          result.add(toTile(slot));
+        }
+      }
+    }
+    result.sort(
+        (a, b) ->
+            Long.compare(tileKey(zoom, a.getX(), a.getY()), tileKey(zoom, b.getX(), b.getY())));
+    return result;
+  }
+
+  /** Packs a tile address into one non-negative long: 5 bits of zoom, then 29 bits each of x, y. */
+  public static long tileKey(int zoom, int x, int y) {
+    return (long) zoom << 58 | (long) x << 29 | y;
+  }
+
+  /** The column of the tile containing the longitude. */
+  public static int tileX(double longitude, int zoom) {
+    int n = 1 << zoom;
+    int x = (int) Math.floor((longitude + 180) / 360 * n);
+    return Math.min(n - 1, Math.max(0, x));
+  }
+
+  /** The row of the tile containing the latitude, counted from the north. */
+  public static int tileY(double latitude, int zoom) {
+    int n = 1 << zoom;
+    double radians = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+    double y = (1 - Math.log(Math.tan(radians) + 1 / Math.cos(radians)) / Math.PI) / 2 * n;
+    return Math.min(n - 1, Math.max(0, (int) Math.floor(y)));
+  }
+
+  /** The area covered by the tile. */
+  public static BoundingBox tileBounds(int zoom, int x, int y) {
+    int n = 1 << zoom;
+    return new BoundingBox(
+        latitudeOfRow(y + 1, n),
+        (double) x / n * 360 - 180,
+        latitudeOfRow(y, n),
+        (double) (x + 1) / n * 360 - 180);
+  }
+
+  private static double latitudeOfRow(int y, int n) {
+    return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2.0 * y / n))));
+  }
+
+  private static int tileXOf(long key) {
+    return (int) (key >>> 29 & ((1 << 29) - 1));
+  }
+
+  private static int tileYOf(long key) {
+    return (int) (key & ((1 << 29) - 1));
+  }
+
+  private Tile<T> toTile(int slot) {
+    long key = tileKeys[slot];
+    return new Tile<>(
+        (int) (key >>> 58),
+        tileXOf(key),
+        tileYOf(key),
+        counts[slot],
+        latitudes[slot],
+        longitudes[slot],
+        coordinates.region(representatives[slot]));
+  }
+
+  private int find(int zoom, int x, int y) {
+    if (zoom < 0 || zoom > maxZoom || x < 0 || y < 0 || x >= 1 << zoom || y >= 1 << zoom) {
+      return -1;
+    }
+    long key = tileKey(zoom, x, y);
+    for (int i = hash(key); ; i = (i + 1) & mask) {
+      if (keys[i] == key) {
+        return slots[i];
+      }
+      if (keys[i] == EMPTY) {
+        return -1;
+      }
+    }
+  }
+
+  /** The slot of the tile, adding an empty one if it is not in the table yet. */
+  private int slotOf(long key) {
+    int i = hash(key);
+    while (keys[i] != EMPTY) {
+      if (keys[i] == key) {
+        return slots[i];
+      }
+      i = (i + 1) & mask;
+    }
+    if (tileCount == tileKeys.length) {
+      int grown = tileCount * 2;
+      tileKeys = Arrays.copyOf(tileKeys, grown);
+      counts = Arrays.copyOf(counts, grown);
+      latitudes = Arrays.copyOf(latitudes, grown);
+      longitudes = Arrays.copyOf(longitudes, grown);
+      representatives = Arrays.copyOf(representatives, grown);
+    }
+    if ((tileCount + 1) * 2 > keys.length) {
+      rehash();
+      return slotOf(key);
+    }
+    keys[i] = key;
+    slots[i] = tileCount;
+    tileKeys[tileCount] = key;
+    return tileCount++;
+  }
+
+  private void rehash() {
+    long[] oldKeys = keys;
+    int[] oldSlots = slots;
+    keys = new long[oldKeys.length * 2];
+    slots = new int[keys.length];
+    mask = keys.length - 1;
+    Arrays.fill(keys, EMPTY);
+    for (int j = 0; j < oldKeys.length; j++) {
+      if (oldKeys[j] != EMPTY) {
+        int i = hash(oldKeys[j]);
+        while (keys[i] != EMPTY) {
+          i = (i + 1) & mask;
+        }
+        keys[i] = oldKeys[j];
+        slots[i] = oldSlots[j];
+      }
+    }
+  }
+
+  private int hash(long key) {
+    long mixed = key * 0x9E3779B97F4A7C15L;
+    return (int) (mixed ^ mixed >>> 32) & mask;
+  }
+
+  private void checkZoom(int zoom) {
+    if (zoom < 0 || zoom > maxZoom) {
+      throw new IllegalArgumentException("zoom must be between 0 and " + maxZoom);
+    }
+  }
+}
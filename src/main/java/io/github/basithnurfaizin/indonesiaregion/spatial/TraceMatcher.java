@@ -0,0 +1,207 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matches the GPS points of one vehicle to villages as they arrive and reports every region the
+ * trace enters.
+ *
+ * <p>A point belongs to the village with the nearest centroid. Starting from the village of the
+ * previous point, the matcher walks the {@link NeighborGraph} towards the point, moving to a
+ * neighbour only while it is closer. The walk's result is accepted when the point lies within the
+ * reach of that village's own neighbours; otherwise, and for the first point, the village is found
+ * with an exact search on the centroid grid. Consecutive points are close together, so most points
+ * are resolved after checking a dozen centroids.
+ *
+ * <p>A matcher holds the state of one trace and is not thread-safe; use one per vehicle. All
+ * matchers of a dataset snapshot share its graph.
+ */
+public final class TraceMatcher {
+
+  /** Graph steps a walk may take before the matcher falls back to a grid search. */
+  static final int MAX_STEPS = 16;
+
+  private final RegionDataset dataset;
+  private final NeighborGraph<Village> graph;
+  private final RegionCoordinates<Village> coordinates;
+  private final double hysteresisKm;
+
+  private int current = -1;
+  private long localMatches;
+  private long globalSearches;
+
+  /** Creates a matcher that switches villages as soon as another centroid is nearer. */
+  public TraceMatcher(RegionDataset dataset) {
+    this(dataset, 0);
+  }
+
+  /**
+   * Creates a matcher that only leaves the current village for one whose centroid is at least
+   * {@code hysteresisKm} nearer, to damp GPS jitter along village borders.
+   */
+  public TraceMatcher(RegionDataset dataset, double hysteresisKm) {
+    if (hysteresisKm < 0) {
+      throw new IllegalArgumentException("hysteresisKm must be >= 0");
+    }
+    this.dataset = dataset;
+    this.graph = NeighborGraph.villages(dataset);
+    this.coordinates = graph.coordinates();
+    this.hysteresisKm = hysteresisKm;
+  }
+
+  /**
+   * Matches the next point of the trace and returns the regions it entered, province first, or an
+   * empty list when it stayed in the same village.
+   */
+  public List<RegionTransition> update(double latitude, double longitude, long timestamp) {
+    double qx = DistanceKernels.x(latitude, longitude);
+    double qy = DistanceKernels.y(latitude, longitude);
+    double qz = DistanceKernels.z(latitude);
+
+    int match = current < 0 ? -1 : walk(current, qx, qy, qz);
+    if (match < 0) {
+      globalSearches++;
+      int[] nearest = graph.grid().nearest(latitude, longitude, 1);
+      if (nearest.length == 0) {
+        return List.of();
+      }
+      match = nearest[0];
+    } else {
+      localMatches++;
+    }
+
+    if (match == current) {
+      return List.of();
+    }
+    if (current >= 0 && hysteresisKm > 0) {
+      double stay = DistanceKernels.chordToKm(coordinates.squaredChord(current, qx, qy, qz));
+      double move = DistanceKernels.chordToKm(coordinates.squaredChord(match, qx, qy, qz));
+      if (stay - move < hysteresisKm) {
+        return List.of();
+      }
+    }
+
+    Village from = current < 0 ? null : coordinates.region(current);
+    Village to = coordinates.region(match);
+    current = match;
+    return transitions(from, to, timestamp, latitude, longitude);
+  }
+
+  /** The village of the last matched point, or {@code null} before the first one. */
+  public Village getCurrentVillage() {
+    return current < 0 ? null : coordinates.region(current);
+  }
+
+  /** Points resolved by walking the graph from the previous village. */
+  public long getLocalMatches() {
+    return localMatches;
+  }
+
+  /** Points that needed a search of the whole grid. */
+  public long getGlobalSearches() {
+    return globalSearches;
+  }
+
+  /**
+   * Walks from {@code start} to a village no neighbour of which is nearer to the point, or returns
+   * {@code -1} when the walk is too long or ends where the graph cannot vouch for the result.
+   */
+  private int walk(int start, double qx, double qy, double qz) {
+    int best = start;
+    double bestChord = coordinates.squaredChord(best, qx, qy, qz);
+    for (int step = 0; step < MAX_STEPS; step++) {
+      int next = best;
+      double nextChord = bestChord;
+      for (int e = graph.firstEdge(best); e < graph.endEdge(best); e++) {
+        int candidate = graph.target(e);
+        double chord = coordinates.squaredChord(candidate, qx, qy, qz);
+        if (chord < nextChord) {
+          next = candidate;
+          nextChord = chord;
+        }
+      }
+      if (next == best) {
+        return withinReach(best, bestChord) ? best : -1;
+      }
+      best = next;
+      bestChord = nextChord;
+    }
+    return -1;
+  }
+
+  /**
+   * Whether the point is closer to the village than half the distance to its k-th nearest
+   * neighbour. Any village nearer to such a point lies within that distance of the village, so it
+   * is one of the neighbours the walk has just checked.
+   */
+  private boolean withinReach(int village, double squaredChord) {
+    // shave off float rounding of the stored distance
+    double reach = graph.nearestRadiusKm(village) / 2 * (1 - 1e-6);
+    return DistanceKernels.chordToKm(squaredChord) < reach;
+  }
+
+  private List<RegionTransition> transitions(
+      Village from, Village to, long timestamp, double latitude, double longitude) {
+    District fromDistrict = from == null ? null : dataset.districts().get(from.getDistrictCode());
+    District toDistrict = dataset.districts().get(to.getDistrictCode());
+    City fromCity = fromDistrict == null ? null : dataset.cities().get(fromDistrict.getCityCode());
+    City toCity = toDistrict == null ? null : dataset.cities().get(toDistrict.getCityCode());
+
+    List<RegionTransition> transitions = new ArrayList<>(4);
+    String fromProvince = fromCity == null ? null : fromCity.getProvinceCode();
+    String toProvince = toCity == null ? null : toCity.getProvinceCode();
+    add(
+        transitions,
+        RegionLevel.PROVINCE,
+        fromProvince,
+        toProvince,
+        timestamp,
+        latitude,
+        longitude);
+    add(
+        transitions,
+        RegionLevel.CITY,
+        fromCity == null ? null : fromCity.getCode(),
+        toCity == null ? null : toCity.getCode(),
+        timestamp,
+        latitude,
+        longitude);
+    add(
+        transitions,
+        RegionLevel.DISTRICT,
+        from == null ? null : from.getDistrictCode(),
+        to.getDistrictCode(),
+        timestamp,
+        latitude,
+        longitude);
+    add(
+        transitions,
+        RegionLevel.VILLAGE,
+        from == null ? null : from.getCode(),
+        to.getCode(),
+        timestamp,
+        latitude,
+        longitude);
+    return transitions;
+  }
+
+  private static void add(
+      List<RegionTransition> transitions,
+      RegionLevel level,
+      String fromCode,
+      String toCode,
+      long timestamp,
+      double latitude,
+      double longitude) {
+    if (toCode != null && !toCode.equals(fromCode)) {
+      transitions.add(
+          new RegionTransition(level, fromCode, toCode, timestamp, latitude, longitude));
+    }
+  }
+}
@@ -0,0 +1,9 @@
+/**
+ * Spatial indexes over region centroids: dense coordinate arrays, geohash cells, tile counts and a
+ * neighbour graph, plus GPS trace matching on top of them.
+ *
+ * <p>Each index covers one level and is obtained through {@link
+ * io.github.basithnurfaizin.indonesiaregion.dataset.LevelIndex#derived}, so it is built on first
+ * use and shared by every caller of that dataset snapshot.
+ */
+package io.github.basithnurfaizin.indonesiaregion.spatial;
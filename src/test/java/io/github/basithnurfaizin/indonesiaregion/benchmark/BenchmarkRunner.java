@@ -0,0 +1,54 @@
+package io.github.basithnurfaizin.indonesiaregion.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmark suite with the GC profiler attached so that every result also reports its
+ * allocation rate. {@link ConcurrentReadBenchmark} is repeated at each of {@link #THREAD_COUNTS}.
+ *
+ * <p>Any arguments are parsed as regular JMH command-line options (e.g. {@code
+ * ServiceQueryBenchmark -f 3}) and run instead of the default suite. Results are written as JSON to
+ * {@code target/jmh-*.json}.
+ */
+public class BenchmarkRunner {
+
+  static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+
+  public static void main(String[] args) throws Exception {
+    if (args.length > 0) {
+      new Runner(options("custom").parent(new CommandLineOptions(args)).build()).run();
+      return;
+    }
+
+    new Runner(
+            options("single-threaded")
+                .include(LoaderBenchmark.class.getSimpleName())
+                .include(ServiceQueryBenchmark.class.getSimpleName())
+                .include(IncludesBenchmark.class.getSimpleName())
+                .include(SpatialBenchmark.class.getSimpleName())
+                .include(NikBenchmark.class.getSimpleName())
+                .build())
+        .run();
+
+    for (int threads : THREAD_COUNTS) {
+      new Runner(
+              options("concurrent-" + threads + "t")
+                  .include(ConcurrentReadBenchmark.class.getSimpleName())
+                  .threads(threads)
+                  .build())
+          .run();
+    }
+  }
+
+  private static ChainedOptionsBuilder options(String name) {
+    return new OptionsBuilder()
+        .addProfiler(GCProfiler.class)
+        .resultFormat(ResultFormatType.JSON)
+        .result("target/jmh-" + name + ".json");
+  }
+}
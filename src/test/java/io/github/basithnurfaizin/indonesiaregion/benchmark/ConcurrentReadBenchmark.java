@@ -0,0 +1,64 @@
+package io.github.basithnurfaizin.indonesiaregion.benchmark;
+
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaServiceImpl;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mixed read throughput against one shared service. {@link BenchmarkRunner} runs this class at
+ * several thread counts; on its own it uses JMH's {@code -t} option.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentReadBenchmark {
+
+  private static final String[] CITY_CODES = {"3273", "3171", "3578", "1101", "7371", "9471"};
+  private static final String[] DISTRICT_CODES = {"327301", "317101", "357801", "110101"};
+  private static final String[] KEYWORDS = {"jaya", "sari", "baru", "kota"};
+
+  private IndonesiaService service;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    service = new IndonesiaServiceImpl();
+  }
+
+  @Benchmark
+  public Object lookups() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    switch (random.nextInt(4)) {
+      case 0:
+        return service.getProvinces(KEYWORDS[random.nextInt(KEYWORDS.length)]);
+      case 1:
+        return service.getDistricts(CITY_CODES[random.nextInt(CITY_CODES.length)], null);
+      case 2:
+        return service.getVillages(DISTRICT_CODES[random.nextInt(DISTRICT_CODES.length)], null);
+      default:
+        return service.getCity(CITY_CODES[random.nextInt(CITY_CODES.length)], List.of());
+    }
+  }
+
+  @Benchmark
+  public Object includes() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return service.getCity(
+        CITY_CODES[random.nextInt(CITY_CODES.length)], List.of("districts", "villages"));
+  }
+}
@@ -0,0 +1,59 @@
+package io.github.basithnurfaizin.indonesiaregion.benchmark;
+
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaServiceImpl;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Single-region lookups with nested {@code includes} expansion. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IncludesBenchmark {
+
+  private static final List<String> ALL = List.of("cities", "districts", "villages");
+
+  private IndonesiaService service;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    service = new IndonesiaServiceImpl();
+  }
+
+  @Benchmark
+  public Province provinceWithCities() {
+    return service.getProvince("32", List.of("cities"));
+  }
+
+  @Benchmark
+  public Province provinceWithFullHierarchy() {
+    return service.getProvince("32", ALL);
+  }
+
+  @Benchmark
+  public City cityWithDistrictsAndVillages() {
+    return service.getCity("3273", List.of("districts", "villages"));
+  }
+
+  @Benchmark
+  public District districtWithVillages() {
+    return service.getDistrict("327301", List.of("villages"));
+  }
+}
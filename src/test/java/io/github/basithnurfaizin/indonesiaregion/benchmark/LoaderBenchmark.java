@@ -0,0 +1,48 @@
+package io.github.basithnurfaizin.indonesiaregion.benchmark;
+
+import io.github.basithnurfaizin.indonesiaregion.loader.CityLoader;
+import io.github.basithnurfaizin.indonesiaregion.loader.DistrictLoader;
+import io.github.basithnurfaizin.indonesiaregion.loader.ProvinceLoader;
+import io.github.basithnurfaizin.indonesiaregion.loader.VillageLoader;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Cold load time of each loader: one invocation per freshly forked JVM. */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class LoaderBenchmark {
+
+  @Benchmark
+  public Map<String, Province> loadProvinces() {
+    return ProvinceLoader.loadProvinces();
+  }
+
+  @Benchmark
+  public Map<String, City> loadCities() {
+    return CityLoader.loadCities();
+  }
+
+  @Benchmark
+  public Map<String, District> loadDistricts() {
+    return DistrictLoader.loadDistricts();
+  }
+
+  @Benchmark
+  public Map<String, Village> loadVillages() {
+    return VillageLoader.loadVillages();
+  }
+}
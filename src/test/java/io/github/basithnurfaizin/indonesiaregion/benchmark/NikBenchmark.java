@@ -0,0 +1,90 @@
+package io.github.basithnurfaizin.indonesiaregion.benchmark;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.nik.NikBatch;
+import io.github.basithnurfaizin.indonesiaregion.nik.NikDecoder;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding a batch of NIKs with {@link NikDecoder#decodeAll}, from numbers and from text, against
+ * slicing each NIK into strings and looking its codes up in the level maps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NikBenchmark {
+
+  private static final int BATCH = 10_000;
+
+  private RegionDataset dataset;
+  private NikDecoder decoder;
+  private NikBatch batch;
+  private long[] numbers;
+  private String[] texts;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    dataset = RegionDataset.shared();
+    decoder = new NikDecoder(dataset);
+    batch = new NikBatch(BATCH);
+    List<District> districts = dataset.districts().all();
+    Random random = new Random(42);
+    numbers = new long[BATCH];
+    texts = new String[BATCH];
+    for (int i = 0; i < BATCH; i++) {
+      long district = Long.parseLong(districts.get(random.nextInt(districts.size())).getCode());
+      int day = 1 + random.nextInt(28) + (random.nextBoolean() ? 40 : 0);
+      int month = 1 + random.nextInt(12);
+      int year = random.nextInt(100);
+      int serial = 1 + random.nextInt(9999);
+      numbers[i] =
+          district * 10_000_000_000L
+              + day * 100_000_000L
+              + month * 1_000_000L
+              + year * 10_000L
+              + serial;
+      texts[i] = Long.toString(numbers[i]);
+    }
+  }
+
+  @Benchmark
+  public int decodeNumbers() {
+    return decoder.decodeAll(numbers, batch);
+  }
+
+  @Benchmark
+  public int decodeTexts() {
+    return decoder.decodeAll(texts, batch);
+  }
+
+  @Benchmark
+  public int decodeBySlicing() {
+    int valid = 0;
+    for (String text : texts) {
+      if (dataset.provinces().get(text.substring(0, 2)) != null
+          && dataset.cities().get(text.substring(0, 4)) != null
+          && dataset.districts().get(text.substring(0, 6)) != null
+          && Integer.parseInt(text.substring(8, 10)) <= 12) {
+        valid++;
+      }
+    }
+    return valid;
+  }
+}
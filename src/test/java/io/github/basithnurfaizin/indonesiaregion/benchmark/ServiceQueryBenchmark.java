@@ -0,0 +1,67 @@
+package io.github.basithnurfaizin.indonesiaregion.benchmark;
+
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaServiceImpl;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** List queries scoped to a parent region, with and without a keyword. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceQueryBenchmark {
+
+  @Param({"", "sari"})
+  public String keyword;
+
+  private IndonesiaService service;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    service = new IndonesiaServiceImpl();
+  }
+
+  @Benchmark
+  public List<Province> getProvinces() {
+    return service.getProvinces(keyword);
+  }
+
+  @Benchmark
+  public List<City> getCitiesOfProvince() {
+    return service.getCities("32", keyword);
+  }
+
+  @Benchmark
+  public List<District> getDistrictsOfCity() {
+    return service.getDistricts("3273", keyword);
+  }
+
+  @Benchmark
+  public List<Village> getVillagesOfDistrict() {
+    return service.getVillages("327301", keyword);
+  }
+
+  @Benchmark
+  public List<Village> getVillagesNationwide() {
+    return service.getVillages(null, keyword);
+  }
+}
@@ -0,0 +1,72 @@
+package io.github.basithnurfaizin.indonesiaregion.benchmark;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import io.github.basithnurfaizin.indonesiaregion.spatial.Neighbor;
+import io.github.basithnurfaizin.indonesiaregion.spatial.RegionCoordinates;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exact nearest-village scans: the dense coordinate arrays against the same scan over the {@link
+ * Village} objects.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpatialBenchmark {
+
+  private static final double LATITUDE = -6.9025;
+  private static final double LONGITUDE = 107.6187;
+
+  private List<Village> villages;
+  private RegionCoordinates<Village> coordinates;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    RegionDataset dataset = RegionDataset.shared();
+    villages = dataset.villages().all();
+    coordinates = RegionCoordinates.villages(dataset);
+  }
+
+  @Benchmark
+  public List<Neighbor<Village>> nearestVillages() {
+    return coordinates.nearest(LATITUDE, LONGITUDE, 10);
+  }
+
+  @Benchmark
+  public List<Neighbor<Village>> villagesWithinRadius() {
+    return coordinates.within(LATITUDE, LONGITUDE, 5);
+  }
+
+  @Benchmark
+  public Village nearestVillageOverObjects() {
+    Village nearest = null;
+    double best = Double.MAX_VALUE;
+    double cosLatitude = Math.cos(Math.toRadians(LATITUDE));
+    for (Village village : villages) {
+      double dLat = village.getLatitude() - LATITUDE;
+      double dLng = (village.getLongitude() - LONGITUDE) * cosLatitude;
+      double distance = dLat * dLat + dLng * dLng;
+      if (distance < best) {
+        best = distance;
+        nearest = village;
+      }
+    }
+    return nearest;
+  }
+}
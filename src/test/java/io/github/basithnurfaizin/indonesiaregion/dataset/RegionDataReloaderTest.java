@@ -0,0 +1,156 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaServiceImpl;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RegionDataReloaderTest {
+
+  @TempDir Path dataDirectory;
+
+  @BeforeEach
+  void copyBundledData() throws Exception {
+    Path bundled = Path.of(getClass().getResource("/data").toURI());
+    for (String file : List.of("provinces.csv", "cities.csv", "districts.csv")) {
+      Files.copy(bundled.resolve(file), dataDirectory.resolve(file));
+    }
+    Files.createDirectories(dataDirectory.resolve("villages"));
+    Files.copy(
+        bundled.resolve("villages/32.csv"), dataDirectory.resolve("villages").resolve("32.csv"));
+  }
+
+  private void renameWestJava(String name) throws Exception {
+    Path provinces = dataDirectory.resolve("provinces.csv");
+    Files.writeString(provinces, Files.readString(provinces).replace("JAWA BARAT", name));
+  }
+
+  @Test
+  @DisplayName("Should publish a reloaded snapshot while old snapshots stay intact")
+  void shouldPublishReloadedSnapshot() throws Exception {
+    try (RegionDataReloader reloader = new RegionDataReloader(dataDirectory)) {
+      IndonesiaService service = new IndonesiaServiceImpl(reloader);
+      RegionDataset before = reloader.get();
+
+      assertEquals("JAWA BARAT", service.getProvince("32", null).getName());
+      assertTrue(
+          service.getVillages(null, null).stream().allMatch(v -> v.getCode().startsWith("32")));
+
+      renameWestJava("TATAR SUNDA");
+      RegionDataset after = reloader.reload().get(30, TimeUnit.SECONDS);
+
+      assertNotSame(before, after);
+      assertSame(after, reloader.get());
+      assertEquals("TATAR SUNDA", service.getProvince("32", null).getName());
+      assertEquals("JAWA BARAT", before.provinces().get("32").getName());
+      assertEquals(
+          before.villages().children("327301").size(), after.villages().children("327301").size());
+    }
+  }
+
+  @Test
+  @DisplayName("Should publish a snapshot patched by a delta")
+  void shouldPublishPatchedSnapshot() throws Exception {
+    try (RegionDataReloader reloader = new RegionDataReloader(dataDirectory)) {
+      RegionDataset before = reloader.get();
+      RegionDataset after =
+          reloader
+              .apply(RegionDelta.of(RegionChange.rename(RegionLevel.PROVINCE, "32", "TATAR SUNDA")))
+              .get(30, TimeUnit.SECONDS);
+
+      assertSame(after, reloader.get());
+      assertEquals("TATAR SUNDA", after.provinces().get("32").getName());
+      assertSame(before.villages(), after.villages());
+    }
+  }
+
+  @Test
+  @DisplayName("Should keep the current snapshot when a reload fails")
+  void shouldKeepCurrentSnapshotWhenReloadFails() throws Exception {
+    try (RegionDataReloader reloader = new RegionDataReloader(dataDirectory)) {
+      RegionDataset before = reloader.get();
+      Files.writeString(dataDirectory.resolve("provinces.csv"), "");
+
+      ExecutionException failure =
+          assertThrows(ExecutionException.class, () -> reloader.reload().get(30, TimeUnit.SECONDS));
+
+      assertInstanceOf(IllegalStateException.class, failure.getCause());
+      assertSame(before, reloader.get());
+    }
+  }
+
+  @Test
+  @DisplayName("Should keep the current snapshot when a village shard cannot be read")
+  void shouldKeepCurrentSnapshotWhenShardIsUnreadable() throws Exception {
+    try (RegionDataReloader reloader = new RegionDataReloader(dataDirectory)) {
+      RegionDataset before = reloader.get();
+      Files.writeString(
+          dataDirectory.resolve("villages").resolve("33.csv"),
+          "3301011001,330101,\"DAYEUHLUHUR,-7.2,108.4,53266\n");
+
+      ExecutionException failure =
+          assertThrows(ExecutionException.class, () -> reloader.reload().get(30, TimeUnit.SECONDS));
+
+      assertTrue(failure.getCause().getMessage().contains("33.csv"));
+      assertSame(before, reloader.get());
+    }
+  }
+
+  @Test
+  @DisplayName("Should reload automatically when watched files change")
+  void shouldReloadWhenWatchedFilesChange() throws Exception {
+    try (RegionDataReloader reloader =
+        new RegionDataReloader(dataDirectory, Duration.ofMillis(200)).watch()) {
+      RegionDataset before = reloader.get();
+
+      renameWestJava("PASUNDAN");
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      while (reloader.get() == before && System.nanoTime() < deadline) {
+        Thread.sleep(50);
+      }
+      assertEquals("PASUNDAN", reloader.get().provinces().get("32").getName());
+    }
+  }
+
+  @Test
+  @DisplayName("Should watch a villages directory created after watching started")
+  void shouldWatchVillagesCreatedLater() throws Exception {
+    Path villages = dataDirectory.resolve("villages");
+    Path release = dataDirectory.resolve("release");
+    try (RegionDataReloader reloader =
+        new RegionDataReloader(dataDirectory, Duration.ofMillis(200))) {
+      Files.move(villages, release);
+      reloader.watch();
+
+      Files.move(release, villages);
+      awaitReload(reloader, reloader.get());
+
+      RegionDataset before = reloader.get();
+      Path shard = villages.resolve("32.csv");
+      Files.writeString(shard, Files.readString(shard).replace("SUKARASA", "SUKARASA BARU"));
+      awaitReload(reloader, before);
+
+      assertEquals("SUKARASA BARU", reloader.get().villages().get("3273011001").getName());
+    }
+  }
+
+  private static void awaitReload(RegionDataReloader reloader, RegionDataset before)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (reloader.get() == before && System.nanoTime() < deadline) {
+      Thread.sleep(50);
+    }
+  }
+}
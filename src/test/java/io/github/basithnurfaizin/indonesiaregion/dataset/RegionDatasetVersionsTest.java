@@ -0,0 +1,112 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RegionDatasetVersionsTest {
+
+  @TempDir static Path releases;
+
+  private static RegionDatasetVersions versions;
+
+  /**
+   * 2022 is the bundled West Java data. 2023 renames village 3273011001. 2024 splits district
+   * 327301 into 327301 and 327399, moving village 3273011002 to 3273991001.
+   */
+  @BeforeAll
+  static void loadReleases() throws Exception {
+    Path bundled = Path.of(RegionDatasetVersionsTest.class.getResource("/data").toURI());
+    Path v2022 = copy(bundled, releases.resolve("2022"));
+    Path v2023 = copy(v2022, releases.resolve("2023"));
+    Path v2024 = copy(v2023, releases.resolve("2024"));
+
+    Path villages2023 = v2023.resolve("villages/32.csv");
+    String renamed = Files.readString(villages2023);
+    String original = renamed.lines().filter(l -> l.startsWith("3273011001,")).findFirst().get();
+    String[] columns = original.split(",");
+    columns[2] = "SUKASARI BARU";
+    Files.writeString(villages2023, renamed.replace(original, String.join(",", columns)));
+
+    Path districts2024 = v2024.resolve("districts.csv");
+    Files.writeString(
+        districts2024,
+        Files.readString(districts2024) + "327399,3273,SUKASARI SELATAN,-6.87,107.58\n");
+    Path villages2024 = v2024.resolve("villages/32.csv");
+    String moved =
+        Files.readString(villages2024)
+            .lines()
+            .filter(l -> l.startsWith("3273011002,"))
+            .findFirst()
+            .get();
+    Files.writeString(
+        villages2024,
+        Files.readString(villages2024)
+            .replace(moved, moved.replace("3273011002,327301,", "3273991001,327399,")));
+    Files.writeString(
+        v2024.resolve(RegionDatasetVersions.CODE_CHANGES_FILE),
+        "old_code,new_code\n327301,327301\n327301,327399\n3273011002,3273991001\n");
+
+    versions =
+        RegionDatasetVersions.builder()
+            .add("2022", v2022)
+            .add("2023", v2023)
+            .add("2024", v2024)
+            .build();
+  }
+
+  private static Path copy(Path source, Path target) throws Exception {
+    Files.createDirectories(target.resolve("villages"));
+    for (String file : List.of("provinces.csv", "cities.csv", "districts.csv", "villages/32.csv")) {
+      Files.copy(source.resolve(file), target.resolve(file));
+    }
+    return target;
+  }
+
+  @Test
+  @DisplayName("Should share unchanged levels, regions and child lists between releases")
+  void shouldShareUnchangedStructure() {
+    RegionDataset v2022 = versions.get("2022");
+    RegionDataset v2023 = versions.get("2023");
+    RegionDataset v2024 = versions.get("2024");
+
+    assertSame(v2022.provinces(), v2023.provinces());
+    assertSame(v2022.districts(), v2023.districts());
+    assertNotSame(v2023.districts(), v2024.districts());
+    assertSame(v2023.districts().get("320101"), v2024.districts().get("320101"));
+
+    assertNotSame(v2022.villages(), v2023.villages());
+    assertSame(v2022.villages().get("3273011002"), v2023.villages().get("3273011002"));
+    assertSame(v2022.villages().children("320101"), v2023.villages().children("320101"));
+    assertNotSame(v2022.villages().children("327301"), v2023.villages().children("327301"));
+    assertEquals("SUKASARI BARU", v2023.villages().get("3273011001").getName());
+  }
+
+  @Test
+  @DisplayName("Should answer queries per release")
+  void shouldAnswerQueriesPerRelease() {
+    assertNull(versions.service("2023").getDistrict("327399", null));
+    District split = versions.service("2024").getDistrict("327399", List.of("villages"));
+    assertEquals(1, split.getVillages().size());
+    assertEquals("2024", versions.getLatestVersion());
+  }
+
+  @Test
+  @DisplayName("Should translate codes across splits in both directions")
+  void shouldTranslateCodes() {
+    assertEquals(List.of("3273011001"), versions.translate("3273011001", "2022", "2024"));
+    assertEquals(List.of("327301", "327399"), versions.translate("327301", "2022", "2024"));
+    assertEquals(List.of("3273991001"), versions.translate("3273011002", "2023", "2024"));
+    assertEquals(List.of("3273011002"), versions.translate("3273991001", "2024", "2022"));
+    assertEquals(List.of("327301"), versions.translate("327399", "2024", "2023"));
+    assertEquals(List.of(), versions.translate("3273991001", "2023", "2024"));
+    assertThrows(IllegalArgumentException.class, () -> versions.translate("32", "2021", "2024"));
+  }
+}
@@ -0,0 +1,217 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RegionDeltaTest {
+
+  private static RegionDataset base;
+
+  @BeforeAll
+  static void loadDataset() {
+    base = RegionDataset.shared();
+  }
+
+  @Test
+  @DisplayName("Should rename a region and share every untouched level and child list")
+  void shouldRenameAndShareUntouchedStructure() {
+    RegionDataset patched =
+        base.apply(
+            RegionDelta.of(RegionChange.rename(RegionLevel.DISTRICT, "327301", "SUKASARI RAYA")));
+
+    assertEquals("SUKASARI RAYA", patched.districts().get("327301").getName());
+    assertEquals("SUKASARI", base.districts().get("327301").getName());
+    assertEquals("3273", patched.districts().get("327301").getCityCode());
+    assertEquals(
+        "SUKASARI RAYA",
+        patched.districts().children("3273").stream()
+            .filter(d -> d.getCode().equals("327301"))
+            .findFirst()
+            .map(District::getName)
+            .orElseThrow());
+
+    assertSame(base.provinces(), patched.provinces());
+    assertSame(base.cities(), patched.cities());
+    assertSame(base.villages(), patched.villages());
+    assertSame(base.districts().children("3204"), patched.districts().children("3204"));
+    assertSame(base.districts().get("327302"), patched.districts().get("327302"));
+    assertEquals(base.districts().size(), patched.districts().size());
+  }
+
+  @Test
+  @DisplayName("Should add regions in code order, including below a region added by the same delta")
+  void shouldAddRegions() {
+    RegionDataset patched =
+        base.apply(
+            RegionDelta.of(
+                RegionChange.add(
+                    RegionLevel.VILLAGE, "3273011099", "327301", "SUKAMAJU", -6.87, 107.58),
+                RegionChange.add(RegionLevel.DISTRICT, "327399", "3273", "BARU", -6.9, 107.6),
+                RegionChange.add(
+                    RegionLevel.VILLAGE, "3273992001", "327399", "BARU HILIR", -6.91, 107.61)));
+
+    List<Village> children = patched.villages().children("327301");
+    assertEquals(base.villages().children("327301").size() + 1, children.size());
+    assertEquals("3273011099", children.get(children.size() - 1).getCode());
+    assertEquals("327301", children.get(children.size() - 1).getDistrictCode());
+    assertEquals(-6.87, patched.villages().get("3273011099").getLatitude());
+
+    assertEquals(1, patched.villages().children("327399").size());
+    assertEquals(base.villages().size() + 2, patched.villages().size());
+    assertEquals(base.districts().size() + 1, patched.districts().size());
+    assertEquals(patched.villages().size(), patched.villages().all().size());
+    assertEquals(patched.villages().size(), patched.villages().asMap().size());
+    assertTrue(patched.villages().asMap().containsKey("3273992001"));
+    assertNull(base.villages().get("3273011099"));
+  }
+
+  @Test
+  @DisplayName("Should remove a region together with everything below it")
+  void shouldRemoveWithDescendants() {
+    List<String> villages =
+        base.villages().children("327301").stream()
+            .map(Village::getCode)
+            .collect(Collectors.toList());
+
+    RegionDataset patched =
+        base.apply(RegionDelta.of(RegionChange.remove(RegionLevel.DISTRICT, "327301")));
+
+    assertNull(patched.districts().get("327301"));
+    assertTrue(patched.villages().children("327301").isEmpty());
+    villages.forEach(code -> assertNull(patched.villages().get(code)));
+    assertEquals(base.villages().size() - villages.size(), patched.villages().size());
+    assertTrue(
+        patched.districts().children("3273").stream().noneMatch(d -> d.getCode().equals("327301")));
+    assertTrue(patched.villages().all().stream().noneMatch(v -> villages.contains(v.getCode())));
+  }
+
+  @Test
+  @DisplayName("Should apply deltas on top of patched datasets")
+  void shouldApplyChainedDeltas() {
+    RegionDataset first =
+        base.apply(RegionDelta.of(RegionChange.rename(RegionLevel.VILLAGE, "3273011001", "A")));
+    RegionDataset second =
+        first.apply(
+            RegionDelta.of(
+                RegionChange.rename(RegionLevel.VILLAGE, "3273011002", "B"),
+                RegionChange.remove(RegionLevel.VILLAGE, "3273011003")));
+
+    assertEquals("A", second.villages().get("3273011001").getName());
+    assertEquals("B", second.villages().get("3273011002").getName());
+    assertNull(second.villages().get("3273011003"));
+    assertNotNull(first.villages().get("3273011003"));
+    assertEquals(base.villages().size() - 1, second.villages().size());
+    assertEquals(
+        List.of("3273011001", "3273011002"),
+        second.villages().children("327301").stream()
+            .map(Village::getCode)
+            .limit(2)
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  @DisplayName("Should rebuild a full index once the overlay grows large")
+  void shouldCompactLargeOverlays() {
+    List<String> removed = List.of("32", "33", "35");
+    RegionDataset patched =
+        base.apply(
+            new RegionDelta(
+                removed.stream()
+                    .map(code -> RegionChange.remove(RegionLevel.PROVINCE, code))
+                    .collect(Collectors.toList())));
+
+    removed.forEach(code -> assertNull(patched.provinces().get(code)));
+    assertTrue(patched.cities().children("32").isEmpty());
+    assertTrue(
+        patched.villages().all().stream()
+            .noneMatch(v -> removed.contains(v.getCode().substring(0, 2))));
+    assertEquals(patched.villages().size(), patched.villages().all().size());
+    assertEquals(patched.villages().size(), patched.villages().asMap().size());
+    assertSame(base.villages().children("310101"), patched.villages().children("310101"));
+    assertSame(base.villages().get("3101011001"), patched.villages().get("3101011001"));
+  }
+
+  @Test
+  @DisplayName("Should reject an invalid delta without applying any of it")
+  void shouldRejectInvalidDelta() {
+    RegionDelta delta =
+        RegionDelta.of(
+            RegionChange.rename(RegionLevel.PROVINCE, "32", "TATAR SUNDA"),
+            RegionChange.add(RegionLevel.VILLAGE, "9999999999", "999999", "X", 0, 0));
+
+    assertThrows(IllegalArgumentException.class, () -> base.apply(delta));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> base.apply(RegionDelta.of(RegionChange.remove(RegionLevel.CITY, "9999"))));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            base.apply(
+                RegionDelta.of(
+                    RegionChange.add(RegionLevel.PROVINCE, "32", null, "DUPLICATE", 0, 0))));
+    assertEquals("JAWA BARAT", base.provinces().get("32").getName());
+  }
+
+  @Test
+  @DisplayName("Should reject added codes of the wrong length or outside their parent")
+  void shouldRejectMalformedCodes() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            base.apply(
+                RegionDelta.of(
+                    RegionChange.add(RegionLevel.DISTRICT, "999999", "3273", "UJI", -6.9, 107.6))));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            base.apply(
+                RegionDelta.of(
+                    RegionChange.add(RegionLevel.DISTRICT, "32739", "3273", "UJI", -6.9, 107.6))));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            base.apply(
+                RegionDelta.of(RegionChange.add(RegionLevel.PROVINCE, "099", null, "UJI", 0, 0))));
+    assertNotNull(
+        base.apply(
+                RegionDelta.of(
+                    RegionChange.add(RegionLevel.DISTRICT, "327399", "3273", "UJI", -6.9, 107.6)))
+            .districts()
+            .get("327399"));
+  }
+
+  @Test
+  @DisplayName("Should read the CSV delta format")
+  void shouldReadCsv() {
+    RegionDelta delta =
+        RegionDelta.read(
+            new StringReader(
+                "op,level,code,parent_code,name,lat,lng\n"
+                    + "ADD,village,3273011099,327301,\"SUKAMAJU, BARU\",-6.8911,107.6081\n"
+                    + "rename,district,327301,,SUKASARI RAYA,,\n"
+                    + "REMOVE,village,3273011005,,,,\n"));
+
+    assertEquals(3, delta.getChanges().size());
+    assertEquals(
+        RegionChange.add(
+            RegionLevel.VILLAGE, "3273011099", "327301", "SUKAMAJU, BARU", -6.8911, 107.6081),
+        delta.getChanges().get(0));
+    assertEquals(
+        RegionChange.rename(RegionLevel.DISTRICT, "327301", "SUKASARI RAYA"),
+        delta.getChanges().get(1));
+    assertEquals(RegionChange.remove(RegionLevel.VILLAGE, "3273011005"), delta.getChanges().get(2));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> RegionDelta.read(new StringReader("MOVE,village,3273011005,,,,\n")));
+  }
+}
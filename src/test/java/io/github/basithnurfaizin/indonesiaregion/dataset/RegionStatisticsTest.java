@@ -0,0 +1,181 @@
+package io.github.basithnurfaizin.indonesiaregion.dataset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.model.BoundingBox;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionStats;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaServiceImpl;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RegionStatisticsTest {
+
+  private static RegionDataset dataset;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+  }
+
+  private static List<Village> villagesOfCity(String cityCode) {
+    return dataset.districts().children(cityCode).stream()
+        .flatMap(district -> dataset.villages().children(district.getCode()).stream())
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  @DisplayName("Should count every level below a region")
+  void shouldCountDescendants() {
+    RegionStats city = dataset.statistics().get("3273");
+    List<Village> villages = villagesOfCity("3273");
+
+    assertEquals(RegionLevel.CITY, city.getLevel());
+    assertNull(city.getCities());
+    assertEquals(dataset.districts().children("3273").size(), city.getDistricts());
+    assertEquals(villages.size(), city.getVillages());
+    assertEquals(
+        villages.stream().map(Village::getPostalCode).filter(Objects::nonNull).distinct().count(),
+        city.getPostalCodes());
+
+    RegionStats province = dataset.statistics().get("32");
+    assertEquals(dataset.cities().children("32").size(), province.getCities());
+    assertEquals(
+        dataset.cities().children("32").stream()
+            .mapToInt(c -> dataset.districts().children(c.getCode()).size())
+            .sum(),
+        province.getDistricts());
+
+    District district = dataset.districts().get("327301");
+    assertEquals(
+        dataset.villages().children("327301").size(),
+        dataset.statistics().get(district.getCode()).getVillages());
+    assertNull(dataset.statistics().get("3273011001"));
+  }
+
+  @Test
+  @DisplayName("Should total the whole dataset")
+  void shouldTotalDataset() {
+    RegionStats total = dataset.statistics().getTotal();
+
+    assertNull(total.getCode());
+    assertEquals(dataset.provinces().size(), total.getProvinces());
+    assertEquals(dataset.cities().size(), total.getCities());
+    assertEquals(dataset.districts().size(), total.getDistricts());
+    assertEquals(dataset.villages().size(), total.getVillages());
+    assertSame(dataset.statistics(), dataset.statistics());
+  }
+
+  @Test
+  @DisplayName("Should bound the centroids of a region and everything below it")
+  void shouldBoundCentroids() {
+    BoundingBox box = dataset.statistics().get("3273").getBoundingBox();
+
+    villagesOfCity("3273")
+        .forEach(v -> assertTrue(box.contains(v.getLatitude(), v.getLongitude()), v.getCode()));
+    assertTrue(
+        box.contains(
+            dataset.cities().get("3273").getLatitude(),
+            dataset.cities().get("3273").getLongitude()));
+    assertTrue(box.getMinLatitude() < box.getMaxLatitude());
+  }
+
+  @Test
+  @DisplayName("Should leave villages without coordinates out of the bounding box")
+  void shouldSkipMissingCentroids() {
+    RegionDataset patched =
+        dataset.apply(
+            RegionDelta.of(
+                RegionChange.add(
+                    RegionLevel.VILLAGE, "3273019999", "327301", "TANPA TITIK", 0, 0)));
+
+    assertEquals(
+        dataset.statistics().get("3273").getVillages() + 1,
+        patched.statistics().get("3273").getVillages());
+    assertEquals(
+        dataset.statistics().get("3273").getBoundingBox(),
+        patched.statistics().get("3273").getBoundingBox());
+    assertFalse(patched.statistics().get("32").getBoundingBox().contains(0, 0));
+  }
+
+  @Test
+  @DisplayName("Should recompute statistics for a patched dataset")
+  void shouldRecomputeAfterDelta() {
+    RegionDataset patched =
+        dataset.apply(RegionDelta.of(RegionChange.remove(RegionLevel.DISTRICT, "327301")));
+
+    assertEquals(
+        dataset.statistics().get("3273").getVillages()
+            - dataset.villages().children("327301").size(),
+        patched.statistics().get("3273").getVillages());
+    assertNull(patched.statistics().get("327301"));
+  }
+
+  @Test
+  @DisplayName("Should serve statistics through the service")
+  void shouldServeThroughService() {
+    IndonesiaServiceImpl service = new IndonesiaServiceImpl(dataset);
+
+    assertSame(dataset.statistics().getTotal(), service.getStats(null));
+    assertSame(dataset.statistics().getTotal(), service.getStats(" "));
+    assertSame(dataset.statistics().get("32"), service.getStats("32"));
+    assertNull(service.getStats("99"));
+  }
+
+  @Test
+  @DisplayName("Should compute the same statistics from the list methods by default")
+  void shouldComputeThroughListMethods() {
+    IndonesiaServiceImpl indexed = new IndonesiaServiceImpl(dataset);
+    IndonesiaService listed =
+        new IndonesiaService() {
+          @Override
+          public List<Province> getProvinces(String keyword) {
+            return indexed.getProvinces(keyword);
+          }
+
+          @Override
+          public List<City> getCities(String provinceCode, String keyword) {
+            return indexed.getCities(provinceCode, keyword);
+          }
+
+          @Override
+          public List<District> getDistricts(String cityCode, String keyword) {
+            return indexed.getDistricts(cityCode, keyword);
+          }
+
+          @Override
+          public List<Village> getVillages(String districtCode, String keyword) {
+            return indexed.getVillages(districtCode, keyword);
+          }
+
+          @Override
+          public Province getProvince(String provinceCode, List<String> includes) {
+            return indexed.getProvince(provinceCode, includes);
+          }
+
+          @Override
+          public City getCity(String cityCode, List<String> includes) {
+            return indexed.getCity(cityCode, includes);
+          }
+
+          @Override
+          public District getDistrict(String districtCode, List<String> includes) {
+            return indexed.getDistrict(districtCode, includes);
+          }
+        };
+
+    assertEquals(indexed.getStats(null), listed.getStats(null));
+    assertEquals(indexed.getStats("32"), listed.getStats("32"));
+    assertEquals(indexed.getStats("327301"), listed.getStats("327301"));
+    assertNull(listed.getStats("99"));
+  }
+}
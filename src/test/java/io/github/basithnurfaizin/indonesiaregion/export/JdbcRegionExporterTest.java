@@ -0,0 +1,109 @@
+package io.github.basithnurfaizin.indonesiaregion.export;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.UUID;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JdbcRegionExporterTest {
+
+  private static RegionDataset dataset;
+
+  private JdbcDataSource dataSource;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+  }
+
+  @BeforeEach
+  void createDatabase() {
+    dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+  }
+
+  private long query(String sql) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet result = statement.executeQuery(sql)) {
+      result.next();
+      return result.getLong(1);
+    }
+  }
+
+  @Test
+  @DisplayName("Should load every level in batches and index parent codes")
+  void shouldLoadEveryLevel() throws Exception {
+    Map<RegionLevel, Integer> counts =
+        new JdbcRegionExporter(
+                dataSource, JdbcExportOptions.builder().batchSize(500).commitInterval(2000).build())
+            .export(dataset);
+
+    assertEquals(dataset.villages().size(), counts.get(RegionLevel.VILLAGE));
+    assertEquals(dataset.provinces().size(), query("SELECT COUNT(*) FROM provinces"));
+    assertEquals(dataset.cities().size(), query("SELECT COUNT(*) FROM cities"));
+    assertEquals(dataset.districts().size(), query("SELECT COUNT(*) FROM districts"));
+    assertEquals(dataset.villages().size(), query("SELECT COUNT(*) FROM villages"));
+    assertEquals(
+        dataset.villages().children("327301").size(),
+        query("SELECT COUNT(*) FROM villages WHERE district_code = '327301'"));
+    assertEquals(
+        3,
+        query(
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES"
+                + " WHERE INDEX_NAME LIKE 'IDX_%_CODE'"));
+
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet result =
+            statement.executeQuery("SELECT name, latitude FROM cities WHERE code = '3273'")) {
+      assertTrue(result.next());
+      assertEquals(dataset.cities().get("3273").getName(), result.getString(1));
+      assertEquals(dataset.cities().get("3273").getLatitude(), result.getDouble(2));
+    }
+  }
+
+  @Test
+  @DisplayName("Should load tables concurrently into prefixed tables")
+  void shouldLoadTablesConcurrently() throws Exception {
+    new JdbcRegionExporter(
+            dataSource,
+            JdbcExportOptions.builder()
+                .parallel(true)
+                .tablePrefix("region_")
+                .createIndexes(false)
+                .build())
+        .export(dataset);
+
+    assertEquals(dataset.villages().size(), query("SELECT COUNT(*) FROM region_villages"));
+    assertEquals(dataset.provinces().size(), query("SELECT COUNT(*) FROM region_provinces"));
+    assertEquals(
+        0,
+        query(
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES"
+                + " WHERE INDEX_NAME LIKE 'IDX_%_CODE'"));
+  }
+
+  @Test
+  @DisplayName("Should report a failed load")
+  void shouldReportFailedLoad() throws Exception {
+    JdbcRegionExporter exporter = new JdbcRegionExporter(dataSource);
+    exporter.export(dataset);
+
+    assertThrows(SQLException.class, () -> exporter.export(dataset));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new JdbcRegionExporter(dataSource, JdbcExportOptions.builder().batchSize(0).build()));
+  }
+}
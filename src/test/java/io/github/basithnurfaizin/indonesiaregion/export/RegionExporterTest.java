@@ -0,0 +1,85 @@
+package io.github.basithnurfaizin.indonesiaregion.export;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.loader.ProvinceSlice;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaServiceImpl;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RegionExporterTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static RegionDataset dataset;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.load(ProvinceSlice.of("31", "32"));
+  }
+
+  private static int regionCount() {
+    return dataset.provinces().size()
+        + dataset.cities().size()
+        + dataset.districts().size()
+        + dataset.villages().size();
+  }
+
+  private static String export(ExportFormat format) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new RegionExporter(dataset).export(format, out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @DisplayName("Should write one JSON line per region, parents before children")
+  void shouldWriteJsonLines() throws Exception {
+    List<String> lines = export(ExportFormat.JSON_LINES).lines().toList();
+
+    assertEquals(regionCount(), lines.size());
+    JsonNode first = MAPPER.readTree(lines.get(0));
+    assertEquals("province", first.get("level").asText());
+    assertEquals("31", first.get("code").asText());
+    JsonNode second = MAPPER.readTree(lines.get(1));
+    assertEquals("city", second.get("level").asText());
+    assertEquals("31", second.get("provinceCode").asText());
+    JsonNode third = MAPPER.readTree(lines.get(2));
+    assertEquals("district", third.get("level").asText());
+    assertEquals(second.get("code").asText(), third.get("cityCode").asText());
+    assertEquals("village", MAPPER.readTree(lines.get(3)).get("level").asText());
+  }
+
+  @Test
+  @DisplayName("Should write nested JSON shaped like a fully expanded province")
+  void shouldWriteNestedJson() throws Exception {
+    JsonNode exported = MAPPER.readTree(export(ExportFormat.JSON));
+
+    assertEquals(2, exported.size());
+    JsonNode expanded =
+        MAPPER.valueToTree(
+            new IndonesiaServiceImpl(dataset)
+                .getProvince("32", List.of("cities", "districts", "villages")));
+    assertEquals(expanded, exported.get(1));
+  }
+
+  @Test
+  @DisplayName("Should write CSV rows to a channel")
+  void shouldWriteCsvToChannel() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new RegionExporter(dataset).export(ExportFormat.CSV, Channels.newChannel(out));
+    List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+
+    assertEquals(regionCount() + 1, lines.size());
+    assertEquals("level,code,parent_code,name,latitude,longitude,postal_code", lines.get(0));
+    assertTrue(lines.get(1).startsWith("province,31,,"));
+    assertTrue(lines.get(2).startsWith("city,3101,31,"));
+  }
+}
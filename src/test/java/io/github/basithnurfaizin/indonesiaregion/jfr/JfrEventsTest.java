@@ -0,0 +1,72 @@
+package io.github.basithnurfaizin.indonesiaregion.jfr;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaServiceImpl;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JfrEventsTest {
+
+  @Test
+  @DisplayName("Should emit load events per level and shard and query events per call")
+  void shouldEmitLoadAndQueryEvents() throws Exception {
+    Path file = Files.createTempFile("indonesia-region", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(DatasetLoadEvent.class).withThreshold(Duration.ZERO);
+      recording.enable(RegionQueryEvent.class).withThreshold(Duration.ZERO);
+      recording.start();
+
+      IndonesiaService service = new IndonesiaServiceImpl(RegionDataset.load());
+      service.getCities("32", "bandung");
+      service.getDistrict("327301", List.of("villages"));
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+    Files.deleteIfExists(file);
+
+    List<RecordedEvent> loads =
+        events.stream().filter(e -> e.getEventType().getName().endsWith(".DatasetLoad")).toList();
+    assertTrue(
+        loads.stream()
+            .anyMatch(e -> "cities".equals(e.getString("level")) && e.getInt("rowsParsed") > 500));
+    assertTrue(
+        loads.stream()
+            .anyMatch(
+                e ->
+                    "villages".equals(e.getString("level"))
+                        && "32.csv".equals(e.getString("shard"))));
+    assertTrue(loads.stream().allMatch(e -> e.getLong("bytesRead") > 0));
+
+    List<RecordedEvent> queries =
+        events.stream().filter(e -> e.getEventType().getName().endsWith(".RegionQuery")).toList();
+    RecordedEvent cities =
+        queries.stream()
+            .filter(e -> "getCities".equals(e.getString("method")))
+            .findFirst()
+            .orElseThrow();
+    assertEquals("32", cities.getString("code"));
+    assertEquals("bandung".length(), cities.getInt("keywordLength"));
+    assertTrue(cities.getLong("candidatesScanned") >= cities.getLong("resultsReturned"));
+    assertTrue(cities.getLong("resultsReturned") > 0);
+
+    assertTrue(
+        queries.stream()
+            .anyMatch(
+                e ->
+                    "getDistrict".equals(e.getString("method"))
+                        && e.getLong("resultsReturned") > 1));
+  }
+}
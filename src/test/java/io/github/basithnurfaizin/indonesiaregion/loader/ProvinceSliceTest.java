@@ -0,0 +1,62 @@
+package io.github.basithnurfaizin.indonesiaregion.loader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProvinceSliceTest {
+
+  @TempDir Path dataDirectory;
+
+  @Test
+  @DisplayName("Should match regions of every level by their province prefix")
+  void shouldMatchByProvincePrefix() {
+    ProvinceSlice slice = ProvinceSlice.of(" 32", "31");
+
+    assertEquals(Set.of("31", "32"), slice.getProvinceCodes());
+    assertTrue(slice.includes("32"));
+    assertTrue(slice.includes("3273"));
+    assertTrue(slice.includes("3101011001"));
+    assertFalse(slice.includes("33"));
+    assertFalse(slice.includes("3"));
+    assertFalse(slice.includes(null));
+    assertTrue(ProvinceSlice.ALL.includes("99"));
+    assertThrows(IllegalArgumentException.class, () -> ProvinceSlice.of("327"));
+    assertThrows(IllegalArgumentException.class, () -> ProvinceSlice.of());
+  }
+
+  @Test
+  @DisplayName("Should read the slice from the system property")
+  void shouldReadSystemProperty() {
+    try {
+      System.setProperty(ProvinceSlice.PROPERTY, "32,35");
+      assertEquals(Set.of("32", "35"), ProvinceSlice.fromSystemProperty().getProvinceCodes());
+      System.setProperty(ProvinceSlice.PROPERTY, " ");
+      assertTrue(ProvinceSlice.fromSystemProperty().isAll());
+    } finally {
+      System.clearProperty(ProvinceSlice.PROPERTY);
+    }
+  }
+
+  @Test
+  @DisplayName("Should open only the village shards of the slice")
+  void shouldOpenOnlyMatchingShards() throws Exception {
+    Path villages = Files.createDirectories(dataDirectory.resolve("villages"));
+    Files.writeString(
+        villages.resolve("32.csv"), "3273011001,327301,SUKARASA,-6.87,107.58,40152\n");
+    // a shard that is opened would contribute its row, whatever its province
+    Files.writeString(villages.resolve("33.csv"), "3273011002,327301,STRAY,-6.86,107.58,40153\n");
+
+    Map<String, Village> loaded = VillageLoader.loadVillages(dataDirectory, ProvinceSlice.of("32"));
+
+    assertEquals(Set.of("3273011001"), loaded.keySet());
+    assertEquals(2, VillageLoader.loadVillages(dataDirectory).size());
+  }
+}
@@ -0,0 +1,43 @@
+package io.github.basithnurfaizin.indonesiaregion.loader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class VillageLoaderTest {
+
+  @TempDir Path dataDirectory;
+
+  @Test
+  @DisplayName("Should read latitude and longitude from their own columns")
+  void shouldKeepLatitudeAndLongitude() {
+    Village village = VillageLoader.loadVillages(ProvinceSlice.of("32")).get("3273011001");
+
+    assertEquals("SUKARASA", village.getName());
+    assertEquals(-6.874227470295148, village.getLatitude(), 1e-12);
+    assertEquals(107.58539617161965, village.getLongitude(), 1e-12);
+  }
+
+  @Test
+  @DisplayName("Should load quoted names containing commas")
+  void shouldLoadQuotedNames() throws Exception {
+    Path villages = Files.createDirectories(dataDirectory.resolve("villages"));
+    Files.writeString(
+        villages.resolve("32.csv"),
+        "3273011001,327301,\"SUKARASA, HILIR\",-6.874227470295148,107.58539617161965,40152\n");
+
+    Map<String, Village> loaded = VillageLoader.loadVillages(dataDirectory);
+
+    Village village = loaded.get("3273011001");
+    assertEquals("SUKARASA, HILIR", village.getName());
+    assertEquals("327301", village.getDistrictCode());
+    assertEquals(-6.874227470295148, village.getLatitude(), 1e-12);
+    assertEquals(107.58539617161965, village.getLongitude(), 1e-12);
+  }
+}
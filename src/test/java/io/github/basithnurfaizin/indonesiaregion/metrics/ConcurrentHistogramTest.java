@@ -0,0 +1,63 @@
+package io.github.basithnurfaizin.indonesiaregion.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentHistogramTest {
+
+  @Test
+  @DisplayName("Should report percentiles within bucket precision")
+  void shouldReportPercentilesWithinBucketPrecision() {
+    ConcurrentHistogram histogram = new ConcurrentHistogram();
+    for (long value = 1; value <= 100_000; value++) {
+      histogram.record(value);
+    }
+
+    assertEquals(100_000, histogram.getCount());
+    assertEquals(100_000, histogram.getMax());
+    assertEquals(50_000.5, histogram.getMean(), 0.001);
+    assertEquals(50_000, histogram.getPercentile(50), 50_000 * 0.04);
+    assertEquals(99_000, histogram.getPercentile(99), 99_000 * 0.04);
+    assertEquals(100_000, histogram.getPercentile(100));
+  }
+
+  @Test
+  @DisplayName("Should map every bucket index back to a value in the same bucket")
+  void shouldRoundTripBucketIndexes() {
+    for (long value : new long[] {0, 1, 31, 32, 33, 63, 64, 1_000, 123_456_789, Long.MAX_VALUE}) {
+      int index = ConcurrentHistogram.indexOf(value);
+      long highest = ConcurrentHistogram.highestEquivalentValue(index);
+      assertTrue(highest >= value);
+      assertEquals(index, ConcurrentHistogram.indexOf(highest));
+    }
+  }
+
+  @Test
+  @DisplayName("Should not lose concurrent recordings")
+  void shouldNotLoseConcurrentRecordings() throws InterruptedException {
+    ConcurrentHistogram histogram = new ConcurrentHistogram();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int t = 0; t < 4; t++) {
+      executor.execute(
+          () -> {
+            for (int i = 0; i < 10_000; i++) {
+              histogram.record(i);
+            }
+          });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertEquals(40_000, histogram.getCount());
+    assertEquals(9_999, histogram.getMax());
+
+    histogram.reset();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getPercentile(99));
+  }
+}
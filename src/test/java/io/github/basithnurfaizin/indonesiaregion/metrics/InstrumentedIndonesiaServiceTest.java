@@ -0,0 +1,124 @@
+package io.github.basithnurfaizin.indonesiaregion.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionNode;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaService;
+import io.github.basithnurfaizin.indonesiaregion.service.SearchMode;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedIndonesiaServiceTest {
+
+  private static final Village VILLAGE = new Village("3273011001", "SUKARAJA", "327301", 0, 0);
+
+  private static final IndonesiaService STUB =
+      new IndonesiaService() {
+        @Override
+        public List<Province> getProvinces(String keyword) {
+          return List.of(new Province("32", "JAWA BARAT", 0, 0, null));
+        }
+
+        @Override
+        public List<City> getCities(String provinceCode, String keyword) {
+          return List.of();
+        }
+
+        @Override
+        public List<District> getDistricts(String cityCode, String keyword) {
+          return List.of();
+        }
+
+        @Override
+        public List<Village> getVillages(String districtCode, String keyword) {
+          return List.of(VILLAGE, VILLAGE);
+        }
+
+        @Override
+        public Province getProvince(String provinceCode, List<String> includes) {
+          District district = new District("327301", "SUKASARI", "3273", 0, 0, List.of(VILLAGE));
+          City city = new City("3273", "32", "KOTA BANDUNG", 0.0, 0.0, List.of(district));
+          return new Province("32", "JAWA BARAT", 0, 0, List.of(city));
+        }
+
+        @Override
+        public City getCity(String cityCode, List<String> includes) {
+          return null;
+        }
+
+        @Override
+        public District getDistrict(String districtCode, List<String> includes) {
+          return null;
+        }
+      };
+
+  @Test
+  @DisplayName("Should record calls, result sizes and keyword breakdown")
+  void shouldRecordCallsAndResultSizes() {
+    InMemoryMetricsSink sink = new InMemoryMetricsSink();
+    IndonesiaService service = new InstrumentedIndonesiaService(STUB, sink);
+
+    service.getVillages("327301", null);
+    service.getVillages("327301", "suka");
+    service.getVillages(null, "  ");
+    service.getProvince("32", List.of("cities", "districts", "villages"));
+    service.getCity("0000", null);
+
+    OperationMetrics villages = sink.get(Operation.GET_VILLAGES);
+    assertEquals(3, villages.getCallCount());
+    assertEquals(1, villages.getKeywordCallCount());
+    assertEquals(2, villages.getScanCallCount());
+    assertEquals(2, villages.getMaxResultSize());
+
+    assertEquals(4, sink.get(Operation.GET_PROVINCE).getMaxResultSize());
+    assertEquals(1, sink.get(Operation.GET_CITY).getCallCount());
+    assertEquals(0, sink.get(Operation.GET_CITY).getMaxResultSize());
+    assertEquals(0, sink.get(Operation.GET_DISTRICTS).getCallCount());
+  }
+
+  @Test
+  @DisplayName("Should search through the list methods by default")
+  void shouldSearchThroughListMethods() {
+    List<RegionNode> keyword = STUB.search("suka", SearchMode.KEYWORD);
+    assertEquals(3, keyword.size());
+    assertEquals(RegionLevel.PROVINCE, keyword.get(0).getLevel());
+    assertSame(VILLAGE, keyword.get(2).getRegion(Village.class));
+
+    List<RegionNode> phonetic = STUB.search("Djawa Barat", SearchMode.PHONETIC);
+    assertEquals(1, phonetic.size());
+    assertEquals("32", phonetic.get(0).getRegion(Province.class).getCode());
+
+    assertTrue(STUB.search(" ", SearchMode.KEYWORD).isEmpty());
+    List<RegionNode> alias = STUB.search("Jabar", SearchMode.ALIAS);
+    assertEquals(1, alias.size());
+    assertEquals("JAWA BARAT", alias.get(0).getRegion(Province.class).getName());
+    assertTrue(STUB.search("Atlantis", SearchMode.ALIAS).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should expose operations as MBeans until closed")
+  void shouldExposeOperationsAsMBeans() throws Exception {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name =
+        new ObjectName(
+            JmxMetricsSink.DOMAIN + ":type=IndonesiaService,name=\"test\",operation=getProvinces");
+
+    try (JmxMetricsSink sink = new JmxMetricsSink("test")) {
+      new InstrumentedIndonesiaService(STUB, sink).getProvinces("jawa");
+
+      assertEquals(1L, server.getAttribute(name, "CallCount"));
+      assertEquals(1L, server.getAttribute(name, "KeywordCallCount"));
+      assertEquals(1L, server.getAttribute(name, "MaxResultSize"));
+    }
+    assertFalse(server.isRegistered(name));
+  }
+}
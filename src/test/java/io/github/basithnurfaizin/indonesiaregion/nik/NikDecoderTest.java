@@ -0,0 +1,102 @@
+package io.github.basithnurfaizin.indonesiaregion.nik;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Nik;
+import io.github.basithnurfaizin.indonesiaregion.model.Sex;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NikDecoderTest {
+
+  private static RegionDataset dataset;
+  private static NikDecoder decoder;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+    decoder = new NikDecoder(dataset, 2026);
+  }
+
+  @Test
+  @DisplayName("Should decode the region chain, birth date and sex")
+  void shouldDecodeNik() {
+    Nik female = decoder.decode("3273015702900001");
+
+    assertEquals("32", female.getProvince().getCode());
+    assertEquals("3273", female.getCity().getCode());
+    assertEquals("327301", female.getDistrict().getCode());
+    assertEquals(LocalDate.of(1990, 2, 17), female.getBirthDate());
+    assertEquals(Sex.FEMALE, female.getSex());
+    assertEquals(1, female.getSerial());
+
+    Nik male = decoder.decode("3578031708050123");
+    assertEquals("3578", male.getCity().getCode());
+    assertEquals(LocalDate.of(2005, 8, 17), male.getBirthDate());
+    assertEquals(Sex.MALE, male.getSex());
+    assertEquals(123, male.getSerial());
+  }
+
+  @Test
+  @DisplayName("Should reject malformed numbers, impossible dates and zero serials")
+  void shouldValidateStructure() {
+    assertEquals(NikStatus.VALID, decoder.validate("3273012902000001"));
+    assertEquals(NikStatus.INVALID_BIRTH_DATE, decoder.validate("3273012902010001"));
+    assertEquals(NikStatus.INVALID_BIRTH_DATE, decoder.validate("3273013501900001"));
+    assertEquals(NikStatus.INVALID_BIRTH_DATE, decoder.validate("3273011713900001"));
+    assertEquals(NikStatus.INVALID_SERIAL, decoder.validate("3273011702900000"));
+    assertEquals(NikStatus.MALFORMED, decoder.validate("327301170290001"));
+    assertEquals(NikStatus.MALFORMED, decoder.validate("32730117029O0001"));
+    assertEquals(NikStatus.MALFORMED, decoder.validate((CharSequence) null));
+    assertEquals(NikStatus.MALFORMED, decoder.validate(273011702900001L));
+    assertEquals(NikStatus.UNKNOWN_DISTRICT, decoder.validate(3299991702900001L));
+
+    assertNull(decoder.decode("3299991702900001"));
+    assertThrows(IllegalArgumentException.class, () -> decoder.decode("3273013102900001"));
+  }
+
+  @Test
+  @DisplayName("Should decode batches of numbers and text alike, reusing the batch")
+  void shouldDecodeBatches() {
+    long[] numbers = {3273015702900001L, 3299991702900001L, 3578031708050123L, 42L};
+    CharSequence[] texts = new CharSequence[numbers.length];
+    for (int i = 0; i < numbers.length; i++) {
+      texts[i] = new StringBuilder(Long.toString(numbers[i]));
+    }
+    NikBatch batch = new NikBatch(8);
+
+    assertEquals(2, decoder.decodeAll(numbers, batch));
+    assertEquals(4, batch.size());
+    assertEquals(NikStatus.UNKNOWN_DISTRICT, batch.getStatus(1));
+    assertEquals(NikStatus.MALFORMED, batch.getStatus(3));
+    assertEquals(19900217, batch.getBirthDate(0));
+    assertEquals(Sex.FEMALE, batch.getSex(0));
+    assertEquals(dataset.districts().get("357803"), batch.getDistrict(2));
+    assertNull(batch.getDistrict(1));
+    assertNull(batch.getSex(3));
+
+    assertEquals(2, decoder.decodeAll(texts, batch));
+    assertEquals(20050817, batch.getBirthDate(2));
+    assertEquals(123, batch.getSerial(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> batch.getStatus(4));
+    assertThrows(IllegalArgumentException.class, () -> decoder.decodeAll(numbers, new NikBatch(3)));
+  }
+
+  @Test
+  @DisplayName("Should find every district of the dataset in the primitive index")
+  void shouldIndexEveryDistrict() {
+    DistrictCodes codes = dataset.districts().derived(NikDecoder.DISTRICT_CODES);
+
+    assertEquals(dataset.districts().size(), codes.size());
+    for (District district : dataset.districts().all()) {
+      int position = codes.position(Integer.parseInt(district.getCode()));
+      assertSame(district, codes.district(position));
+    }
+    assertEquals(-1, codes.position(999999));
+    assertEquals(-1, codes.position(-1));
+  }
+}
@@ -0,0 +1,75 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IndonesianPhoneticTest {
+
+  private static RegionDataset dataset;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+  }
+
+  @Test
+  @DisplayName("Should give old spellings and variants the key of the modern name")
+  void shouldMatchOldSpellings() {
+    assertEquals("jokjakarta", IndonesianPhonetic.key("Yogyakarta"));
+    assertEquals("jokjakarta", IndonesianPhonetic.key("Djokjakarta"));
+    assertEquals("jokjakarta", IndonesianPhonetic.key("Jogjakarta"));
+    assertEquals(IndonesianPhonetic.key("Cilacap"), IndonesianPhonetic.key("Tjilatjap"));
+    assertEquals(IndonesianPhonetic.key("Surabaya"), IndonesianPhonetic.key("Soerabaja"));
+    assertEquals(IndonesianPhonetic.key("Bandung"), IndonesianPhonetic.key("Bandoeng"));
+    assertEquals(IndonesianPhonetic.key("Kholil"), IndonesianPhonetic.key("Cholil"));
+    assertEquals(IndonesianPhonetic.key("Fakfak"), IndonesianPhonetic.key("Pakpak"));
+    assertNotEquals(IndonesianPhonetic.key("Bandung"), IndonesianPhonetic.key("Bantul"));
+  }
+
+  @Test
+  @DisplayName("Should drop leading administrative words, punctuation and accents")
+  void shouldDropAdministrativeWords() {
+    assertEquals(
+        IndonesianPhonetic.key("Yogyakarta"), IndonesianPhonetic.key("Daerah Istimewa Yogyakarta"));
+    assertEquals(IndonesianPhonetic.key("Cilacap"), IndonesianPhonetic.key("Kab. Tjilatjap"));
+    assertEquals(
+        IndonesianPhonetic.key("Jakarta Pusat"),
+        IndonesianPhonetic.key("KOTA ADM. DJAKARTA-PUSAT"));
+    assertEquals(IndonesianPhonetic.key("Kota"), IndonesianPhonetic.key("kota"));
+    assertEquals(IndonesianPhonetic.key("Sumbawa"), IndonesianPhonetic.key("Sumbáwa"));
+    assertEquals("", IndonesianPhonetic.key(null));
+    assertEquals("", IndonesianPhonetic.key(" - "));
+  }
+
+  @Test
+  @DisplayName("Should probe the phonetic index and agree with a full scan")
+  void shouldUsePhoneticIndex() {
+    QueryPlan<City> plan =
+        RegionQueryPlanner.plan(
+            dataset, RegionQuery.cities().name("Tjilatjap", NameMatch.PHONETIC).build());
+
+    assertEquals(QueryIndex.PHONETIC, plan.getIndex());
+    assertEquals(
+        List.of("3301"), plan.execute().stream().map(City::getCode).collect(Collectors.toList()));
+
+    String key = IndonesianPhonetic.key("Soekaradja");
+    List<Village> expected =
+        dataset.villages().all().stream()
+            .filter(v -> IndonesianPhonetic.key(v.getName()).equals(key))
+            .collect(Collectors.toList());
+    List<Village> villages =
+        RegionQueryPlanner.plan(
+                dataset, RegionQuery.villages().name("Soekaradja", NameMatch.PHONETIC).build())
+            .execute();
+    assertFalse(villages.isEmpty());
+    assertEquals(expected, villages);
+  }
+}
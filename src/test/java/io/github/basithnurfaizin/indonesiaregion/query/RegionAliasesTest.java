@@ -0,0 +1,68 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RegionAliasesTest {
+
+  private static RegionDataset dataset;
+  private static RegionAliases aliases;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+    aliases = RegionAliases.builtIn(dataset);
+  }
+
+  @Test
+  @DisplayName("Should resolve bundled nicknames and abbreviations")
+  void shouldResolveNicknames() {
+    assertEquals(List.of("32"), aliases.resolve("Jabar"));
+    assertEquals(List.of("35"), aliases.resolve("JATIM"));
+    assertEquals(List.of("31"), aliases.resolve("DKI"));
+    assertEquals(List.of("31"), aliases.resolve("dki jakarta"));
+    assertEquals(List.of("3174"), aliases.resolve("Jaksel"));
+    assertEquals(List.of(), aliases.resolve("Jawa Barat Daya"));
+    assertEquals(List.of(), aliases.resolve(null));
+  }
+
+  @Test
+  @DisplayName("Should resolve prefix variants of provinces, cities and districts")
+  void shouldResolvePrefixVariants() {
+    assertEquals(List.of("32"), aliases.resolve("Provinsi Jawa Barat"));
+    assertEquals("34", aliases.resolve("Yogyakarta").get(0));
+    assertEquals(List.of("3204"), aliases.resolve("Kab. Bandung"));
+    assertEquals(List.of("3273"), aliases.resolve("kota bandung"));
+    assertEquals(List.of("3204", "3273", "350417", "360434"), aliases.resolve("Bandung"));
+    assertEquals(List.of("3174"), aliases.resolve("Kota Adm. Jakarta Selatan"));
+    assertEquals(List.of("3174"), aliases.resolve("Kota Jakarta Selatan"));
+    assertEquals(List.of("3101"), aliases.resolve("Kab Kep. Seribu"));
+    assertEquals(List.of("321112", "321324", "321415", "327301"), aliases.resolve("Kec. Sukasari"));
+  }
+
+  @Test
+  @DisplayName("Should add aliases from a user file and reject unknown codes")
+  void shouldLoadAliasFile(@TempDir Path directory) throws Exception {
+    Path file = directory.resolve("aliases.csv");
+    Files.writeString(
+        file, "alias,code\n# nicknames\nKota Kembang,3273\nGegerkalong Hilir,3273011002\n");
+
+    RegionAliases extended = RegionAliases.builder(dataset).load(file).build();
+
+    assertEquals(List.of("3273"), extended.resolve("kota kembang"));
+    assertEquals(List.of("3273011002"), extended.resolve("gegerkalong hilir"));
+    assertEquals(aliases.resolve("Jabar"), extended.resolve("Jabar"));
+    assertTrue(aliases.resolve("Kota Kembang").isEmpty());
+
+    Files.writeString(file, "Atlantis,9999\n");
+    assertThrows(IllegalArgumentException.class, () -> RegionAliases.builder(dataset).load(file));
+  }
+}
@@ -0,0 +1,184 @@
+package io.github.basithnurfaizin.indonesiaregion.query;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaServiceImpl;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RegionQueryPlannerTest {
+
+  private static RegionDataset dataset;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+  }
+
+  private static <T> List<T> run(RegionQuery<T> query, QueryIndex expectedIndex) {
+    QueryPlan<T> plan = RegionQueryPlanner.plan(dataset, query);
+    assertEquals(expectedIndex, plan.getIndex(), plan.toString());
+    return plan.execute();
+  }
+
+  private static List<Village> scanVillages(Predicate<Village> filter) {
+    return dataset.villages().all().stream().filter(filter).collect(Collectors.toList());
+  }
+
+  @Test
+  @DisplayName("Should read the child list of a single parent")
+  void shouldUseChildren() {
+    List<Village> villages =
+        run(RegionQuery.villages().parentCode("327301").build(), QueryIndex.CHILDREN);
+
+    assertEquals(dataset.villages().children("327301"), villages);
+  }
+
+  @Test
+  @DisplayName("Should look villages up by postal code")
+  void shouldUsePostalCode() {
+    List<Village> villages =
+        run(RegionQuery.villages().postalCode("40152").build(), QueryIndex.POSTAL_CODE);
+
+    assertFalse(villages.isEmpty());
+    assertEquals(scanVillages(v -> "40152".equals(v.getPostalCode())), villages);
+    assertThrows(IllegalArgumentException.class, () -> RegionQuery.cities().postalCode("40152"));
+  }
+
+  @Test
+  @DisplayName("Should read a code range for a code prefix")
+  void shouldUseCodePrefix() {
+    List<District> districts =
+        run(RegionQuery.districts().codePrefix("3273").build(), QueryIndex.CODE_PREFIX);
+
+    assertEquals(dataset.districts().children("3273"), districts);
+    assertTrue(
+        run(RegionQuery.districts().codePrefix("9999").build(), QueryIndex.CODE_PREFIX).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should read a name range for exact and prefix matches")
+  void shouldUseNameIndex() {
+    List<District> exact =
+        run(RegionQuery.districts().name("sukasari", NameMatch.EXACT).build(), QueryIndex.NAME);
+    assertEquals(
+        dataset.districts().all().stream()
+            .filter(d -> d.getName().equalsIgnoreCase("SUKASARI"))
+            .collect(Collectors.toList()),
+        exact);
+
+    List<Village> prefix =
+        run(
+            RegionQuery.villages()
+                .name("Suka", NameMatch.PREFIX)
+                .sortBy(RegionSort.NAME)
+                .limit(25)
+                .build(),
+            QueryIndex.NAME);
+    assertEquals(
+        scanVillages(v -> v.getName().startsWith("SUKA")).stream()
+            .sorted(Comparator.comparing(Village::getName).thenComparing(Village::getCode))
+            .limit(25)
+            .collect(Collectors.toList()),
+        prefix);
+  }
+
+  @Test
+  @DisplayName("Should read a latitude band for a bounding box")
+  void shouldUseSpatialIndex() {
+    List<Village> villages =
+        run(
+            RegionQuery.villages().within(-6.95, 107.55, -6.85, 107.65).build(),
+            QueryIndex.SPATIAL);
+
+    assertFalse(villages.isEmpty());
+    assertEquals(
+        scanVillages(
+            v ->
+                v.getLatitude() >= -6.95
+                    && v.getLatitude() <= -6.85
+                    && v.getLongitude() >= 107.55
+                    && v.getLongitude() <= 107.65),
+        villages);
+    assertEquals(-6.874227470295148, dataset.villages().get("3273011001").getLatitude());
+  }
+
+  @Test
+  @DisplayName("Should pick the most selective index and filter the rest")
+  void shouldCombineConditions() {
+    Set<String> parents = Set.of("327301", "327302", "320401");
+    RegionQuery<Village> query =
+        RegionQuery.villages()
+            .parentCodes(parents)
+            .name("a")
+            .within(-7.5, 107.0, -6.0, 108.0)
+            .sortBy(RegionSort.NAME)
+            .limit(5)
+            .build();
+
+    List<Village> villages = run(query, QueryIndex.CHILDREN);
+
+    assertEquals(
+        scanVillages(
+                v ->
+                    parents.contains(v.getDistrictCode())
+                        && v.getName().contains("A")
+                        && v.getLatitude() >= -7.5
+                        && v.getLatitude() <= -6.0)
+            .stream()
+            .sorted(Comparator.comparing(Village::getName).thenComparing(Village::getCode))
+            .limit(5)
+            .collect(Collectors.toList()),
+        villages);
+  }
+
+  @Test
+  @DisplayName("Should scan the level when no condition is indexed")
+  void shouldFallBackToFullScan() {
+    List<City> cities =
+        run(RegionQuery.cities().name("kota").limit(3).build(), QueryIndex.FULL_SCAN);
+
+    assertEquals(3, cities.size());
+    assertTrue(cities.stream().allMatch(c -> c.getName().contains("KOTA")));
+    assertEquals(
+        dataset.cities().size(), run(RegionQuery.cities().build(), QueryIndex.FULL_SCAN).size());
+    assertThrows(IllegalArgumentException.class, () -> RegionQuery.provinces().parentCode("32"));
+  }
+
+  @Test
+  @DisplayName("Should run queries through the service")
+  void shouldRunThroughService() {
+    IndonesiaServiceImpl service = new IndonesiaServiceImpl(dataset);
+    RegionQuery<City> query = RegionQuery.cities().parentCode("32").name("bandung").build();
+
+    assertEquals(service.getCities("32", "bandung"), service.query(query));
+    assertEquals(QueryIndex.CHILDREN, service.explain(query).getIndex());
+  }
+
+  @Test
+  @DisplayName("Should filter a plain list like the planner")
+  void shouldFilterPlainList() {
+    RegionQuery<Village> query =
+        RegionQuery.villages()
+            .name("suka", NameMatch.PREFIX)
+            .within(-7.5, 107.0, -6.5, 108.0)
+            .sortBy(RegionSort.NAME)
+            .limit(15)
+            .build();
+
+    List<Village> filtered = query.filter(dataset.villages().all());
+
+    assertEquals(15, filtered.size());
+    assertEquals(RegionQueryPlanner.plan(dataset, query).execute(), filtered);
+  }
+}
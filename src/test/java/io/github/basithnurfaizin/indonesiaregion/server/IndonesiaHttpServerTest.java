@@ -0,0 +1,133 @@
+package io.github.basithnurfaizin.indonesiaregion.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaServiceImpl;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IndonesiaHttpServerTest {
+
+  private static IndonesiaHttpServer server;
+  private static HttpClient client;
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  @BeforeAll
+  static void startServer() {
+    server =
+        new IndonesiaHttpServer(new IndonesiaServiceImpl(), new InetSocketAddress("localhost", 0))
+            .start();
+    client = HttpClient.newHttpClient();
+  }
+
+  @AfterAll
+  static void stopServer() {
+    server.close();
+  }
+
+  private HttpResponse<String> get(String path) throws Exception {
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path)).build();
+    return client.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  @Test
+  @DisplayName("Should page through provinces")
+  void shouldPageThroughProvinces() throws Exception {
+    HttpResponse<String> response = get("/provinces?page=2&size=10");
+
+    assertEquals(200, response.statusCode());
+    JsonNode body = mapper.readTree(response.body());
+    assertEquals(2, body.get("page").asInt());
+    assertEquals(10, body.get("data").size());
+    assertTrue(body.get("total").asInt() > 10);
+  }
+
+  @Test
+  @DisplayName("Should filter cities by province and keyword")
+  void shouldFilterCitiesByProvinceAndKeyword() throws Exception {
+    HttpResponse<String> response = get("/cities?provinceCode=32&keyword=bandung");
+
+    assertEquals(200, response.statusCode());
+    JsonNode data = mapper.readTree(response.body()).get("data");
+    assertFalse(data.isEmpty());
+    data.forEach(city -> assertEquals("32", city.get("provinceCode").asText()));
+  }
+
+  @Test
+  @DisplayName("Should expand includes for a single city")
+  void shouldExpandIncludesForCity() throws Exception {
+    HttpResponse<String> response = get("/cities/3273?includes=districts,villages");
+
+    assertEquals(200, response.statusCode());
+    JsonNode city = mapper.readTree(response.body()).get("data");
+    assertEquals("3273", city.get("code").asText());
+    assertFalse(city.get("districts").isEmpty());
+    assertTrue(city.get("districts").get(0).has("villages"));
+  }
+
+  @Test
+  @DisplayName("Should serve precomputed statistics")
+  void shouldServeStatistics() throws Exception {
+    JsonNode total = mapper.readTree(get("/stats").body()).get("data");
+    JsonNode westJava = mapper.readTree(get("/stats/32").body()).get("data");
+
+    assertEquals(38, total.get("provinces").asInt());
+    assertEquals("PROVINCE", westJava.get("level").asText());
+    assertTrue(westJava.get("villages").asInt() > 0);
+    assertEquals(404, get("/stats/0000").statusCode());
+  }
+
+  @Test
+  @DisplayName("Should search every level by mode")
+  void shouldSearchByMode() throws Exception {
+    JsonNode alias = mapper.readTree(get("/search?q=Jabar&mode=alias").body());
+    JsonNode phonetic = mapper.readTree(get("/search?q=Djokjakarta&mode=PHONETIC&size=1").body());
+
+    assertEquals(1, alias.get("total").asInt());
+    assertEquals("PROVINCE", alias.get("data").get(0).get("level").asText());
+    assertEquals("32", alias.get("data").get(0).get("region").get("code").asText());
+    assertEquals("34", phonetic.get("data").get(0).get("region").get("code").asText());
+    assertTrue(phonetic.get("total").asInt() > 1);
+    assertEquals(200, get("/search?q=cilacap").statusCode());
+    assertEquals(400, get("/search?q=%20").statusCode());
+    assertEquals(400, get("/search?q=cilacap&mode=fuzzy").statusCode());
+  }
+
+  @Test
+  @DisplayName("Should return 404 for unknown region and 400 for invalid paging")
+  void shouldReturnErrors() throws Exception {
+    assertEquals(404, get("/districts/000000").statusCode());
+    assertEquals(404, get("/unknown").statusCode());
+    assertEquals(400, get("/villages?size=0").statusCode());
+  }
+
+  @Test
+  @DisplayName("Should return 500 when the service fails")
+  void shouldReturnServerErrorWhenServiceFails() throws Exception {
+    IndonesiaServiceImpl failing =
+        new IndonesiaServiceImpl(
+            () -> {
+              throw new IllegalStateException("Dataset failed to load");
+            });
+    try (IndonesiaHttpServer broken =
+        new IndonesiaHttpServer(failing, new InetSocketAddress("localhost", 0)).start()) {
+      HttpRequest request =
+          HttpRequest.newBuilder(URI.create("http://localhost:" + broken.getPort() + "/provinces"))
+              .build();
+      HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+      assertEquals(500, response.statusCode());
+      assertTrue(mapper.readTree(response.body()).has("error"));
+    }
+  }
+}
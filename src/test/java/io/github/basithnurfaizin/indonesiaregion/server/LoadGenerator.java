@@ -0,0 +1,134 @@
+package io.github.basithnurfaizin.indonesiaregion.server;
+
+import io.github.basithnurfaizin.indonesiaregion.service.IndonesiaServiceImpl;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Local load-generation harness for {@link IndonesiaHttpServer}.
+ *
+ * <p>Usage: {@code LoadGenerator [baseUrl|-] [concurrency] [durationSeconds]}. With {@code -} (the
+ * default) an in-process server is started on an ephemeral port. Each worker issues a mix of list,
+ * keyword and includes requests back to back and the harness reports throughput and latency
+ * percentiles.
+ */
+public class LoadGenerator {
+
+  private static final String[] PATHS = {
+    "/provinces",
+    "/provinces?keyword=jawa",
+    "/cities?provinceCode=32",
+    "/cities?provinceCode=35&keyword=kota",
+    "/districts?cityCode=3273",
+    "/villages?districtCode=327301",
+    "/villages?keyword=sukamaju&size=20",
+    "/provinces/32?includes=cities",
+    "/cities/3273?includes=districts,villages",
+    "/districts/327301?includes=villages",
+  };
+
+  public static void main(String[] args) throws Exception {
+    String baseUrl = args.length > 0 ? args[0] : "-";
+    int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+    int durationSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+    IndonesiaHttpServer server = null;
+    if ("-".equals(baseUrl)) {
+      server =
+          new IndonesiaHttpServer(new IndonesiaServiceImpl(), new InetSocketAddress("localhost", 0))
+              .start();
+      baseUrl = "http://localhost:" + server.getPort();
+    }
+
+    HttpClient client =
+        HttpClient.newBuilder().executor(Executors.newFixedThreadPool(concurrency)).build();
+    String target = baseUrl;
+
+    // warm up the server and the client connection pool
+    runWorkers(client, target, concurrency, System.nanoTime() + 5_000_000_000L);
+    long start = System.nanoTime();
+    long[] latencies =
+        runWorkers(client, target, concurrency, start + durationSeconds * 1_000_000_000L);
+    double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+    Arrays.sort(latencies);
+    System.out.printf(
+        "requests=%d concurrency=%d duration=%.1fs throughput=%.0f req/s%n",
+        latencies.length, concurrency, elapsedSeconds, latencies.length / elapsedSeconds);
+    System.out.printf(
+        "latency ms: p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f%n",
+        percentile(latencies, 50),
+        percentile(latencies, 90),
+        percentile(latencies, 99),
+        percentile(latencies, 99.9),
+        percentile(latencies, 100));
+
+    if (server != null) {
+      server.close();
+    }
+    System.exit(0);
+  }
+
+  private static long[] runWorkers(
+      HttpClient client, String baseUrl, int concurrency, long deadline) throws Exception {
+    ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+    List<Future<long[]>> results = new ArrayList<>();
+    for (int i = 0; i < concurrency; i++) {
+      results.add(workers.submit(() -> worker(client, baseUrl, deadline)));
+    }
+    List<long[]> samples = new ArrayList<>();
+    int total = 0;
+    for (Future<long[]> result : results) {
+      long[] sample = result.get();
+      samples.add(sample);
+      total += sample.length;
+    }
+    workers.shutdown();
+
+    long[] merged = new long[total];
+    int offset = 0;
+    for (long[] sample : samples) {
+      System.arraycopy(sample, 0, merged, offset, sample.length);
+      offset += sample.length;
+    }
+    return merged;
+  }
+
+  private static long[] worker(HttpClient client, String baseUrl, long deadline) throws Exception {
+    long[] latencies = new long[1024];
+    int count = 0;
+    while (System.nanoTime() < deadline) {
+      String path = PATHS[ThreadLocalRandom.current().nextInt(PATHS.length)];
+      HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).build();
+      long begin = System.nanoTime();
+      HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+      long latency = System.nanoTime() - begin;
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException(path + " returned " + response.statusCode());
+      }
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = latency;
+    }
+    return Arrays.copyOf(latencies, count);
+  }
+
+  private static double percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+  }
+}
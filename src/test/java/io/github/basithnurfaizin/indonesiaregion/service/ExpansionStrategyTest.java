@@ -0,0 +1,183 @@
+package io.github.basithnurfaizin.indonesiaregion.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpansionStrategyTest {
+
+  private static final List<String> ALL = List.of("cities", "districts", "villages");
+
+  private static RegionDataset dataset;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+  }
+
+  @Test
+  @DisplayName("Should expand in parallel to the same tree as the caller")
+  void shouldMatchCallerRuns() {
+    IndonesiaServiceImpl inline =
+        new IndonesiaServiceImpl(() -> dataset, ExpansionStrategy.callerRuns());
+    try (ExpansionStrategy strategy = ExpansionStrategy.bounded(4, 16, 8)) {
+      IndonesiaServiceImpl parallel = new IndonesiaServiceImpl(() -> dataset, strategy);
+
+      assertEquals(inline.getProvince("32", ALL), parallel.getProvince("32", ALL));
+      assertEquals(inline.getCity("3273", ALL), parallel.getCity("3273", ALL));
+
+      ExpansionMetrics metrics = strategy.getMetrics();
+      assertEquals(2, metrics.getParallelExpansions());
+      assertTrue(metrics.getForkedTasks() > 0);
+      assertEquals(2, metrics.getParallelismHistogram().getCount());
+      assertEquals(0, metrics.getActiveWorkers());
+    }
+  }
+
+  @Test
+  @DisplayName("Should size expansions by copied regions, not shared village lists")
+  void shouldSizeByCopiedRegions() {
+    try (ExpansionStrategy strategy =
+        ExpansionStrategy.bounded(4, 16, ExpansionStrategy.DEFAULT_INLINE_THRESHOLD)) {
+      IndonesiaServiceImpl service = new IndonesiaServiceImpl(() -> dataset, strategy);
+
+      Province province = service.getProvince("32", ALL);
+
+      assertFalse(province.getCities().get(0).getDistricts().get(0).getVillages().isEmpty());
+      assertEquals(0, strategy.getMetrics().getParallelExpansions());
+      assertEquals(0, strategy.getMetrics().getForkedTasks());
+    }
+  }
+
+  @Test
+  @DisplayName("Should expand small subtrees on the calling thread")
+  void shouldInlineSmallSubtrees() {
+    try (ExpansionStrategy strategy = ExpansionStrategy.bounded(4, 16, 100_000)) {
+      IndonesiaServiceImpl service = new IndonesiaServiceImpl(() -> dataset, strategy);
+
+      Province province = service.getProvince("31", ALL);
+
+      assertFalse(province.getCities().isEmpty());
+      assertEquals(0, strategy.getMetrics().getParallelExpansions());
+      assertTrue(strategy.getMetrics().getInlineExpansions() > 0);
+      assertEquals(0, strategy.getMetrics().getForkedTasks());
+    }
+  }
+
+  @Test
+  @DisplayName("Should run queued chunks on the caller when every worker is busy")
+  void shouldReclaimQueuedChunks() throws Exception {
+    try (ExpansionStrategy strategy = ExpansionStrategy.bounded(2, 1, 1)) {
+      CountDownLatch release = new CountDownLatch(1);
+      ExecutorService callers = Executors.newFixedThreadPool(2);
+      try {
+        List<Future<List<Integer>>> blocked = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+          blocked.add(callers.submit(() -> blockWorker(strategy, release)));
+        }
+        while (strategy.getMetrics().getActiveWorkers() < 2) {
+          Thread.sleep(1);
+        }
+
+        List<Integer> items = IntStream.range(0, 10).boxed().toList();
+        assertEquals(items, strategy.map(items, item -> 1, item -> item));
+        assertEquals(1, strategy.getMetrics().getReclaimedTasks());
+
+        // The reclaimed chunk's task still fills the queue, so this one is rejected, not reclaimed
+        assertEquals(items, strategy.map(items, item -> 1, item -> item));
+        assertEquals(1, strategy.getMetrics().getRejectedTasks());
+        assertEquals(1, strategy.getMetrics().getReclaimedTasks());
+
+        release.countDown();
+        for (Future<List<Integer>> result : blocked) {
+          assertEquals(List.of(0, 1), result.get(10, TimeUnit.SECONDS));
+        }
+      } finally {
+        release.countDown();
+        callers.shutdownNow();
+      }
+    }
+  }
+
+  /** Keeps one pool worker busy on the second item until released. */
+  private static List<Integer> blockWorker(ExpansionStrategy strategy, CountDownLatch release) {
+    CountDownLatch started = new CountDownLatch(1);
+    return strategy.map(
+        List.of(0, 1),
+        item -> 1,
+        item -> {
+          if (item == 0) {
+            await(started);
+          } else {
+            started.countDown();
+            await(release);
+          }
+          return item;
+        });
+  }
+
+  @Test
+  @DisplayName("Should not deadlock when many deep expansions share a small pool")
+  void shouldNotDeadlockUnderConcurrency() throws Exception {
+    try (ExpansionStrategy strategy = ExpansionStrategy.bounded(2, 2, 16)) {
+      IndonesiaServiceImpl service = new IndonesiaServiceImpl(() -> dataset, strategy);
+      Province expected =
+          new IndonesiaServiceImpl(() -> dataset, ExpansionStrategy.callerRuns())
+              .getProvince("35", ALL);
+
+      ExecutorService callers = Executors.newFixedThreadPool(8);
+      try {
+        List<Future<Province>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+          results.add(callers.submit(() -> service.getProvince("35", ALL)));
+        }
+        for (Future<Province> result : results) {
+          assertEquals(expected, result.get(60, TimeUnit.SECONDS));
+        }
+      } finally {
+        callers.shutdownNow();
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should rethrow a failure from a forked chunk")
+  void shouldPropagateFailures() {
+    try (ExpansionStrategy strategy = ExpansionStrategy.bounded(4, 16, 1)) {
+      List<City> cities = dataset.cities().children("32");
+
+      IllegalStateException error =
+          assertThrows(
+              IllegalStateException.class,
+              () ->
+                  strategy.map(
+                      cities,
+                      city -> 1,
+                      city -> {
+                        throw new IllegalStateException(city.getCode());
+                      }));
+      assertTrue(error.getMessage().startsWith("32"));
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
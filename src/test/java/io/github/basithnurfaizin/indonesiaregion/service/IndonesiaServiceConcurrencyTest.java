@@ -0,0 +1,127 @@
+package io.github.basithnurfaizin.indonesiaregion.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionChange;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDelta;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Hammers the service from many threads. {@link ServiceStressHarness#main} runs the same workload
+ * for longer and reports throughput by thread count.
+ */
+class IndonesiaServiceConcurrencyTest {
+
+  private static final int THREADS = 8;
+
+  private static RegionDataset dataset;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+  }
+
+  @Test
+  @DisplayName("Should keep every invariant under a mixed concurrent workload")
+  void shouldKeepInvariantsUnderLoad() throws Exception {
+    List<String> before = ServiceStressHarness.describeCachedModels(dataset);
+    ServiceStressHarness harness = new ServiceStressHarness(new IndonesiaServiceImpl(dataset));
+
+    ServiceStressHarness.Result result = harness.run(THREADS, 300, 42);
+
+    assertEquals(THREADS * 300L, result.operations());
+    assertEquals(List.of(), result.violations());
+    assertEquals(before, ServiceStressHarness.describeCachedModels(dataset));
+  }
+
+  @Test
+  @DisplayName("Should keep every invariant when expansions fork onto a shared pool")
+  void shouldKeepInvariantsWhenForking() throws Exception {
+    List<String> before = ServiceStressHarness.describeCachedModels(dataset);
+    try (ExpansionStrategy expansion = ExpansionStrategy.bounded(4, 8, 16)) {
+      ServiceStressHarness harness =
+          new ServiceStressHarness(new IndonesiaServiceImpl(() -> dataset, expansion));
+
+      ServiceStressHarness.Result result = harness.run(THREADS, 200, 7);
+
+      assertEquals(List.of(), result.violations());
+      assertTrue(expansion.getMetrics().getParallelExpansions() > 0);
+    }
+    assertEquals(before, ServiceStressHarness.describeCachedModels(dataset));
+  }
+
+  @Test
+  @DisplayName("Should answer each call from exactly one snapshot while snapshots swap")
+  void shouldServeEachCallFromOneSnapshot() throws Exception {
+    RegionDataset renamed =
+        dataset.apply(
+            RegionDelta.of(
+                RegionChange.rename(RegionLevel.CITY, "3273", "KOTA BANDUNG RAYA"),
+                RegionChange.add(RegionLevel.DISTRICT, "327399", "3273", "UJI", -6.9, 107.6)));
+    AtomicReference<RegionDataset> current = new AtomicReference<>(dataset);
+    IndonesiaServiceImpl service = new IndonesiaServiceImpl(current::get);
+
+    Province original =
+        new IndonesiaServiceImpl(dataset).getProvince("32", ServiceStressHarness.ALL);
+    Province updated =
+        new IndonesiaServiceImpl(renamed).getProvince("32", ServiceStressHarness.ALL);
+    assertNotEquals(original, updated);
+
+    AtomicBoolean stop = new AtomicBoolean();
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+    try {
+      Future<?> swapper =
+          pool.submit(
+              () -> {
+                while (!stop.get()) {
+                  current.set(current.get() == dataset ? renamed : dataset);
+                  Thread.yield();
+                }
+              });
+      List<Future<Integer>> readers = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        readers.add(
+            pool.submit(
+                () -> {
+                  int mixed = 0;
+                  for (int call = 0; call < 50; call++) {
+                    Province province = service.getProvince("32", ServiceStressHarness.ALL);
+                    if (!province.equals(original) && !province.equals(updated)) {
+                      mixed++;
+                    }
+                    City city = service.getCity("3273", List.of("districts"));
+                    boolean renamedCity = city.getName().equals("KOTA BANDUNG RAYA");
+                    boolean hasAddedDistrict =
+                        city.getDistricts().stream().anyMatch(d -> d.getCode().equals("327399"));
+                    if (renamedCity != hasAddedDistrict) {
+                      mixed++;
+                    }
+                  }
+                  return mixed;
+                }));
+      }
+      for (Future<Integer> reader : readers) {
+        assertEquals(0, reader.get(60, TimeUnit.SECONDS));
+      }
+      stop.set(true);
+      swapper.get(10, TimeUnit.SECONDS);
+    } finally {
+      stop.set(true);
+      pool.shutdownNow();
+    }
+  }
+}
@@ -2,15 +2,29 @@ package io.github.basithnurfaizin.indonesiaregion.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionChange;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDelta;
+import io.github.basithnurfaizin.indonesiaregion.loader.ProvinceSlice;
 import io.github.basithnurfaizin.indonesiaregion.model.City;
 import io.github.basithnurfaizin.indonesiaregion.model.District;
 import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionNode;
 import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class IndonesiaServiceImplTest {
 
@@ -863,4 +877,204 @@ class IndonesiaServiceImplTest {
       }
     }
   }
+
+  @Nested
+  @DisplayName("Asynchronous Loading Tests")
+  class AsyncLoadingTests {
+
+    @Test
+    @DisplayName("Should serve loaded levels while later levels are still pending")
+    void shouldServeLoadedLevelsWhileLaterLevelsArePending() {
+      Queue<Runnable> tasks = new ArrayDeque<>();
+      IndonesiaServiceImpl service = IndonesiaServiceImpl.loadAsync(tasks::add);
+
+      assertFalse(service.isReady(RegionLevel.PROVINCE));
+
+      tasks.poll().run();
+      assertTrue(service.isReady(RegionLevel.PROVINCE));
+      assertFalse(service.isReady(RegionLevel.CITY));
+      assertFalse(service.getProvinces("jawa").isEmpty());
+
+      tasks.poll().run();
+      assertTrue(service.whenReady(RegionLevel.CITY).isDone());
+      assertFalse(service.getCities("32", null).isEmpty());
+      assertNull(service.getCity("3273", List.of()).getDistricts());
+      assertFalse(service.isReady(RegionLevel.DISTRICT));
+
+      while (!tasks.isEmpty()) {
+        tasks.poll().run();
+      }
+      assertTrue(service.isReady(RegionLevel.VILLAGE));
+      assertTrue(service.whenReady().isDone());
+      assertFalse(service.getVillages("327301", null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should finish loading every level on the background thread")
+    void shouldFinishLoadingOnBackgroundThread() throws Exception {
+      IndonesiaServiceImpl service = IndonesiaServiceImpl.loadAsync();
+
+      service.whenReady().get(60, TimeUnit.SECONDS);
+
+      for (RegionLevel level : RegionLevel.values()) {
+        assertTrue(service.isReady(level));
+      }
+      assertEquals(
+          indonesiaService.getVillages("327301", null).size(),
+          service.getVillages("327301", null).size());
+    }
+  }
+
+  @Nested
+  @DisplayName("Shared Dataset Tests")
+  class SharedDatasetTests {
+
+    @Test
+    @DisplayName("Should share one dataset between default instances")
+    void shouldShareOneDatasetBetweenDefaultInstances() {
+      IndonesiaServiceImpl first = new IndonesiaServiceImpl();
+      IndonesiaServiceImpl second = new IndonesiaServiceImpl();
+
+      assertSame(RegionDataset.shared(), first.getDataset());
+      assertSame(first.getDataset(), second.getDataset());
+      assertSame(RegionDataset.sharedAsync(), IndonesiaServiceImpl.loadAsync().getDataset());
+      assertSame(first.getCities("32", null).get(0), second.getCities("32", null).get(0));
+    }
+
+    @Test
+    @DisplayName("Should not attach expanded data to shared regions")
+    void shouldNotAttachExpandedDataToSharedRegions() {
+      Province province =
+          indonesiaService.getProvince("32", List.of("cities", "districts", "villages"));
+      City city = indonesiaService.getCity("3273", List.of("districts", "villages"));
+
+      assertNotNull(province.getCities().get(0).getDistricts());
+      assertNotNull(city.getDistricts().get(0).getVillages());
+      assertTrue(
+          indonesiaService.getCities("32", null).stream().allMatch(c -> c.getDistricts() == null));
+      assertTrue(
+          indonesiaService.getDistricts("3273", null).stream()
+              .allMatch(d -> d.getVillages() == null));
+    }
+  }
+
+  @Nested
+  @DisplayName("Province Slice Tests")
+  class ProvinceSliceTests {
+
+    private final IndonesiaService sliced =
+        new IndonesiaServiceImpl(RegionDataset.load(ProvinceSlice.of("31", "32")));
+
+    @Test
+    @DisplayName("Should load only the regions of the chosen provinces")
+    void shouldLoadOnlyChosenProvinces() {
+      assertEquals(
+          List.of("31", "32"),
+          sliced.getProvinces(null).stream().map(Province::getCode).collect(Collectors.toList()));
+      assertTrue(sliced.getCities(null, null).stream().allMatch(c -> c.getCode().startsWith("3")));
+      assertEquals(indonesiaService.getCities("32", null), sliced.getCities("32", null));
+      assertTrue(
+          sliced.getVillages(null, null).stream()
+              .allMatch(v -> v.getCode().startsWith("31") || v.getCode().startsWith("32")));
+      assertEquals(
+          indonesiaService.getVillages("327301", null).size(),
+          sliced.getVillages("327301", null).size());
+    }
+
+    @Test
+    @DisplayName("Should not find regions outside the slice")
+    void shouldNotFindRegionsOutsideSlice() {
+      assertNull(sliced.getProvince("33", List.of("cities")));
+      assertNull(sliced.getCity("3374", null));
+      assertTrue(sliced.getCities("33", null).isEmpty());
+      assertTrue(sliced.getProvinces("JAWA TENGAH").isEmpty());
+      assertTrue(
+          sliced.getVillages(null, "SEMARANG").stream()
+              .noneMatch(v -> v.getCode().startsWith("33")));
+    }
+  }
+
+  @Nested
+  @DisplayName("Search Tests")
+  class SearchTests {
+
+    private List<String> codes(List<RegionNode> nodes) {
+      return nodes.stream()
+          .map(node -> node.getLevel() + ":" + code(node.getRegion()))
+          .collect(Collectors.toList());
+    }
+
+    private String code(Object region) {
+      if (region instanceof Province) {
+        return ((Province) region).getCode();
+      } else if (region instanceof City) {
+        return ((City) region).getCode();
+      } else if (region instanceof District) {
+        return ((District) region).getCode();
+      }
+      return ((Village) region).getCode();
+    }
+
+    @Test
+    @DisplayName("Should find old spellings across every level with phonetic search")
+    void shouldSearchPhonetically() {
+      List<String> found = codes(indonesiaService.search("Djokjakarta", SearchMode.PHONETIC));
+
+      assertEquals(List.of("PROVINCE:34", "CITY:3471", "VILLAGE:1810022012"), found);
+      assertTrue(
+          codes(indonesiaService.search("Kab. Tjilatjap", SearchMode.PHONETIC))
+              .containsAll(List.of("CITY:3301", "VILLAGE:3301211002")));
+    }
+
+    @Test
+    @DisplayName("Should match codes and names like the list methods with keyword search")
+    void shouldSearchByKeyword() {
+      List<RegionNode> found = indonesiaService.search("cilacap", SearchMode.KEYWORD);
+
+      assertEquals(RegionLevel.CITY, found.get(0).getLevel());
+      assertEquals(
+          indonesiaService.getCities(null, "cilacap").size()
+              + indonesiaService.getDistricts(null, "cilacap").size()
+              + indonesiaService.getVillages(null, "cilacap").size(),
+          found.size());
+      assertTrue(indonesiaService.search("Djokjakarta", SearchMode.KEYWORD).isEmpty());
+      assertTrue(indonesiaService.search(" ", SearchMode.PHONETIC).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should resolve nicknames and prefix variants with alias search")
+    void shouldSearchByAlias() {
+      assertEquals(
+          List.of("PROVINCE:32"), codes(indonesiaService.search("Jabar", SearchMode.ALIAS)));
+      assertEquals(
+          List.of("CITY:3204", "CITY:3273", "DISTRICT:350417", "DISTRICT:360434"),
+          codes(indonesiaService.search("Bandung", SearchMode.ALIAS)));
+      assertTrue(
+          indonesiaService.search("Jabar", SearchMode.KEYWORD).stream()
+              .noneMatch(node -> node.getLevel() == RegionLevel.PROVINCE));
+    }
+
+    @Test
+    @DisplayName("Should read an alias file once and skip regions later datasets removed")
+    void shouldKeepFileAliasesAcrossSnapshots(@TempDir Path directory) throws Exception {
+      Path file = directory.resolve("aliases.csv");
+      Files.writeString(file, "Kota Kembang,3273\nSukasari Lama,327301\n");
+      RegionDataset dataset = RegionDataset.shared();
+      AtomicReference<RegionDataset> current = new AtomicReference<>(dataset);
+      IndonesiaServiceImpl service = new IndonesiaServiceImpl(current::get).withAliases(file);
+
+      assertEquals(
+          List.of("DISTRICT:327301"), codes(service.search("Sukasari Lama", SearchMode.ALIAS)));
+
+      Files.delete(file);
+      current.set(
+          dataset.apply(RegionDelta.of(RegionChange.remove(RegionLevel.DISTRICT, "327301"))));
+
+      assertTrue(service.search("Sukasari Lama", SearchMode.ALIAS).isEmpty());
+      assertEquals(List.of("CITY:3273"), codes(service.search("Kota Kembang", SearchMode.ALIAS)));
+
+      Files.writeString(file, "Atlantis,9999\n");
+      assertThrows(IllegalArgumentException.class, () -> service.withAliases(file));
+    }
+  }
 }
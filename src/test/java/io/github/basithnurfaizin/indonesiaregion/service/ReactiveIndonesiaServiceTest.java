@@ -0,0 +1,209 @@
+package io.github.basithnurfaizin.indonesiaregion.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionChange;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDelta;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionNode;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReactiveIndonesiaServiceTest {
+
+  private static RegionDataset dataset;
+  private static IndonesiaServiceImpl service;
+  private static ReactiveIndonesiaService reactive;
+
+  @BeforeAll
+  static void setUp() {
+    dataset = RegionDataset.shared();
+    service = new IndonesiaServiceImpl(dataset);
+    reactive = new ReactiveIndonesiaService(dataset);
+  }
+
+  /** Records every signal and requests only what the test asks for. */
+  private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+    final List<T> items = new ArrayList<>();
+    Flow.Subscription subscription;
+    Throwable error;
+    boolean completed;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(T item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+
+  private static <T> RecordingSubscriber<T> subscribe(Flow.Publisher<T> publisher) {
+    RecordingSubscriber<T> subscriber = new RecordingSubscriber<>();
+    publisher.subscribe(subscriber);
+    return subscriber;
+  }
+
+  private static <T> List<T> drain(Flow.Publisher<T> publisher) {
+    RecordingSubscriber<T> subscriber = subscribe(publisher);
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertTrue(subscriber.completed);
+    assertNull(subscriber.error);
+    return subscriber.items;
+  }
+
+  @Test
+  @DisplayName("Should emit the same regions as the list operations")
+  void shouldMatchListOperations() {
+    assertEquals(service.getProvinces("jawa"), drain(reactive.streamProvinces("jawa")));
+    assertEquals(service.getCities("32", "bandung"), drain(reactive.streamCities("32", "bandung")));
+    assertEquals(service.getDistricts("3273", null), drain(reactive.streamDistricts("3273", null)));
+    assertEquals(
+        service.getVillages("327301", "su"), drain(reactive.streamVillages("327301", "su")));
+  }
+
+  @Test
+  @DisplayName("Should emit no more elements than requested")
+  void shouldHonorDemand() {
+    RecordingSubscriber<Village> subscriber = subscribe(reactive.streamVillages(null, null));
+    assertTrue(subscriber.items.isEmpty());
+
+    subscriber.subscription.request(3);
+    assertEquals(3, subscriber.items.size());
+    assertFalse(subscriber.completed);
+
+    subscriber.subscription.request(2);
+    assertEquals(dataset.villages().all().subList(0, 5), subscriber.items);
+  }
+
+  @Test
+  @DisplayName("Should stop emitting once cancelled")
+  void shouldStopOnCancel() {
+    List<Province> received = new ArrayList<>();
+    reactive
+        .streamProvinces(null)
+        .subscribe(
+            new Flow.Subscriber<>() {
+              private Flow.Subscription subscription;
+
+              @Override
+              public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+              }
+
+              @Override
+              public void onNext(Province item) {
+                received.add(item);
+                if (received.size() == 4) {
+                  subscription.cancel();
+                }
+                subscription.request(1);
+              }
+
+              @Override
+              public void onError(Throwable throwable) {
+                fail(throwable);
+              }
+
+              @Override
+              public void onComplete() {
+                fail("cancelled stream completed");
+              }
+            });
+
+    assertEquals(4, received.size());
+  }
+
+  @Test
+  @DisplayName("Should signal an error for a non-positive request")
+  void shouldRejectInvalidRequest() {
+    RecordingSubscriber<Province> subscriber = subscribe(reactive.streamProvinces(null));
+    subscriber.subscription.request(0);
+
+    assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    subscriber.subscription.request(10);
+    assertTrue(subscriber.items.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should stream a province tree depth-first")
+  void shouldStreamProvinceTree() {
+    List<RegionNode> nodes =
+        drain(reactive.streamProvinceTree("31", List.of("cities", "districts")));
+
+    Province province = service.getProvince("31", List.of("cities", "districts"));
+    List<RegionNode> expected = new ArrayList<>();
+    expected.add(new RegionNode(RegionLevel.PROVINCE, dataset.provinces().get("31")));
+    for (City city : province.getCities()) {
+      expected.add(new RegionNode(RegionLevel.CITY, dataset.cities().get(city.getCode())));
+      for (District district : city.getDistricts()) {
+        expected.add(new RegionNode(RegionLevel.DISTRICT, district));
+      }
+    }
+    assertEquals(expected, nodes);
+  }
+
+  @Test
+  @DisplayName("Should expand a tree lazily as demand arrives")
+  void shouldStreamTreeLazily() {
+    RecordingSubscriber<RegionNode> subscriber =
+        subscribe(reactive.streamProvinceTree("32", List.of("cities", "districts", "villages")));
+    subscriber.subscription.request(4);
+
+    List<RegionLevel> levels = subscriber.items.stream().map(RegionNode::getLevel).toList();
+    assertEquals(
+        List.of(RegionLevel.PROVINCE, RegionLevel.CITY, RegionLevel.DISTRICT, RegionLevel.VILLAGE),
+        levels);
+    District district = subscriber.items.get(2).getRegion(District.class);
+    Village village = subscriber.items.get(3).getRegion(Village.class);
+    assertEquals(district.getCode(), village.getDistrictCode());
+    assertFalse(subscriber.completed);
+  }
+
+  @Test
+  @DisplayName("Should complete empty for an unknown code")
+  void shouldCompleteEmptyForUnknownCode() {
+    assertTrue(drain(reactive.streamProvinceTree("99", List.of("cities"))).isEmpty());
+    assertTrue(drain(reactive.streamDistrictTree("999999", null)).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should read the snapshot current at the first request")
+  void shouldReadSnapshotAtFirstRequest() {
+    RegionDataset renamed =
+        dataset.apply(
+            RegionDelta.of(RegionChange.rename(RegionLevel.PROVINCE, "32", "JAWA BARAT BARU")));
+    AtomicReference<RegionDataset> current = new AtomicReference<>(dataset);
+    ReactiveIndonesiaService switching = new ReactiveIndonesiaService(current::get);
+
+    RecordingSubscriber<Province> subscriber = subscribe(switching.streamProvinces("32"));
+    current.set(renamed);
+    subscriber.subscription.request(1);
+
+    assertEquals("JAWA BARAT BARU", subscriber.items.get(0).getName());
+  }
+}
@@ -0,0 +1,320 @@
+package io.github.basithnurfaizin.indonesiaregion.service;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.City;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Province;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import io.github.basithnurfaizin.indonesiaregion.query.RegionQuery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Concurrency stress harness for {@link IndonesiaServiceImpl}.
+ *
+ * <p>Each worker issues a random mix of list, keyword, query and deep {@code includes} calls and
+ * checks every result against invariants of the dataset it was served from: child lists belong to
+ * their parent, keyword results contain the keyword, expanded regions are fresh copies and no
+ * cached model ever gains nested data.
+ *
+ * <p>Usage: {@code ServiceStressHarness [durationSeconds] [threads...]}. Defaults to 10 seconds at
+ * 1, 2, 4 and 8 threads, and reports throughput and scaling against the single-threaded run.
+ */
+public class ServiceStressHarness {
+
+  static final List<String> ALL = List.of("cities", "districts", "villages");
+
+  private static final String[] PROVINCE_CODES = {"31", "32", "35", "11", "73", "94"};
+  private static final String[] CITY_CODES = {"3273", "3171", "3578", "1101", "7371", "9471"};
+  private static final String[] DISTRICT_CODES = {"327301", "317101", "357801", "110101"};
+  private static final String[] KEYWORDS = {"jaya", "sari", "baru", "kota", "JAWA"};
+  private static final int MAX_VIOLATIONS = 20;
+
+  private final IndonesiaServiceImpl service;
+  private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+
+  ServiceStressHarness(IndonesiaServiceImpl service) {
+    this.service = service;
+  }
+
+  /** Outcome of one run: operations completed, wall-clock time and invariant violations. */
+  record Result(int threads, long operations, long nanos, List<String> violations) {
+
+    double throughput() {
+      return operations * 1e9 / nanos;
+    }
+  }
+
+  /** Runs {@code threads} workers until each has made {@code operationsPerThread} calls. */
+  Result run(int threads, long operationsPerThread, long seed) throws Exception {
+    return run(threads, operationsPerThread, Long.MAX_VALUE, seed);
+  }
+
+  /** Runs {@code threads} workers for the given duration. */
+  Result runFor(int threads, long durationNanos, long seed) throws Exception {
+    return run(threads, Long.MAX_VALUE, durationNanos, seed);
+  }
+
+  private Result run(int threads, long operationsPerThread, long durationNanos, long seed)
+      throws Exception {
+    violations.clear();
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicBoolean stop = new AtomicBoolean();
+    try {
+      List<Future<Long>> workers = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        SplittableRandom random = new SplittableRandom(seed + i);
+        workers.add(
+            pool.submit(
+                () -> {
+                  start.await();
+                  long operations = 0;
+                  while (operations < operationsPerThread && !stop.get()) {
+                    runOnce(random);
+                    operations++;
+                  }
+                  return operations;
+                }));
+      }
+      long begin = System.nanoTime();
+      start.countDown();
+      if (durationNanos != Long.MAX_VALUE) {
+        Thread.sleep(durationNanos / 1_000_000);
+        stop.set(true);
+      }
+      long operations = 0;
+      for (Future<Long> worker : workers) {
+        operations += worker.get();
+      }
+      return new Result(threads, operations, System.nanoTime() - begin, List.copyOf(violations));
+    } finally {
+      stop.set(true);
+      pool.shutdownNow();
+    }
+  }
+
+  private void runOnce(SplittableRandom random) {
+    RegionDataset data = service.getDataset();
+    switch (random.nextInt(8)) {
+      case 0 -> checkProvinces(pick(random, KEYWORDS));
+      case 1 -> checkCities(pick(random, PROVINCE_CODES), pick(random, KEYWORDS));
+      case 2 -> checkVillages(data, pick(random, DISTRICT_CODES));
+      case 3 -> checkQuery(pick(random, PROVINCE_CODES));
+      case 4 -> checkProvince(data, pick(random, PROVINCE_CODES), random.nextBoolean());
+      case 5, 6 -> checkCity(data, pick(random, CITY_CODES));
+      default -> checkDistrict(data, pick(random, DISTRICT_CODES));
+    }
+  }
+
+  private void checkProvinces(String keyword) {
+    String lower = keyword.toLowerCase(Locale.ROOT);
+    for (Province province : service.getProvinces(keyword)) {
+      check(
+          province.getName().toLowerCase(Locale.ROOT).contains(lower)
+              || province.getCode().contains(lower),
+          "province %s does not match '%s'",
+          province.getCode(),
+          keyword);
+    }
+  }
+
+  private void checkCities(String provinceCode, String keyword) {
+    String lower = keyword.toLowerCase(Locale.ROOT);
+    for (City city : service.getCities(provinceCode, keyword)) {
+      check(
+          provinceCode.equals(city.getProvinceCode()),
+          "city %s listed under %s",
+          city.getCode(),
+          provinceCode);
+      check(
+          city.getName().toLowerCase(Locale.ROOT).contains(lower) || city.getCode().contains(lower),
+          "city %s does not match '%s'",
+          city.getCode(),
+          keyword);
+    }
+  }
+
+  private void checkVillages(RegionDataset data, String districtCode) {
+    List<Village> villages = service.getVillages(districtCode, null);
+    check(
+        villages.size() == data.villages().children(districtCode).size(),
+        "district %s listed %d villages",
+        districtCode,
+        villages.size());
+    checkVillagesOf(districtCode, villages);
+  }
+
+  private void checkQuery(String provinceCode) {
+    List<City> cities =
+        service.query(RegionQuery.cities().parentCode(provinceCode).name("kota").build());
+    for (City city : cities) {
+      check(
+          provinceCode.equals(city.getProvinceCode()),
+          "query returned city %s outside %s",
+          city.getCode(),
+          provinceCode);
+    }
+  }
+
+  private void checkProvince(RegionDataset data, String code, boolean deep) {
+    Province province = service.getProvince(code, deep ? ALL : List.of("cities"));
+    if (province == null) {
+      check(data.provinces().get(code) == null, "province %s not found", code);
+      return;
+    }
+    check(province != data.provinces().get(code), "province %s is the cached model", code);
+    check(
+        province.getCities().size() == data.cities().children(code).size(),
+        "province %s expanded %d cities",
+        code,
+        province.getCities().size());
+    for (City city : province.getCities()) {
+      check(code.equals(city.getProvinceCode()), "city %s expanded under %s", city.getCode(), code);
+      if (deep) {
+        checkExpandedCity(data, city);
+      }
+    }
+  }
+
+  private void checkCity(RegionDataset data, String code) {
+    City city = service.getCity(code, List.of("districts", "villages"));
+    if (city != null) {
+      checkExpandedCity(data, city);
+    }
+  }
+
+  private void checkExpandedCity(RegionDataset data, City city) {
+    check(city != data.cities().get(city.getCode()), "city %s is the cached model", city.getCode());
+    check(
+        city.getDistricts().size() == data.districts().children(city.getCode()).size(),
+        "city %s expanded %d districts",
+        city.getCode(),
+        city.getDistricts().size());
+    for (District district : city.getDistricts()) {
+      check(
+          city.getCode().equals(district.getCityCode()),
+          "district %s expanded under %s",
+          district.getCode(),
+          city.getCode());
+      checkExpandedDistrict(data, district);
+    }
+  }
+
+  private void checkDistrict(RegionDataset data, String code) {
+    District district = service.getDistrict(code, List.of("villages"));
+    if (district != null) {
+      checkExpandedDistrict(data, district);
+    }
+  }
+
+  private void checkExpandedDistrict(RegionDataset data, District district) {
+    check(
+        district != data.districts().get(district.getCode()),
+        "district %s is the cached model",
+        district.getCode());
+    check(
+        district.getVillages().size() == data.villages().children(district.getCode()).size(),
+        "district %s expanded %d villages",
+        district.getCode(),
+        district.getVillages().size());
+    checkVillagesOf(district.getCode(), district.getVillages());
+  }
+
+  private void checkVillagesOf(String districtCode, List<Village> villages) {
+    for (Village village : villages) {
+      check(
+          districtCode.equals(village.getDistrictCode()),
+          "village %s listed under %s",
+          village.getCode(),
+          districtCode);
+    }
+  }
+
+  private void check(boolean condition, String message, Object... args) {
+    if (!condition && violations.size() < MAX_VIOLATIONS) {
+      violations.add(String.format(message, args));
+    }
+  }
+
+  private static String pick(SplittableRandom random, String[] values) {
+    return values[random.nextInt(values.length)];
+  }
+
+  /**
+   * Describes every cached province, city and district, so that a run can prove it left them
+   * unchanged. Any nested list attached to a cached model shows up in the description.
+   */
+  static List<String> describeCachedModels(RegionDataset data) {
+    List<String> description = new ArrayList<>();
+    data.provinces().all().forEach(province -> description.add(Objects.toString(province)));
+    data.cities().all().forEach(city -> description.add(Objects.toString(city)));
+    data.districts().all().forEach(district -> description.add(Objects.toString(district)));
+    return description;
+  }
+
+  public static void main(String[] args) throws Exception {
+    int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+    int[] threadCounts = {1, 2, 4, 8};
+    if (args.length > 1) {
+      threadCounts = new int[args.length - 1];
+      for (int i = 1; i < args.length; i++) {
+        threadCounts[i - 1] = Integer.parseInt(args[i]);
+      }
+    }
+
+    RegionDataset dataset = RegionDataset.shared();
+    Supplier<RegionDataset> snapshots = () -> dataset;
+    ServiceStressHarness harness = new ServiceStressHarness(new IndonesiaServiceImpl(snapshots));
+    List<String> before = describeCachedModels(dataset);
+
+    // warm up the JIT on the same mix
+    harness.runFor(threadCounts[threadCounts.length - 1], 3_000_000_000L, 0);
+
+    System.out.printf(
+        "%d cores, %d s per run%n%8s %12s %9s %11s %11s%n",
+        Runtime.getRuntime().availableProcessors(),
+        seconds,
+        "threads",
+        "ops/s",
+        "speedup",
+        "efficiency",
+        "violations");
+    double baseline = 0;
+    boolean failed = false;
+    for (int threads : threadCounts) {
+      Result result = harness.runFor(threads, seconds * 1_000_000_000L, threads);
+      if (baseline == 0) {
+        baseline = result.throughput() / threads;
+      }
+      double speedup = result.throughput() / baseline;
+      System.out.printf(
+          "%8d %12.0f %8.2fx %10.0f%% %11d%n",
+          threads,
+          result.throughput(),
+          speedup,
+          100 * speedup / threads,
+          result.violations().size());
+      result.violations().forEach(violation -> System.out.println("  " + violation));
+      failed |= !result.violations().isEmpty();
+    }
+    if (!before.equals(describeCachedModels(dataset))) {
+      System.out.println("Cached models were mutated during the run");
+      failed = true;
+    }
+    if (failed) {
+      System.exit(1);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.BoundingBox;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeohashIndexTest {
+
+  private static RegionDataset dataset;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+  }
+
+  private static List<Village> villagesWithPrefix(String prefix) {
+    return dataset.villages().all().stream()
+        .filter(village -> village.getLatitude() != 0 || village.getLongitude() != 0)
+        .filter(
+            village ->
+                Geohash.encode(village.getLatitude(), village.getLongitude(), prefix.length())
+                    .equals(prefix))
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  @DisplayName("Should encode and decode standard geohashes")
+  void shouldEncodeAndDecode() {
+    assertEquals("u4pruydqqvj", Geohash.encode(57.64911, 10.40744, 11));
+    assertEquals("qqgu", Geohash.encode(-6.2088, 106.8456, 4));
+
+    BoundingBox box = Geohash.decode("qqgu");
+    assertTrue(box.contains(-6.2088, 106.8456));
+    assertEquals(180.0 / (1 << 10), box.getMaxLatitude() - box.getMinLatitude(), 1e-12);
+    assertEquals(360.0 / (1 << 10), box.getMaxLongitude() - box.getMinLongitude(), 1e-12);
+    assertThrows(IllegalArgumentException.class, () -> Geohash.decode("qqga"));
+    assertThrows(IllegalArgumentException.class, () -> Geohash.encode(0, 0, 13));
+  }
+
+  @Test
+  @DisplayName("Should return the eight surrounding cells clockwise from north")
+  void shouldFindNeighbors() {
+    BoundingBox center = Geohash.decode("qqgu");
+    double height = center.getMaxLatitude() - center.getMinLatitude();
+    double width = center.getMaxLongitude() - center.getMinLongitude();
+    double latitude = (center.getMinLatitude() + center.getMaxLatitude()) / 2;
+    double longitude = (center.getMinLongitude() + center.getMaxLongitude()) / 2;
+    int[][] steps = {{1, 0}, {1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {-1, -1}, {0, -1}, {1, -1}};
+
+    List<String> neighbors = Geohash.neighbors("qqgu");
+
+    assertEquals(8, neighbors.size());
+    for (int i = 0; i < steps.length; i++) {
+      String expected =
+          Geohash.encode(latitude + steps[i][0] * height, longitude + steps[i][1] * width, 4);
+      assertEquals(expected, neighbors.get(i));
+    }
+    assertEquals(5, Geohash.neighbors("u").size());
+    assertTrue(Geohash.neighbors("8").contains("x"));
+  }
+
+  @Test
+  @DisplayName("Should find every village in a geohash prefix")
+  void shouldFindByPrefix() {
+    GeohashIndex<Village> index = GeohashIndex.villages(dataset);
+
+    List<Village> jakarta = index.prefix("qqgu");
+
+    assertFalse(jakarta.isEmpty());
+    assertEquals(villagesWithPrefix("qqgu"), jakarta);
+    assertEquals(jakarta.size(), index.count("qqgu"));
+    assertEquals(villagesWithPrefix("qqguf"), index.prefix("QQGUF"));
+    assertTrue(index.prefix("zzzz").isEmpty());
+    assertSame(index, GeohashIndex.villages(dataset));
+  }
+
+  @Test
+  @DisplayName("Should find villages in a cell and its neighbours once each")
+  void shouldFindWithNeighbors() {
+    GeohashIndex<Village> index = GeohashIndex.villages(dataset);
+
+    List<Village> around = index.withNeighbors("qqguf");
+
+    Set<Village> expected = new LinkedHashSet<>(villagesWithPrefix("qqguf"));
+    for (String neighbor : Geohash.neighbors("qqguf")) {
+      expected.addAll(villagesWithPrefix(neighbor));
+    }
+    List<Village> sorted = new ArrayList<>(expected);
+    sorted.sort((a, b) -> a.getCode().compareTo(b.getCode()));
+    assertEquals(sorted, around);
+    assertEquals(index.prefix("qqguf"), index.cells(List.of("qqguf", "qqguf")));
+  }
+}
@@ -0,0 +1,100 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NeighborGraphTest {
+
+  private static RegionDataset dataset;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+  }
+
+  @Test
+  @DisplayName("Should find the exact k nearest regions on the grid")
+  void shouldMatchBruteForce() {
+    RegionCoordinates<Village> villages = RegionCoordinates.villages(dataset);
+    CentroidGrid grid = new CentroidGrid(villages);
+
+    int[][] nearest = grid.nearest(6);
+
+    for (int i = 0; i < villages.size(); i += 997) {
+      if (Double.isNaN(villages.latitude(i))) {
+        assertEquals(0, nearest[i].length);
+        continue;
+      }
+      List<Neighbor<Village>> expected =
+          villages.nearest(villages.latitude(i), villages.longitude(i), 7);
+      double[] expectedKm =
+          expected.stream().mapToDouble(Neighbor::getDistanceKm).skip(1).toArray();
+      int self = i;
+      double[] actualKm =
+          Arrays.stream(nearest[i])
+              .mapToDouble(
+                  j -> villages.distanceKm(j, villages.latitude(self), villages.longitude(self)))
+              .toArray();
+      assertArrayEquals(expectedKm, actualKm, 1e-9, "village at position " + i);
+    }
+
+    double[] point = {-6.9025, 107.6187};
+    int[] byGrid = grid.nearest(point[0], point[1], 5);
+    List<Neighbor<Village>> byScan = villages.nearest(point[0], point[1], 5);
+    for (int i = 0; i < 5; i++) {
+      assertEquals(byScan.get(i).getRegion(), villages.region(byGrid[i]));
+    }
+  }
+
+  @Test
+  @DisplayName("Should link regions both ways, nearest first")
+  void shouldBeSymmetric() {
+    NeighborGraph<District> graph = NeighborGraph.districts(dataset);
+
+    for (District district : dataset.districts().all()) {
+      List<Neighbor<District>> neighbors = graph.neighborsWithDistance(district.getCode());
+      if (district.getLatitude() == 0 && district.getLongitude() == 0) {
+        assertTrue(neighbors.isEmpty());
+        continue;
+      }
+      assertTrue(neighbors.size() >= NeighborGraph.DEFAULT_K, district.getCode());
+      for (int i = 0; i < neighbors.size(); i++) {
+        Neighbor<District> neighbor = neighbors.get(i);
+        assertTrue(graph.neighbors(neighbor.getRegion().getCode()).contains(district));
+        if (i > 0) {
+          assertTrue(neighbors.get(i - 1).getDistanceKm() <= neighbor.getDistanceKm());
+        }
+      }
+    }
+    assertSame(graph, NeighborGraph.districts(dataset));
+  }
+
+  @Test
+  @DisplayName("Should expand breadth-first within a number of hops")
+  void shouldExpandWithinHops() {
+    NeighborGraph<District> graph = NeighborGraph.districts(dataset);
+
+    List<District> oneHop = graph.withinHops("327301", 1);
+    List<District> twoHops = graph.withinHops("327301", 2);
+
+    assertEquals(graph.neighbors("327301"), oneHop);
+    assertEquals(oneHop, twoHops.subList(0, oneHop.size()));
+    assertTrue(twoHops.size() > oneHop.size());
+    Set<District> unique = new HashSet<>(twoHops);
+    assertEquals(twoHops.size(), unique.size());
+    assertFalse(unique.contains(dataset.districts().get("327301")));
+    assertTrue(oneHop.stream().allMatch(district -> district.getCode().startsWith("32")));
+    assertTrue(graph.withinHops("327301", 0).isEmpty());
+    assertTrue(graph.withinHops("999999", 3).isEmpty());
+  }
+}
@@ -0,0 +1,107 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.District;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RegionCoordinatesTest {
+
+  // Gedung Sate, Bandung
+  private static final double LATITUDE = -6.9025;
+  private static final double LONGITUDE = 107.6187;
+
+  private static RegionDataset dataset;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+  }
+
+  /** Distances from the point to every village with coordinates, by brute force over the models. */
+  private static List<Village> villagesByDistance() {
+    return dataset.villages().all().stream()
+        .filter(village -> village.getLatitude() != 0 || village.getLongitude() != 0)
+        .sorted(
+            Comparator.comparingDouble(
+                (Village village) ->
+                    DistanceKernels.haversineKm(
+                        village.getLatitude(), village.getLongitude(), LATITUDE, LONGITUDE)))
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  @DisplayName("Should find the same nearest villages as a scan over the models")
+  void shouldFindNearest() {
+    List<Neighbor<Village>> nearest =
+        RegionCoordinates.villages(dataset).nearest(LATITUDE, LONGITUDE, 10);
+
+    assertEquals(
+        villagesByDistance().subList(0, 10),
+        nearest.stream().map(Neighbor::getRegion).collect(Collectors.toList()));
+    for (int i = 1; i < nearest.size(); i++) {
+      assertTrue(nearest.get(i - 1).getDistanceKm() <= nearest.get(i).getDistanceKm());
+    }
+    assertEquals("32", nearest.get(0).getRegion().getCode().substring(0, 2));
+  }
+
+  @Test
+  @DisplayName("Should find every village within a radius")
+  void shouldFindWithinRadius() {
+    List<Neighbor<Village>> within =
+        RegionCoordinates.villages(dataset).within(LATITUDE, LONGITUDE, 3);
+
+    List<Village> expected =
+        villagesByDistance().stream()
+            .filter(
+                village ->
+                    DistanceKernels.haversineKm(
+                            village.getLatitude(), village.getLongitude(), LATITUDE, LONGITUDE)
+                        <= 3)
+            .collect(Collectors.toList());
+    assertFalse(expected.isEmpty());
+    assertEquals(expected, within.stream().map(Neighbor::getRegion).collect(Collectors.toList()));
+    assertTrue(within.stream().allMatch(neighbor -> neighbor.getDistanceKm() <= 3 + 1e-9));
+  }
+
+  @Test
+  @DisplayName("Should answer a batch like the single-point scans")
+  void shouldMatchBatch() {
+    RegionCoordinates<District> districts = RegionCoordinates.districts(dataset);
+    double[] latitudes = {LATITUDE, -6.2088, -7.2575, 3.5952};
+    double[] longitudes = {LONGITUDE, 106.8456, 112.7521, 98.6722};
+
+    int[][] batch = districts.nearestIndexes(latitudes, longitudes, 5);
+
+    for (int q = 0; q < latitudes.length; q++) {
+      List<District> single =
+          districts.nearest(latitudes[q], longitudes[q], 5).stream()
+              .map(Neighbor::getRegion)
+              .collect(Collectors.toList());
+      assertEquals(5, batch[q].length);
+      for (int i = 0; i < 5; i++) {
+        assertEquals(single.get(i), districts.region(batch[q][i]));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should skip regions without coordinates and cap k at the level size")
+  void shouldSkipMissingCoordinates() {
+    RegionCoordinates<Village> villages = RegionCoordinates.villages(dataset);
+    List<Neighbor<Village>> all = villages.nearest(LATITUDE, LONGITUDE, Integer.MAX_VALUE);
+
+    assertEquals(villagesByDistance().size(), all.size());
+    assertTrue(all.size() < villages.size());
+    assertTrue(villages.nearest(LATITUDE, LONGITUDE, 0).isEmpty());
+    assertSame(villages, RegionCoordinates.villages(dataset));
+    assertThrows(IllegalArgumentException.class, () -> villages.within(0, 0, -1));
+  }
+}
@@ -0,0 +1,106 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.BoundingBox;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TilePyramidTest {
+
+  private static RegionDataset dataset;
+  private static TilePyramid<Village> pyramid;
+  private static List<Village> located;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+    pyramid = TilePyramid.villages(dataset);
+    located =
+        dataset.villages().all().stream()
+            .filter(village -> village.getLatitude() != 0 || village.getLongitude() != 0)
+            .collect(Collectors.toList());
+  }
+
+  private static List<Village> villagesInTile(int zoom, int x, int y) {
+    return located.stream()
+        .filter(village -> TilePyramid.tileX(village.getLongitude(), zoom) == x)
+        .filter(village -> TilePyramid.tileY(village.getLatitude(), zoom) == y)
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  @DisplayName("Should count every located village once at each zoom")
+  void shouldCountEveryVillage() {
+    assertEquals(located.size(), pyramid.count(0, 0, 0));
+    assertEquals(1, pyramid.tileCount(0));
+    for (int zoom = 1; zoom <= pyramid.getMaxZoom(); zoom++) {
+      List<Tile<Village>> tiles = pyramid.tiles(zoom, new BoundingBox(-85, -180, 85, 180));
+      assertEquals(pyramid.tileCount(zoom), tiles.size());
+      assertEquals(located.size(), tiles.stream().mapToInt(Tile::getCount).sum());
+      assertTrue(pyramid.tileCount(zoom) >= pyramid.tileCount(zoom - 1));
+    }
+  }
+
+  @Test
+  @DisplayName("Should look a tile up by zoom, column and row")
+  void shouldLookUpTile() {
+    int zoom = 12;
+    int x = TilePyramid.tileX(106.8456, zoom);
+    int y = TilePyramid.tileY(-6.2088, zoom);
+
+    Tile<Village> tile = pyramid.tile(zoom, x, y);
+    List<Village> members = villagesInTile(zoom, x, y);
+
+    assertEquals(members.size(), tile.getCount());
+    assertTrue(members.contains(tile.getRepresentative()));
+    assertEquals(
+        members.stream().mapToDouble(Village::getLatitude).average().orElseThrow(),
+        tile.getLatitude(),
+        1e-9);
+    BoundingBox bounds = TilePyramid.tileBounds(zoom, x, y);
+    assertTrue(bounds.contains(tile.getLatitude(), tile.getLongitude()));
+    assertTrue(
+        bounds.contains(
+            tile.getRepresentative().getLatitude(), tile.getRepresentative().getLongitude()));
+  }
+
+  @Test
+  @DisplayName("Should return nothing for empty or out-of-range tiles")
+  void shouldHandleEmptyTiles() {
+    assertNull(pyramid.tile(3, 0, 0));
+    assertEquals(0, pyramid.count(3, 0, 0));
+    assertEquals(0, pyramid.count(2, 4, 0));
+    assertEquals(0, pyramid.count(pyramid.getMaxZoom() + 1, 0, 0));
+    assertThrows(
+        IllegalArgumentException.class, () -> pyramid.tiles(-1, new BoundingBox(0, 0, 1, 1)));
+    assertSame(pyramid, TilePyramid.villages(dataset));
+  }
+
+  @Test
+  @DisplayName("Should return the tiles inside a viewport")
+  void shouldReturnViewportTiles() {
+    BoundingBox bandung = new BoundingBox(-7.0, 107.5, -6.8, 107.7);
+    int zoom = 11;
+
+    List<Tile<Village>> tiles = pyramid.tiles(zoom, bandung);
+
+    int minX = TilePyramid.tileX(107.5, zoom);
+    int maxX = TilePyramid.tileX(107.7, zoom);
+    int minY = TilePyramid.tileY(-6.8, zoom);
+    int maxY = TilePyramid.tileY(-7.0, zoom);
+    int expected = 0;
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        expected += villagesInTile(zoom, x, y).isEmpty() ? 0 : 1;
+      }
+    }
+    assertEquals(expected, tiles.size());
+    assertTrue(tiles.stream().allMatch(tile -> tile.getZoom() == zoom && tile.getCount() > 0));
+  }
+}
@@ -0,0 +1,105 @@
+package io.github.basithnurfaizin.indonesiaregion.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.basithnurfaizin.indonesiaregion.dataset.RegionDataset;
+import io.github.basithnurfaizin.indonesiaregion.model.RegionLevel;
+import io.github.basithnurfaizin.indonesiaregion.model.Village;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TraceMatcherTest {
+
+  // Bandung to Jakarta, one point about every 50 m
+  private static final double[] FROM = {-6.9175, 107.6191};
+  private static final double[] TO = {-6.2088, 106.8456};
+  private static final int POINTS = 2_400;
+
+  private static RegionDataset dataset;
+
+  @BeforeAll
+  static void loadDataset() {
+    dataset = RegionDataset.shared();
+  }
+
+  private static double latitude(int point) {
+    return FROM[0] + (TO[0] - FROM[0]) * point / (POINTS - 1);
+  }
+
+  private static double longitude(int point) {
+    return FROM[1] + (TO[1] - FROM[1]) * point / (POINTS - 1);
+  }
+
+  @Test
+  @DisplayName("Should match every point to its nearest village, mostly without a global search")
+  void shouldMatchNearestVillage() {
+    TraceMatcher matcher = new TraceMatcher(dataset);
+    RegionCoordinates<Village> villages = RegionCoordinates.villages(dataset);
+
+    for (int point = 0; point < POINTS; point++) {
+      matcher.update(latitude(point), longitude(point), point * 1_000L);
+      Village nearest = villages.nearest(latitude(point), longitude(point), 1).get(0).getRegion();
+      assertEquals(nearest, matcher.getCurrentVillage(), "point " + point);
+    }
+
+    assertEquals(POINTS, matcher.getLocalMatches() + matcher.getGlobalSearches());
+    assertTrue(
+        matcher.getGlobalSearches() < POINTS / 10,
+        matcher.getGlobalSearches() + " global searches");
+  }
+
+  @Test
+  @DisplayName("Should report the regions entered, province first")
+  void shouldReportTransitions() {
+    TraceMatcher matcher = new TraceMatcher(dataset);
+
+    List<RegionTransition> first = matcher.update(latitude(0), longitude(0), 0);
+
+    assertEquals(
+        List.of(RegionLevel.PROVINCE, RegionLevel.CITY, RegionLevel.DISTRICT, RegionLevel.VILLAGE),
+        first.stream().map(RegionTransition::getLevel).toList());
+    assertTrue(first.stream().allMatch(transition -> transition.getFromCode() == null));
+    assertEquals("32", first.get(0).getToCode());
+
+    boolean enteredJakarta = false;
+    for (int point = 1; point < POINTS; point++) {
+      Village before = matcher.getCurrentVillage();
+      List<RegionTransition> transitions =
+          matcher.update(latitude(point), longitude(point), point * 1_000L);
+      if (transitions.isEmpty()) {
+        assertSame(before, matcher.getCurrentVillage());
+        continue;
+      }
+      RegionTransition village = transitions.get(transitions.size() - 1);
+      assertEquals(RegionLevel.VILLAGE, village.getLevel());
+      assertEquals(before.getCode(), village.getFromCode());
+      assertEquals(matcher.getCurrentVillage().getCode(), village.getToCode());
+      for (RegionTransition transition : transitions) {
+        assertEquals(point * 1_000L, transition.getTimestamp());
+        assertNotEquals(transition.getFromCode(), transition.getToCode());
+        if (transition.getLevel() == RegionLevel.PROVINCE) {
+          enteredJakarta |= transition.getToCode().equals("31");
+        }
+      }
+    }
+    assertTrue(enteredJakarta);
+  }
+
+  @Test
+  @DisplayName("Should hold the current village against jitter within the hysteresis")
+  void shouldDampJitter() {
+    TraceMatcher matcher = new TraceMatcher(dataset, 5);
+    matcher.update(latitude(0), longitude(0), 0);
+    Village start = matcher.getCurrentVillage();
+
+    for (int point = 1; point < 40; point++) {
+      double jitter = (point % 2 == 0 ? 1 : -1) * 0.003;
+      assertTrue(matcher.update(latitude(0) + jitter, longitude(0) - jitter, point).isEmpty());
+    }
+
+    assertSame(start, matcher.getCurrentVillage());
+    assertThrows(IllegalArgumentException.class, () -> new TraceMatcher(dataset, -1));
+  }
+}